@@ -174,6 +174,16 @@ public void generateReport(CommandSource sender) {
         TimingsExport.reportTimings(sender);
     }
 
+    /**
+     * Writes a timings report to the local export directory instead of
+     * uploading it.
+     *
+     * @param sender Who to report to
+     */
+    public static void exportReport(CommandSource sender) {
+        TimingsExport.exportTimings(sender, false);
+    }
+
     public static long getCost() {
         return TimingsExport.getCost();
     }
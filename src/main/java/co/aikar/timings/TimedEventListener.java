@@ -27,7 +27,6 @@
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.plugin.PluginContainer;
-import org.spongepowered.common.SpongeImpl;
 
 import java.lang.reflect.Method;
 
@@ -59,7 +58,7 @@ public TimedEventListener(EventListener<T> listener, PluginContainer plugin, Met
 
     @Override
     public void handle(T event) throws Exception {
-        if (!Timings.isTimingsEnabled() || !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+        if (!Timings.isTimingsEnabled() || !TimingsManager.isServerThread()) {
             this.listener.handle(event);
             return;
         }
@@ -0,0 +1,80 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package co.aikar.timings;
+
+import java.util.Arrays;
+
+/**
+ * The timing data of the children of a handler, indexed by the id of the
+ * child handler. Handler ids are allocated sequentially, so a plain array
+ * avoids boxing and hashing the id on every stop of a child timing.
+ */
+final class TimingChildren {
+
+    private static final TimingData[] EMPTY = new TimingData[0];
+
+    private TimingData[] byId = EMPTY;
+    private TimingData[] values = EMPTY;
+    private int size;
+
+    TimingData get(int id) {
+        if (id < this.byId.length) {
+            final TimingData data = this.byId[id];
+            if (data != null) {
+                return data;
+            }
+        } else {
+            this.byId = Arrays.copyOf(this.byId, Math.max(id + 1, this.byId.length * 2));
+        }
+        final TimingData data = new TimingData(id);
+        this.byId[id] = data;
+        if (this.size == this.values.length) {
+            this.values = Arrays.copyOf(this.values, Math.max(8, this.size * 2));
+        }
+        this.values[this.size++] = data;
+        return data;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    TimingData[] values() {
+        return Arrays.copyOf(this.values, this.size);
+    }
+
+    void processTick(boolean violated) {
+        for (int i = 0; i < this.size; i++) {
+            this.values[i].processTick(violated);
+        }
+    }
+
+    void clear() {
+        Arrays.fill(this.byId, null);
+        Arrays.fill(this.values, 0, this.size, null);
+        this.size = 0;
+    }
+
+}
@@ -24,9 +24,6 @@
  */
 package co.aikar.timings;
 
-import co.aikar.util.LoadingIntMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import org.spongepowered.api.Sponge;
 import org.spongepowered.common.SpongeImpl;
 
 class TimingHandler implements Timing {
@@ -37,7 +34,7 @@ class TimingHandler implements Timing {
     final String name;
     private final boolean verbose;
 
-    final Int2ObjectMap<TimingData> children = new LoadingIntMap<>(TimingData.LOADER);
+    final TimingChildren children = new TimingChildren();
 
     final TimingData record;
     private final TimingHandler groupHandler;
@@ -77,36 +74,34 @@ void processTick(boolean violated) {
         }
 
         this.record.processTick(violated);
-        for (TimingData handler : this.children.values()) {
-            handler.processTick(violated);
-        }
+        this.children.processTick(violated);
     }
 
     @Override
     public void startTimingIfSync() {
-        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
+        if (!this.enabled || TimingsManager.isClientSide()) {
             return;
         }
 
-        if (Sponge.isServerAvailable() && SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+        if (TimingsManager.isServerThread()) {
             startTiming();
         }
     }
 
     @Override
     public void stopTimingIfSync() {
-        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
+        if (!this.enabled || TimingsManager.isClientSide()) {
             return;
         }
 
-        if (Sponge.isServerAvailable() && SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+        if (TimingsManager.isServerThread()) {
             stopTiming();
         }
     }
 
     @Override
     public TimingHandler startTiming() {
-        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
+        if (!this.enabled || TimingsManager.isClientSide()) {
             return this;
         }
 
@@ -120,12 +115,12 @@ public TimingHandler startTiming() {
 
     @Override
     public void stopTiming() {
-        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
+        if (!this.enabled || TimingsManager.isClientSide()) {
             return;
         }
 
         if (--this.timingDepth == 0 && this.start != 0) {
-            if (!SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            if (!TimingsManager.isServerThread()) {
                 SpongeImpl.getLogger().fatal("stopTiming called async for " + this.name);
                 new Throwable().printStackTrace();
                 this.start = 0;
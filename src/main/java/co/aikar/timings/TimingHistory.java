@@ -34,6 +34,7 @@
 import com.google.common.collect.Sets;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import net.minecraft.block.Block;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.tileentity.TileEntity;
@@ -42,11 +43,17 @@
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.SpongeEntityType;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.world.ChunkWorkScheduler;
+import org.spongepowered.common.world.WorldManager;
 
+import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 public class TimingHistory {
@@ -57,6 +64,7 @@ public class TimingHistory {
     public static long entityTicks;
     public static long tileEntityTicks;
     public static long activatedEntityTicks;
+    public static long skippedTileEntityTicks;
     static int worldIdPool = 1;
     static Map<String, Integer> worldMap = LoadingMap.newHashMap((input) -> worldIdPool++);
     final long endTime;
@@ -70,6 +78,7 @@ public class TimingHistory {
     final Set<BlockType> blockTypeSet = Sets.newHashSet();
     final Set<EntityType> entityTypeSet = Sets.newHashSet();
     final JsonObject worlds;
+    final JsonObject chunkWork;
 
     TimingHistory() {
         this.endTime = System.currentTimeMillis() / 1000;
@@ -130,6 +139,17 @@ public class TimingHistory {
             }));
         });
 
+        // Backlog of the chunk work scheduler of each world
+        this.chunkWork = JSONUtil.mapArrayToObject(WorldManager.getWorlds(), (world) -> {
+            final ChunkWorkScheduler scheduler = ((IMixinWorldServer) world).getChunkWorkScheduler();
+            final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) world.getChunkProvider();
+            return JSONUtil.singleObjectPair(String.valueOf(worldMap.get(world.getWorldInfo().getWorldName())), JSONUtil.arrayOf(
+                    chunkProvider.getPendingChunkUnloads(),
+                    scheduler.getGCBacklog(),
+                    scheduler.getSaveBacklog(),
+                    chunkProvider.getPendingAsyncChunkLoads(),
+                    TimeUnit.NANOSECONDS.toMicros(scheduler.getBudget())));
+        });
     }
 
     public static void resetTicks(boolean fullReset) {
@@ -142,6 +162,7 @@ public static void resetTicks(boolean fullReset) {
         tileEntityTicks = 0;
         entityTicks = 0;
         activatedEntityTicks = 0;
+        skippedTileEntityTicks = 0;
     }
 
     JsonObject export() {
@@ -151,11 +172,44 @@ JsonObject export() {
                 .add("tk", this.totalTicks)
                 .add("tm", this.totalTime)
                 .add("w", this.worlds)
+                .add("cw", this.chunkWork)
                 .add("h", JSONUtil.mapArray(this.entries, (entry) -> entry.data.count == 0 ? null : entry.export()))
                 .add("mp", JSONUtil.mapArray(this.minuteReports, MinuteReport::export))
                 .build();
     }
 
+    /**
+     * Writes the same data as {@link #export()} to the writer, without
+     * building the handler and minute report data in memory first.
+     *
+     * @param writer The writer
+     * @throws IOException If writing fails
+     */
+    void export(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("s").value(this.startTime);
+        writer.name("e").value(this.endTime);
+        writer.name("tk").value(this.totalTicks);
+        writer.name("tm").value(this.totalTime);
+        writer.name("w");
+        JSONUtil.write(this.worlds, writer);
+        writer.name("cw");
+        JSONUtil.write(this.chunkWork, writer);
+        writer.name("h").beginArray();
+        for (TimingHistoryEntry entry : this.entries) {
+            if (entry.data.count != 0) {
+                JSONUtil.write(entry.export(), writer);
+            }
+        }
+        writer.endArray();
+        writer.name("mp").beginArray();
+        for (MinuteReport report : this.minuteReports) {
+            JSONUtil.write(report.export(), writer);
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
     static class MinuteReport {
 
         final long time = System.currentTimeMillis() / 1000;
@@ -178,7 +232,8 @@ public JsonArray export() {
                             this.ticksRecord.player,
                             this.ticksRecord.entity,
                             this.ticksRecord.activatedEntity,
-                            this.ticksRecord.tileEntity),
+                            this.ticksRecord.tileEntity,
+                            this.ticksRecord.skippedTileEntity),
                     this.usedMemory,
                     this.freeMemory,
                     this.loadAvg);
@@ -192,6 +247,7 @@ static class TicksRecord {
         final long entity;
         final long tileEntity;
         final long activatedEntity;
+        final long skippedTileEntity;
 
         TicksRecord() {
             this.timed = timedTicks - (TimingsManager.MINUTE_REPORTS.size() * 1200);
@@ -199,6 +255,7 @@ static class TicksRecord {
             this.entity = entityTicks;
             this.tileEntity = tileEntityTicks;
             this.activatedEntity = activatedEntityTicks;
+            this.skippedTileEntity = skippedTileEntityTicks;
         }
 
     }
@@ -34,10 +34,9 @@ class TimingHistoryEntry {
 
     TimingHistoryEntry(TimingHandler handler) {
         this.data = handler.record.clone();
-        this.children = new TimingData[handler.children.size()];
-        int i = 0;
-        for (TimingData child : handler.children.values()) {
-            this.children[i++] = child.clone();
+        this.children = handler.children.values();
+        for (int i = 0; i < this.children.length; i++) {
+            this.children[i] = this.children[i].clone();
         }
     }
 
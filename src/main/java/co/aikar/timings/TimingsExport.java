@@ -47,6 +47,11 @@
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.SpongeEntityType;
+import org.spongepowered.common.event.tracking.CrossWorldPhase;
+import org.spongepowered.common.network.OutboundPacketQueue;
+import org.spongepowered.common.network.PacketUtil;
+import org.spongepowered.common.scheduler.SpongeScheduler;
+import org.spongepowered.common.service.permission.base.SpongeSubject;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -61,6 +66,8 @@
 import java.util.Set;
 import java.util.zip.GZIPOutputStream;
 
+import javax.annotation.Nullable;
+
 class TimingsExport extends Thread {
 
     private static final Joiner AUTHOR_LIST_JOINER = Joiner.on(", ");
@@ -88,6 +95,33 @@ private static String getServerName() {
      * @param sender Who to report to
      */
     static void reportTimings(CommandSource sender) {
+        final TimingHistory[] history = snapshotHistory();
+        new TimingsExport(sender, createReport(history).build(), history).start();
+    }
+
+    /**
+     * Builds a report of the timings and writes it to a file in the local
+     * timings export directory.
+     *
+     * @param sender Who to report to, or null for automatic reports
+     * @param automatic Whether the report is a rolling automatic report
+     */
+    static void exportTimings(@Nullable CommandSource sender, boolean automatic) {
+        final TimingHistory[] history = snapshotHistory();
+        new TimingsLocalExport(sender, createReport(history).build(), history, automatic).start();
+    }
+
+    private static TimingHistory[] snapshotHistory() {
+        final TimingHistory[] history = new TimingHistory[HISTORY.size() + 1];
+        int i = 0;
+        for (TimingHistory timingHistory : HISTORY) {
+            history[i++] = timingHistory;
+        }
+        history[i] = new TimingHistory(); // Current snapshot
+        return history;
+    }
+
+    private static JsonObjectBuilder createReport(TimingHistory[] history) {
         Platform platform = SpongeImpl.getGame().getPlatform();
         JsonObjectBuilder builder = JSONUtil.objectBuilder()
                 // Get some basic system details about the server
@@ -122,19 +156,11 @@ static void reportTimings(CommandSource sender) {
         Set<BlockType> blockTypeSet = Sets.newHashSet();
         Set<EntityType> entityTypeSet = Sets.newHashSet();
 
-        int size = HISTORY.size();
-        TimingHistory[] history = new TimingHistory[size + 1];
-        int i = 0;
-        for (TimingHistory timingHistory : HISTORY) {
+        for (TimingHistory timingHistory : history) {
             blockTypeSet.addAll(timingHistory.blockTypeSet);
             entityTypeSet.addAll(timingHistory.entityTypeSet);
-            history[i++] = timingHistory;
         }
 
-        history[i] = new TimingHistory(); // Current snapshot
-        blockTypeSet.addAll(history[i].blockTypeSet);
-        entityTypeSet.addAll(history[i].entityTypeSet);
-
         JsonObjectBuilder handlersBuilder = JSONUtil.objectBuilder();
         for (TimingIdentifier.TimingGroup group : TimingIdentifier.GROUP_MAP.values()) {
             for (TimingHandler id : group.handlers) {
@@ -173,12 +199,41 @@ static void reportTimings(CommandSource sender) {
             ).build();
         }));
 
+        // Asynchronous scheduler load per plugin
+
+        final SpongeScheduler scheduler = SpongeScheduler.getInstance();
+        builder.add("scheduler", JSONUtil.objectBuilder()
+                .add("parallelism", scheduler.getAsyncParallelism())
+                .add("perplugin", scheduler.getAsyncThreadsPerPlugin())
+                .add("workers", scheduler.getAsyncWorkers())
+                .add("plugins", JSONUtil.mapArrayToObject(scheduler.getAsyncTaskMetrics(), (metrics) -> {
+                    return JSONUtil.singleObjectPair(metrics.getPlugin().getId(), JSONUtil.arrayOf(
+                            metrics.getQueued(),
+                            metrics.getRunning(),
+                            metrics.getCompleted(),
+                            metrics.getTotalWaitNanos(),
+                            metrics.getMaxWaitNanos(),
+                            metrics.getTotalRunNanos()));
+                })));
+
+        builder.add("permissioncache", JSONUtil.arrayOf(SpongeSubject.getPermissionCacheHits(), SpongeSubject.getPermissionCacheMisses()));
+
+        // Inbound packets and what processing them required
+        builder.add("packets", JSONUtil.mapArrayToObject(PacketUtil.getPacketCounters(), (counter) -> {
+            return JSONUtil.singleObjectPair(counter.getPacketClass().getName(), JSONUtil.arrayOf(
+                    counter.getProcessed(),
+                    counter.getContexts(),
+                    counter.getCursorSnapshots()));
+        }));
+        builder.add("outbound", JSONUtil.arrayOf(OutboundPacketQueue.getQueuedPackets(), OutboundPacketQueue.getSentPackets(),
+                OutboundPacketQueue.getFlushes()));
+        builder.add("crossworld", JSONUtil.arrayOf(CrossWorldPhase.getEntered(), CrossWorldPhase.getJoins()));
+
         // Information on the users Config
 
         builder.add("config", JSONUtil.objectBuilder()
                 .add("sponge", serializeConfigNode(SpongeImpl.getGlobalConfig().getRootNode())));
-
-        new TimingsExport(sender, builder.build(), history).start();
+        return builder;
     }
 
     static long getCost() {
@@ -0,0 +1,158 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package co.aikar.timings;
+
+import co.aikar.util.JSONUtil;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.source.ConsoleSource;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.TimingsCategory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes a timings report to the local export directory rather than
+ * uploading it. The report has the same format as the uploaded one, but the
+ * history is streamed to a gzipped file one frame at a time. A viewer for
+ * the reports is copied next to them.
+ */
+class TimingsLocalExport extends Thread {
+
+    private static final String VIEWER = "timings-viewer.html";
+    private static final String REPORT_PREFIX = "timings-";
+    private static final String LOW_TPS_REPORT_PREFIX = "timings-lowtps-";
+    private static final String REPORT_SUFFIX = ".json.gz";
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+
+    @Nullable private final CommandSource sender;
+    private final JsonObject report;
+    private final TimingHistory[] history;
+    private final boolean automatic;
+
+    TimingsLocalExport(@Nullable CommandSource sender, JsonObject report, TimingHistory[] history, boolean automatic) {
+        super("Timings export thread");
+        this.sender = sender;
+        this.report = report;
+        this.history = history;
+        this.automatic = automatic;
+    }
+
+    @Override
+    public void run() {
+        final TimingsCategory config = SpongeImpl.getGlobalConfig().getConfig().getTimings();
+        final Path directory = SpongeImpl.getGameDir().resolve(config.getExportDirectory());
+        final String prefix = this.automatic ? LOW_TPS_REPORT_PREFIX : REPORT_PREFIX;
+        final Path file = directory.resolve(prefix + LocalDateTime.now().format(FILE_DATE_FORMAT) + REPORT_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            this.copyViewer(directory);
+            this.write(file);
+            if (this.automatic) {
+                deleteOldReports(directory, config.getLowTpsReportCount());
+            }
+        } catch (IOException e) {
+            this.sendMessage(Text.of(TextColors.RED, "Error exporting timings, check your logs for more information"));
+            SpongeImpl.getLogger().error("Could not export timings to {}", file, e);
+            return;
+        }
+        this.sendMessage(Text.of(TextColors.GREEN, "Timings Report exported to ", file.toString(),
+                ", open ", directory.resolve(VIEWER).toString(), " to view it"));
+        if (!(this.sender instanceof ConsoleSource)) {
+            SpongeImpl.getLogger().info("Timings Report exported to {}", file);
+        }
+    }
+
+    private void write(Path file) throws IOException {
+        try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(new GZIPOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file))), StandardCharsets.UTF_8))) {
+            writer.setSerializeNulls(true);
+            writer.beginObject();
+            for (Map.Entry<String, JsonElement> entry : this.report.entrySet()) {
+                writer.name(entry.getKey());
+                JSONUtil.write(entry.getValue(), writer);
+            }
+            writer.name("data").beginArray();
+            for (TimingHistory timingHistory : this.history) {
+                timingHistory.export(writer);
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+    }
+
+    private void copyViewer(Path directory) throws IOException {
+        try (InputStream in = TimingsLocalExport.class.getResourceAsStream(VIEWER)) {
+            if (in == null) {
+                SpongeImpl.getLogger().warn("The timings viewer is missing from the Sponge jar");
+                return;
+            }
+            Files.copy(in, directory.resolve(VIEWER), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteOldReports(Path directory, int keep) throws IOException {
+        final List<Path> reports = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, LOW_TPS_REPORT_PREFIX + "*" + REPORT_SUFFIX)) {
+            stream.forEach(reports::add);
+        }
+        if (reports.size() <= keep) {
+            return;
+        }
+        // The file names sort by date
+        Collections.sort(reports);
+        for (int i = 0; i < reports.size() - Math.max(keep, 0); i++) {
+            Files.deleteIfExists(reports.get(i));
+        }
+    }
+
+    private void sendMessage(Text message) {
+        if (this.sender != null) {
+            this.sender.sendMessage(message);
+        }
+    }
+
+}
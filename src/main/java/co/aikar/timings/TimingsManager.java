@@ -26,9 +26,11 @@
 
 import co.aikar.util.LoadingMap;
 import com.google.common.collect.EvictingQueue;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.command.CommandMapping;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.TimingsCategory;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -37,6 +39,9 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
 
 public final class TimingsManager {
 
@@ -61,6 +66,17 @@ public final class TimingsManager {
     static boolean needsFullReset = false;
     static boolean needsRecheckEnabled = false;
 
+    // The platform and the server thread are resolved at the start of every
+    // tick, rather than by each handler on every start and stop
+    private static boolean tickStateResolved = false;
+    private static boolean clientSide = false;
+    @Nullable private static Thread serverThread;
+
+    private static final int LOW_TPS_SAMPLE_TICKS = 100;
+    private static int lowTpsSampleTicks = 0;
+    private static long lowTpsSampleStart = 0;
+    private static long lastLowTpsReport = 0;
+
     private TimingsManager() {
     }
 
@@ -90,12 +106,67 @@ static void tick() {
             TimingHistory.playerTicks += SpongeImpl.getGame().getServer().getOnlinePlayers().size();
             TimingHistory.timedTicks++;
             // Generate TPS/Ping/Tick reports every minute
+            checkLowTps();
+        }
+    }
+
+    /**
+     * Measures the TPS over the last {@link #LOW_TPS_SAMPLE_TICKS} ticks and
+     * writes a timings report to the export directory if it is below the
+     * configured threshold.
+     */
+    private static void checkLowTps() {
+        if (++lowTpsSampleTicks < LOW_TPS_SAMPLE_TICKS) {
+            return;
+        }
+        final long now = System.nanoTime();
+        final long sampleStart = lowTpsSampleStart;
+        lowTpsSampleStart = now;
+        lowTpsSampleTicks = 0;
+        if (sampleStart == 0) {
+            return;
+        }
+        final TimingsCategory config = SpongeImpl.getGlobalConfig().getConfig().getTimings();
+        final double tps = LOW_TPS_SAMPLE_TICKS * 1E9 / (now - sampleStart);
+        if (tps >= config.getLowTpsReportThreshold()
+                || (lastLowTpsReport != 0 && now - lastLowTpsReport < TimeUnit.SECONDS.toNanos(config.getLowTpsReportCooldown()))) {
+            return;
+        }
+        lastLowTpsReport = now;
+        SpongeImpl.getLogger().warn("TPS dropped to {}, exporting a timings report", Math.round(tps * 100D) / 100D);
+        TimingsExport.exportTimings(null, true);
+    }
+
+    /**
+     * Resolves the state the handlers need to check before timing anything.
+     * Called on the server thread at the start of each tick.
+     */
+    static void resolveTickState() {
+        clientSide = SpongeImpl.getGame().getPlatform().getExecutionType().isClient();
+        serverThread = Thread.currentThread();
+        tickStateResolved = true;
+    }
+
+    static boolean isClientSide() {
+        if (!tickStateResolved) {
+            return SpongeImpl.getGame().getPlatform().getExecutionType().isClient();
+        }
+        return clientSide;
+    }
+
+    static boolean isServerThread() {
+        final Thread thread = serverThread;
+        if (thread == null) {
+            return Sponge.isServerAvailable() && SpongeImpl.getServer().isCallingFromMinecraftThread();
         }
+        return Thread.currentThread() == thread;
     }
 
     static void stopServer() {
         Timings.setTimingsEnabled(false);
         recheckEnabled();
+        tickStateResolved = false;
+        serverThread = null;
     }
 
     static void recheckEnabled() {
@@ -121,6 +192,9 @@ static void resetTimings() {
             needsFullReset = false;
             needsRecheckEnabled = false;
             timingStart = System.currentTimeMillis();
+            // Timings may have been disabled in the meantime, start a new TPS sample
+            lowTpsSampleStart = 0;
+            lowTpsSampleTicks = 0;
         } else {
             // Soft resets only need to act on timings that have done something
             // Handlers can only be modified on main thread.
@@ -46,6 +46,8 @@ public class WorldTimingsHandler {
     public final Timing doVillages;
     public final Timing doChunkMap;
     public final Timing doChunkGC;
+    public final Timing doChunkSave;
+    public final Timing doChunkAttach;
     public final Timing doSounds;
     public final Timing entityRemoval;
     public final Timing entityTick;
@@ -93,6 +95,8 @@ public WorldTimingsHandler(World world) {
         this.doChunkMap = SpongeTimingsFactory.ofSafe(name + "doChunkMap");
         this.doSounds = SpongeTimingsFactory.ofSafe(name + "doSounds");
         this.doChunkGC = SpongeTimingsFactory.ofSafe(name + "doChunkGC");
+        this.doChunkSave = SpongeTimingsFactory.ofSafe(name + "doChunkSave");
+        this.doChunkAttach = SpongeTimingsFactory.ofSafe(name + "doChunkAttach");
         this.doPortalForcer = SpongeTimingsFactory.ofSafe(name + "doPortalForcer");
         this.entityTick = SpongeTimingsFactory.ofSafe(name + "entityTick");
         this.entityRemoval = SpongeTimingsFactory.ofSafe(name + "entityRemoval");
@@ -84,6 +84,8 @@
 import org.spongepowered.common.interfaces.world.IMixinDimensionType;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.scheduler.AsyncTaskMetrics;
+import org.spongepowered.common.scheduler.SpongeScheduler;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.WorldManager;
 
@@ -122,6 +124,7 @@ public static CommandSpec getCommand() {
         nonFlagChildren.register(getAuditCommand(), "audit");
         nonFlagChildren.register(getHeapCommand(), "heap");
         nonFlagChildren.register(getPluginsCommand(), "plugins");
+        nonFlagChildren.register(getSchedulerCommand(), "scheduler");
         nonFlagChildren.register(getTimingsCommand(), "timings");
         nonFlagChildren.register(getWhichCommand(), "which");
         flagChildren.register(getChunksCommand(), "chunks");
@@ -140,6 +143,7 @@ INDENT, title("save"), LONG_INDENT, "Saves a global, dimension, or world config\
                         INDENT, title("version"), LONG_INDENT, "Prints current Sponge version\n",
                         INDENT, title("audit"), LONG_INDENT, "Audit mixin classes for implementation\n",
                         INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
+                        INDENT, title("scheduler"), LONG_INDENT, "Shows asynchronous task statistics per plugin\n",
                         INDENT, title("which"), LONG_INDENT, "List plugins that own a specific command\n",
                         INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds"))
                 .arguments(firstParsing(nonFlagChildren, flags()
@@ -545,6 +549,16 @@ private static CommandCallable getTimingsCommand() {
                             return CommandResult.success();
                         })
                         .build(), "report", "paste")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            if (!Timings.isTimingsEnabled()) {
+                                src.sendMessage(Text.of("Please enable timings by typing /sponge timings on"));
+                                return CommandResult.empty();
+                            }
+                            SpongeTimingsFactory.exportReport(src);
+                            return CommandResult.success();
+                        })
+                        .build(), "export")
                 .child(CommandSpec.builder()
                         .executor((src, args) -> {
                             Timings.setTimingsEnabled(true);
@@ -650,6 +664,30 @@ private static CommandSpec getTpsCommand() {
                 .build();
     }
 
+    private static CommandSpec getSchedulerCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.scheduler")
+                .description(Text.of("Shows asynchronous task statistics per plugin."))
+                .executor((src, args) -> {
+                    final SpongeScheduler scheduler = SpongeScheduler.getInstance();
+                    src.sendMessage(Text.of(title("Async workers: "), TextColors.RESET, scheduler.getAsyncWorkers(), "/", scheduler.getAsyncParallelism(),
+                            TextColors.RESET, " (max ", scheduler.getAsyncThreadsPerPlugin(), " per plugin)"));
+                    for (AsyncTaskMetrics metrics : scheduler.getAsyncTaskMetrics()) {
+                        src.sendMessage(Text.of(LIST_ITEM_TEXT, hl(metrics.getPlugin().getId()), TextColors.RESET,
+                                " queued: ", TextColors.LIGHT_PURPLE, metrics.getQueued(), TextColors.RESET,
+                                ", running: ", TextColors.LIGHT_PURPLE, metrics.getRunning(), TextColors.RESET,
+                                ", completed: ", TextColors.LIGHT_PURPLE, metrics.getCompleted(), TextColors.RESET,
+                                ", wait: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.getAverageWaitNanos() * 1.0e-6d),
+                                "ms", TextColors.RESET, " (max ", TextColors.RED,
+                                THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.getMaxWaitNanos() * 1.0e-6d), "ms", TextColors.RESET,
+                                "), run: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.getAverageRunNanos() * 1.0e-6d),
+                                "ms"));
+                    }
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
     private static void printWorldTickTime(CommandSource src, World world) {
         final long[] worldTickTimes = ((IMixinMinecraftServer) SpongeImpl.getServer()).
                 getWorldTickTimes().get(((IMixinWorldServer) world).getDimensionId());
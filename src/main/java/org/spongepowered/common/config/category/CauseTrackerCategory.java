@@ -46,6 +46,11 @@ public class CauseTrackerCategory extends ConfigCategory {
                                                                  + "than what is expected.")
     boolean reportWorldTickDifferentWorlds = false;
 
+    @Setting(value = "pool-phase-contexts", comment = "If true, each world's cause tracker reuses the phase contexts of\n"
+                                                      + "block, entity and tile entity ticks instead of creating new ones\n"
+                                                      + "every tick, reducing garbage created by the cause tracker.")
+    boolean poolPhaseContexts = false;
+
     public boolean isVerbose() {
         return this.isVerbose;
     }
@@ -61,4 +66,12 @@ public boolean reportWorldTickDifferences() {
     public void setReportWorldTickDifferentWorlds(boolean reportWorldTickDifferentWorlds) {
         this.reportWorldTickDifferentWorlds = reportWorldTickDifferentWorlds;
     }
+
+    public boolean isPoolingPhaseContexts() {
+        return this.poolPhaseContexts;
+    }
+
+    public void setPoolPhaseContexts(boolean poolPhaseContexts) {
+        this.poolPhaseContexts = poolPhaseContexts;
+    }
 }
@@ -63,6 +63,11 @@ public class GlobalWorldCategory extends WorldCategory {
             + "\nNote: If you are using SpongeForge, make sure to enter any mod fake player's UUID to this list.")
     private List<UUID> invalidLookupUuids = new ArrayList<>();
 
+    @Setting(value = "async-chunk-load-threads", comment =
+            "The amount of threads used to read and parse chunks for worlds with 'async-chunk-loading' enabled. (Default: 2)"
+            + "\nFinally, if set to 0 or less, the default amount will be used.")
+    private int asyncChunkLoadThreads = 2;
+
     public GlobalWorldCategory() {
         this.invalidLookupUuids.add(UUID.fromString("00000000-0000-0000-0000-000000000000"));
         this.invalidLookupUuids.add(UUID.fromString("0d0c4ca0-4ff1-11e4-916c-0800200c9a66")); // ComputerCraft FakePlayer
@@ -98,4 +103,11 @@ public int getGameProfileQueryTaskInterval() {
     public List<UUID> getInvalidLookupUuids() {
         return this.invalidLookupUuids;
     }
+
+    public int getAsyncChunkLoadThreads() {
+        if (this.asyncChunkLoadThreads <= 0) {
+            this.asyncChunkLoadThreads = 2;
+        }
+        return this.asyncChunkLoadThreads;
+    }
 }
\ No newline at end of file
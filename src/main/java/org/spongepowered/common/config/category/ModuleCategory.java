@@ -39,6 +39,9 @@ public class ModuleCategory extends ConfigCategory {
     @Setting(value = "entity-collisions")
     private boolean pluginEntityCollisions = true;
 
+    @Setting(value = "tileentity-activation")
+    private boolean pluginTileEntityActivation = false;
+
     @Setting("timings")
     private boolean pluginTimings = true;
 
@@ -81,6 +84,14 @@ public void setPluginEntityCollisions(boolean state) {
         this.pluginEntityCollisions = state;
     }
 
+    public boolean usePluginTileEntityActivation() {
+        return this.pluginTileEntityActivation;
+    }
+
+    public void setPluginTileEntityActivation(boolean state) {
+        this.pluginTileEntityActivation = state;
+    }
+
     public boolean usePluginTimings() {
         return this.pluginTimings;
     }
@@ -56,6 +56,16 @@ public class OptimizationCategory extends ConfigCategory {
                                                                + "world heights and can thus be disabled in those cases.")
     private boolean inlineBlockPositionChecks = true;
 
+    @Setting(value = "outbound-packet-batching", comment = "If enabled, packets sent to a player on the main thread are queued and\n"
+                                                           + "written with a single flush at the end of each tick. Keep alives,\n"
+                                                           + "disconnects and position corrections are always sent right away.")
+    private boolean outboundPacketBatching = true;
+
+    @Setting(value = "outbound-packet-coalescing", comment = "If enabled, batched packets are merged before they are sent: relative\n"
+                                                             + "moves and metadata of one entity, and block changes within one chunk.\n"
+                                                             + "Requires 'outbound-packet-batching'.")
+    private boolean outboundPacketCoalescing = true;
+
     public boolean useIgnoreUloadedChunkLightingPatch() {
         return this.ignoreUnloadedChunkLighting;
     }
@@ -76,4 +86,12 @@ public boolean useCacheTameableOwners() {
     public boolean isInlineBlockPositionChecks() {
         return this.inlineBlockPositionChecks;
     }
+
+    public boolean useOutboundPacketBatching() {
+        return this.outboundPacketBatching;
+    }
+
+    public boolean useOutboundPacketCoalescing() {
+        return this.outboundPacketCoalescing;
+    }
 }
\ No newline at end of file
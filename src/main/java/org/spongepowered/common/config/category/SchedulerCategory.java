@@ -0,0 +1,58 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class SchedulerCategory extends ConfigCategory {
+
+    @Setting(value = "async-parallelism", comment = "The maximum number of threads running asynchronous tasks at once.\n"
+                                                    + "Values of 0 or less use twice the number of available processors,\n"
+                                                    + "with a minimum of 4.")
+    private int asyncParallelism = 0;
+
+    @Setting(value = "max-threads-per-plugin", comment = "The maximum number of asynchronous tasks a single plugin may run at\n"
+                                                         + "once. Further tasks of that plugin wait in its own queue, so other\n"
+                                                         + "plugins are never starved. Values of 0 or less use half of the\n"
+                                                         + "async parallelism.")
+    private int maxThreadsPerPlugin = 0;
+
+    public int getAsyncParallelism() {
+        if (this.asyncParallelism <= 0) {
+            return Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        }
+        return this.asyncParallelism;
+    }
+
+    public int getMaxThreadsPerPlugin() {
+        final int parallelism = getAsyncParallelism();
+        if (this.maxThreadsPerPlugin <= 0) {
+            return Math.max(1, parallelism / 2);
+        }
+        return Math.min(this.maxThreadsPerPlugin, parallelism);
+    }
+}
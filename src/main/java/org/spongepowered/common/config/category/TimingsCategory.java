@@ -51,6 +51,20 @@ public class TimingsCategory extends ConfigCategory {
     @Setting("history-length")
     private int historyLength = 3600;
 
+    @Setting(value = "export-directory", comment = "The directory, relative to the server directory, that '/sponge timings export'"
+                                                   + "\nand low TPS reports are written to, along with a viewer for them. (Default: timings)")
+    private String exportDirectory = "timings";
+
+    @Setting(value = "low-tps-report-threshold", comment = "If the TPS averaged over 5 seconds drops below this value while timings are enabled,"
+                                                           + "\na timings report is written to the export directory. Set to 0 to disable. (Default: 0)")
+    private double lowTpsReportThreshold = 0;
+
+    @Setting(value = "low-tps-report-cooldown", comment = "The minimum amount of seconds between two low TPS reports. (Default: 300)")
+    private int lowTpsReportCooldown = 300;
+
+    @Setting(value = "low-tps-report-count", comment = "The amount of low TPS reports to keep, older reports are deleted. (Default: 10)")
+    private int lowTpsReportCount = 10;
+
     public boolean isVerbose() {
         return this.verbose;
     }
@@ -83,4 +97,20 @@ public void setHistoryLength(int historyLength) {
         this.historyLength = historyLength;
     }
 
-}
\ No newline at end of file
+    public String getExportDirectory() {
+        return this.exportDirectory;
+    }
+
+    public double getLowTpsReportThreshold() {
+        return this.lowTpsReportThreshold;
+    }
+
+    public int getLowTpsReportCooldown() {
+        return this.lowTpsReportCooldown;
+    }
+
+    public int getLowTpsReportCount() {
+        return this.lowTpsReportCount;
+    }
+
+}
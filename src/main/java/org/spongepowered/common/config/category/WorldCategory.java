@@ -73,13 +73,6 @@ public class WorldCategory extends ConfigCategory {
                                                          + "\nSet to 0 to disable which restores vanilla handling. (Default: 1)")
     private int chunkGCTickInterval = 1;
 
-    @Setting(value = "max-chunk-unloads-per-tick", comment = "The maximum number of queued unloaded chunks that will be unloaded in a single tick. "
-                                                             + "\nNote: With the chunk gc enabled, this setting only applies to the ticks "
-                                                             + "\nwhere the gc runs (controlled by 'chunk-gc-tick-interval')"
-                                                             + "\nNote: If the max unloads is too low, too many chunks may remain"
-                                                             + "\nloaded on the world and increases the chance for a drop in tps. (Default: 100)")
-    private int maxChunkUnloads = 100;
-
     @Setting(value = "chunk-gc-load-threshold", comment = "The number of newly loaded chunks before triggering a forced cleanup. "
                                                           + "\nNote: When triggered, the loaded chunk threshold will reset and start incrementing. "
                                                           + "\nDisabled by default.")
@@ -103,6 +96,25 @@ public class WorldCategory extends ConfigCategory {
 
     @Setting(value = "weather-ice-and-snow", comment = "Enable to allow the natural formation of ice and snow in supported biomes.")
     private boolean weatherIceAndSnow = true;
+
+    @Setting(value = "async-chunk-loading", comment = "If enabled, chunks requested by players are read from disk and parsed off the main thread."
+                                                      + "\nOnly entities, tile entities and the final chunk load are handled on the main thread."
+                                                      + "\nNote: As this is an experimental setting for performance gain, if you encounter any issues"
+                                                      + "\nthen we recommend disabling it.")
+    private boolean asyncChunkLoading = false;
+
+    @Setting(value = "chunk-work-min-time", comment = "The minimum amount of milliseconds spent each tick unloading, saving, cleaning up and"
+                                                      + "\nadding asynchronously loaded chunks, even if the server is lagging. (Default: 1)")
+    private int chunkWorkMinTime = 1;
+
+    @Setting(value = "chunk-work-max-time", comment = "The maximum amount of milliseconds spent each tick unloading, saving, cleaning up and"
+                                                      + "\nadding asynchronously loaded chunks. (Default: 10)")
+    private int chunkWorkMaxTime = 10;
+
+    @Setting(value = "chunk-work-tick-share", comment = "The percentage of the time left unused by the previous tick that is spent on chunk work,"
+                                                        + "\nsplit evenly between all loaded worlds. The amount of work done each tick adapts to"
+                                                        + "\nthe server load, bounded by 'chunk-work-min-time' and 'chunk-work-max-time'. (Default: 50)")
+    private int chunkWorkTickShare = 50;
     
     public WorldCategory() {
         this.portalAgents.put("minecraft:default_nether", "DIM-1");
@@ -201,10 +213,6 @@ public int getChunkLoadThreadhold() {
         return this.chunkGCLoadThreshold;
     }
 
-    public int getMaxChunkUnloads() {
-        return this.maxChunkUnloads;
-    }
-
     public double getItemMergeRadius() {
         return this.itemMergeRadius;
     }
@@ -216,4 +224,20 @@ public boolean getWeatherThunder() {
     public boolean getWeatherIceAndSnow() {
         return this.weatherIceAndSnow;
     }
+
+    public boolean useAsyncChunkLoading() {
+        return this.asyncChunkLoading;
+    }
+
+    public int getChunkWorkMinTime() {
+        return this.chunkWorkMinTime;
+    }
+
+    public int getChunkWorkMaxTime() {
+        return this.chunkWorkMaxTime;
+    }
+
+    public int getChunkWorkTickShare() {
+        return this.chunkWorkTickShare;
+    }
 }
\ No newline at end of file
@@ -32,6 +32,7 @@
 import org.spongepowered.common.config.category.EntityCollisionCategory;
 import org.spongepowered.common.config.category.GeneralCategory;
 import org.spongepowered.common.config.category.LoggingCategory;
+import org.spongepowered.common.config.category.TileEntityActivationCategory;
 import org.spongepowered.common.config.category.TimingsCategory;
 import org.spongepowered.common.config.category.WorldCategory;
 
@@ -51,6 +52,8 @@ public abstract class ConfigBase {
     private GeneralCategory general = new GeneralCategory();
     @Setting
     private LoggingCategory logging = new LoggingCategory();
+    @Setting(value = "tileentity-activation")
+    private TileEntityActivationCategory tileEntityActivationCategory = new TileEntityActivationCategory();
     @Setting
     protected WorldCategory world = new WorldCategory();
     @Setting
@@ -91,6 +94,10 @@ public LoggingCategory getLogging() {
         return this.logging;
     }
 
+    public TileEntityActivationCategory getTileEntityActivationRange() {
+        return this.tileEntityActivationCategory;
+    }
+
     public WorldCategory getWorld() {
         return this.world;
     }
@@ -37,6 +37,8 @@
 import org.spongepowered.common.config.category.GlobalWorldCategory;
 import org.spongepowered.common.config.category.ModuleCategory;
 import org.spongepowered.common.config.category.OptimizationCategory;
+import org.spongepowered.common.config.category.PermissionCategory;
+import org.spongepowered.common.config.category.SchedulerCategory;
 import org.spongepowered.common.config.category.SqlCategory;
 import org.spongepowered.common.util.IpSet;
 
@@ -76,6 +78,12 @@ public class GlobalConfig extends ConfigBase {
     @Setting(value = "cause-tracker")
     protected CauseTrackerCategory causeTracker = new CauseTrackerCategory();
 
+    @Setting(value = "scheduler")
+    private SchedulerCategory scheduler = new SchedulerCategory();
+
+    @Setting(value = "permissions")
+    private PermissionCategory permissions = new PermissionCategory();
+
     public GlobalConfig() {
         super();
     }
@@ -115,6 +123,14 @@ public OptimizationCategory getOptimizations() {
         return this.optimizations;
     }
 
+    public SchedulerCategory getScheduler() {
+        return this.scheduler;
+    }
+
+    public PermissionCategory getPermissions() {
+        return this.permissions;
+    }
+
     public Predicate<InetAddress> getIpSet(String name) {
         return this.ipSets.containsKey(name) ? Predicates.and(this.ipSets.get(name)) : null;
     }
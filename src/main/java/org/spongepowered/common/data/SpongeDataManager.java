@@ -79,6 +79,8 @@
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import javax.annotation.Nullable;
+
 public final class SpongeDataManager implements DataManager {
     static {
         TypeSerializers.getDefaultSerializers().registerType(TypeToken.of(DataSerializable.class), new DataSerializableTypeSerializer());
@@ -125,6 +127,11 @@ public final class SpongeDataManager implements DataManager {
     private ImmutableTable<Class<? extends DataManipulator<?, ?>>, NbtDataType, NbtDataProcessor<?, ?>> nbtProcessorTable = ImmutableTable.of();
     private ImmutableTable<Key<?>, NbtDataType, NbtValueProcessor<?, ?>> nbtValueTable = ImmutableTable.of();
 
+    // Value processor delegates per concrete holder class, compiled on first use
+    private final Map<Class<?>, Map<Key<?>, ValueProcessorDelegate<?, ?>>> valueDispatchTables = new MapMaker()
+            .concurrencyLevel(4)
+            .makeMap();
+
     // Content updaters
     private final Map<Class<? extends DataSerializable>, List<DataContentUpdater>> updatersMap = new IdentityHashMap<>();
 
@@ -252,6 +259,7 @@ public static void finalizeRegistration() {
             registry.valueDelegates.put(entry.getKey(), delegate);
         });
         registry.valueProcessorMap.clear();
+        registry.valueDispatchTables.clear();
         registry.processorMap.entrySet().forEach(entry -> {
             ImmutableList.Builder<DataProcessor<?, ?>> dataListBuilder = ImmutableList.builder();
             Collections.sort(entry.getValue(), ComparatorUtil.DATA_PROCESSOR_COMPARATOR);
@@ -492,6 +500,7 @@ public <E, V extends BaseValue<E>> void registerValueProcessor(Key<V> key, Value
         }
         checkArgument(!processorList.contains(valueProcessor), "Duplicate ValueProcessor registration!");
         processorList.add(valueProcessor);
+        this.valueDispatchTables.clear();
     }
 
     @SuppressWarnings("unchecked")
@@ -508,6 +517,47 @@ public <E, V extends BaseValue<E>> Optional<ValueProcessor<E, V>> getValueProces
         return Optional.ofNullable((ValueProcessor<E, ? extends BaseValue<E>>) this.valueDelegates.get(key));
     }
 
+    /**
+     * Gets the {@link ValueProcessor} for the given key, compiled for value
+     * containers of the given concrete type. Processors that can never support
+     * the type are left out, the others are still checked per container.
+     *
+     * @param key The key
+     * @param containerType The concrete type of the value container
+     * @return The value processor, if the key has any registered
+     */
+    @SuppressWarnings("unchecked")
+    public <E, V extends BaseValue<E>> Optional<ValueProcessor<E, V>> getValueProcessor(Key<V> key, Class<?> containerType) {
+        return Optional.ofNullable((ValueProcessor<E, V>) getDispatchedDelegate(key, containerType));
+    }
+
+    public Optional<ValueProcessor<?, ?>> getWildValueProcessor(Key<?> key, Class<?> containerType) {
+        return Optional.ofNullable(getDispatchedDelegate(key, containerType));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E> Optional<ValueProcessor<E, ? extends BaseValue<E>>> getBaseValueProcessor(Key<? extends BaseValue<E>> key, Class<?> containerType) {
+        return Optional.ofNullable((ValueProcessor<E, ? extends BaseValue<E>>) getDispatchedDelegate(key, containerType));
+    }
+
+    @Nullable
+    private ValueProcessorDelegate<?, ?> getDispatchedDelegate(Key<?> key, Class<?> containerType) {
+        Map<Key<?>, ValueProcessorDelegate<?, ?>> table = this.valueDispatchTables.get(containerType);
+        if (table == null) {
+            table = this.valueDispatchTables.computeIfAbsent(containerType, type -> new MapMaker().concurrencyLevel(4).makeMap());
+        }
+        ValueProcessorDelegate<?, ?> delegate = table.get(key);
+        if (delegate == null) {
+            final ValueProcessorDelegate<?, ?> full = this.valueDelegates.get(key);
+            if (full == null) {
+                return null;
+            }
+            delegate = full.forContainerType(containerType);
+            table.put(key, delegate);
+        }
+        return delegate;
+    }
+
     public RawDataValidator getValidators(ValidationType validationType) {
 
         return new DelegateDataValidator(ImmutableList.of(), validationType);
@@ -35,6 +35,7 @@
 import org.spongepowered.api.data.value.mutable.CollectionValue;
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.util.Tristate;
 
 import java.util.Optional;
 
@@ -139,6 +140,20 @@
      */
     boolean supports(ValueContainer<?> container);
 
+    /**
+     * Checks if every {@link ValueContainer} of the provided type is
+     * compatible with the value of data associated with this
+     * {@link ValueProcessor}, so the result of
+     * {@link #supports(ValueContainer)} can be remembered per type.
+     *
+     * @param containerType The concrete type of the value containers
+     * @return True or false if all containers of the type share the same
+     *     support, undefined if it has to be checked per container
+     */
+    default Tristate supportsType(Class<?> containerType) {
+        return Tristate.UNDEFINED;
+    }
+
     /**
      * Offers the provided {@link BaseValue} containing a value of the
      * appropriate value type of this {@link ValueProcessor} to offer
@@ -37,6 +37,7 @@
 import org.spongepowered.api.data.value.ValueContainer;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.data.value.mutable.Value;
+import org.spongepowered.api.util.Tristate;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.ValueProcessor;
 import org.spongepowered.common.data.util.DataUtil;
@@ -47,6 +48,7 @@
         extends AbstractSingleDataProcessor<T, V, M, I> implements ValueProcessor<T, V> {
 
     protected final Class<Holder> holderClass;
+    private final boolean checksInstances = AbstractSpongeValueProcessor.checksInstances(getClass(), AbstractSingleDataSingleTargetProcessor.class);
 
     protected AbstractSingleDataSingleTargetProcessor(Key<V> key, Class<Holder> holderClass) {
         super(key);
@@ -154,6 +156,14 @@ public final boolean supports(ValueContainer<?> container) {
         return this.holderClass.isInstance(container) && supports((Holder) container);
     }
 
+    @Override
+    public Tristate supportsType(Class<?> containerType) {
+        if (!this.holderClass.isAssignableFrom(containerType)) {
+            return Tristate.FALSE;
+        }
+        return this.checksInstances ? Tristate.UNDEFINED : Tristate.TRUE;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public final Optional<T> getValueFromContainer(ValueContainer<?> container) {
@@ -32,14 +32,18 @@
 import org.spongepowered.api.data.value.ValueContainer;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.data.value.mutable.Value;
+import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.api.util.Tristate;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.ValueProcessor;
 
+import java.lang.reflect.Method;
 import java.util.Optional;
 
 public abstract class AbstractSpongeValueProcessor<C, E, V extends BaseValue<E>> implements ValueProcessor<E, V> {
 
     private final Class<C> containerClass;
+    private final boolean checksInstances = checksInstances(getClass(), AbstractSpongeValueProcessor.class);
     protected final Key<V> key;
 
     protected AbstractSpongeValueProcessor(Class<C> containerClass, Key<V> key) {
@@ -72,6 +76,35 @@ public boolean supports(ValueContainer<?> container) {
         return this.containerClass.isInstance(container) && supports((C) container);
     }
 
+    @Override
+    public Tristate supportsType(Class<?> containerType) {
+        if (!this.containerClass.isAssignableFrom(containerType)) {
+            return Tristate.FALSE;
+        }
+        return this.checksInstances ? Tristate.UNDEFINED : Tristate.TRUE;
+    }
+
+    /**
+     * Gets whether the given processor type, or any of its parents below
+     * the base processor type, declares its own supports check, meaning
+     * that support may differ between instances of a supported class.
+     *
+     * @param type The processor type
+     * @param base The base processor type that only checks the class
+     * @return True if support has to be checked per instance
+     */
+    static boolean checksInstances(Class<?> type, Class<?> base) {
+        for (Class<?> current = type; current != null && current != base; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (method.getName().equals("supports") && !method.isBridge() && method.getParameterCount() == 1
+                        && !EntityType.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
 
     @Override
     public final Key<? extends BaseValue<E>> getKey() {
@@ -31,6 +31,7 @@
 import org.spongepowered.api.data.value.ValueContainer;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.data.value.mutable.Value;
+import org.spongepowered.api.util.Tristate;
 import org.spongepowered.common.data.ValueProcessor;
 
 import java.util.Optional;
@@ -52,6 +53,40 @@ public ValueProcessorDelegate(Key<V> key, ImmutableList<ValueProcessor<E, V>> pr
         this.processors = processors;
     }
 
+    /**
+     * Gets a delegate for value containers of the given concrete type,
+     * without the processors that can never support that type. The first
+     * processor that supports every container of the type handles the whole
+     * type, so the processors after it are dropped as well. If there is no
+     * such processor, the remaining ones keep their priority order and are
+     * still checked per container.
+     *
+     * @param containerType The concrete type of the value containers
+     * @return The delegate for the type, or this delegate if no processor was dropped
+     */
+    public ValueProcessorDelegate<E, V> forContainerType(Class<?> containerType) {
+        final ImmutableList.Builder<ValueProcessor<E, V>> builder = ImmutableList.builder();
+        boolean dropped = false;
+        for (int i = 0; i < this.processors.size(); i++) {
+            final ValueProcessor<E, V> processor = this.processors.get(i);
+            final Tristate support = processor.supportsType(containerType);
+            if (support == Tristate.FALSE) {
+                dropped = true;
+                continue;
+            }
+            builder.add(processor);
+            if (support == Tristate.TRUE) {
+                dropped |= i < this.processors.size() - 1;
+                break;
+            }
+        }
+        return dropped ? new ValueProcessorDelegate<>(this.key, builder.build()) : this;
+    }
+
+    ImmutableList<ValueProcessor<E, V>> getProcessors() {
+        return this.processors;
+    }
+
     @Override
     public Key<? extends BaseValue<E>> getKey() {
         return this.key;
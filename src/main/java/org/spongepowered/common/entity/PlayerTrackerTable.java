@@ -0,0 +1,156 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * The owner and notifier of every tracked block position in a chunk.
+ *
+ * <p>Positions are packed into an int relative to the chunk and mapped to a
+ * long holding both the owner and notifier user index of the world's
+ * unique id table (see
+ * {@link org.spongepowered.common.interfaces.world.IMixinWorldInfo#getIndexForUniqueId}),
+ * so no objects are created per tracked position.</p>
+ */
+public final class PlayerTrackerTable {
+
+    public static final int NONE = -1;
+
+    private static final int XZ_MASK = 0xF;
+    private static final int Y_MASK = 0xFFFFFF;
+    private static final int Y_SHIFT = 4;
+    private static final int Z_SHIFT = 28;
+    private static final int Y_SHORT_MASK = 0xFF;
+    private static final int Z_SHORT_SHIFT = 12;
+
+    private final Int2LongOpenHashMap positions = new Int2LongOpenHashMap();
+
+    public PlayerTrackerTable() {
+        this.positions.defaultReturnValue(pack(NONE, NONE));
+    }
+
+    /**
+     * Packs a block position into the chunk relative key used by this table.
+     *
+     * @param pos The block position
+     * @return The packed position
+     */
+    public static int toKey(BlockPos pos) {
+        return (pos.getX() & XZ_MASK) | (pos.getY() & Y_MASK) << Y_SHIFT | (pos.getZ() & XZ_MASK) << Z_SHIFT;
+    }
+
+    /**
+     * Converts a legacy short packed position (y below 256) to a key.
+     *
+     * @param serialized The short packed position
+     * @return The packed position
+     */
+    public static int fromShortKey(short serialized) {
+        final int x = serialized & XZ_MASK;
+        final int y = (serialized >> Y_SHIFT) & Y_SHORT_MASK;
+        final int z = (serialized >> Z_SHORT_SHIFT) & XZ_MASK;
+        return x | y << Y_SHIFT | z << Z_SHIFT;
+    }
+
+    private static long pack(int ownerIndex, int notifierIndex) {
+        return ((long) ownerIndex << 32) | (notifierIndex & 0xFFFFFFFFL);
+    }
+
+    private static int owner(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    private static int notifier(long packed) {
+        return (int) packed;
+    }
+
+    public int getOwnerIndex(int key) {
+        return owner(this.positions.get(key));
+    }
+
+    public int getNotifierIndex(int key) {
+        return notifier(this.positions.get(key));
+    }
+
+    public void set(int key, int ownerIndex, int notifierIndex) {
+        if (ownerIndex == NONE && notifierIndex == NONE) {
+            this.positions.remove(key);
+        } else {
+            this.positions.put(key, pack(ownerIndex, notifierIndex));
+        }
+    }
+
+    public void setOwnerIndex(int key, int ownerIndex) {
+        set(key, ownerIndex, getNotifierIndex(key));
+    }
+
+    public void setNotifierIndex(int key, int notifierIndex) {
+        set(key, getOwnerIndex(key), notifierIndex);
+    }
+
+    public void remove(int key) {
+        this.positions.remove(key);
+    }
+
+    public boolean isEmpty() {
+        return this.positions.isEmpty();
+    }
+
+    public int size() {
+        return this.positions.size();
+    }
+
+    /**
+     * Writes this table as consecutive (position, owner, notifier) triples.
+     *
+     * @return The serialized table
+     */
+    public int[] toArray() {
+        final int[] array = new int[this.positions.size() * 3];
+        int i = 0;
+        for (Int2LongMap.Entry entry : this.positions.int2LongEntrySet()) {
+            array[i++] = entry.getIntKey();
+            array[i++] = owner(entry.getLongValue());
+            array[i++] = notifier(entry.getLongValue());
+        }
+        return array;
+    }
+
+    /**
+     * Reads consecutive (position, owner, notifier) triples written by
+     * {@link #toArray()} into this table.
+     *
+     * @param array The serialized table
+     */
+    public void readArray(int[] array) {
+        for (int i = 0; i + 2 < array.length; i += 3) {
+            set(array[i], array[i + 1], array[i + 2]);
+        }
+    }
+
+}
@@ -30,6 +30,7 @@
 import net.minecraft.network.play.server.SPacketDisconnect;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.text.ITextComponent;
+import org.spongepowered.common.interfaces.network.IMixinNetHandlerPlayServer;
 
 
 /**
@@ -48,6 +49,8 @@ private PlayerKickHelper() {
      * @param component The kick message
      */
     public static void kickPlayer(final EntityPlayerMP ply, final ITextComponent component) {
+        // The disconnect doesn't go through the handler, so write what it queued first
+        ((IMixinNetHandlerPlayServer) ply.connection).flushPacketQueue();
         ply.connection.getNetworkManager().sendPacket(new SPacketDisconnect(component),
                                                                   future -> ply.connection.getNetworkManager().closeChannel(component));
         ply.connection.getNetworkManager().disableAutoRead();
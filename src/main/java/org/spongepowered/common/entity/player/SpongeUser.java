@@ -82,16 +82,42 @@ public class SpongeUser implements ArmorEquipable, Tamer, DataSerializable, Carr
     private final GameProfile profile;
 
     private final Map<UUID, RespawnLocation> spawnLocations = Maps.newHashMap();
+    // Player data that has not been read yet, see #readFromNbtOnAccess
+    @Nullable private File pendingDataFile;
 
     public SpongeUser(GameProfile profile) {
         this.profile = profile;
     }
 
+    /**
+     * Defers reading the given player data file until the data of this
+     * user is first accessed, most lookups only need the profile.
+     *
+     * @param dataFile The player data file
+     */
+    public void readFromNbtOnAccess(File dataFile) {
+        this.pendingDataFile = dataFile;
+    }
+
+    private void readPendingData() {
+        final File dataFile = this.pendingDataFile;
+        if (dataFile == null) {
+            return;
+        }
+        this.pendingDataFile = null;
+        try (FileInputStream in = new FileInputStream(dataFile)) {
+            readFromNbt(CompressedStreamTools.readCompressed(in));
+        } catch (IOException e) {
+            SpongeImpl.getLogger().warn("Corrupt user file {}", dataFile, e);
+        }
+    }
+
     private void reset() {
         this.spawnLocations.clear();
     }
 
     public void readFromNbt(NBTTagCompound compound) {
+        this.pendingDataFile = null;
         this.reset();
 
         // See EntityPlayer#readEntityFromNBT
@@ -124,6 +150,7 @@ public void readFromNbt(NBTTagCompound compound) {
     }
 
     public void writeToNbt(NBTTagCompound compound) {
+        this.readPendingData();
 
         final NBTTagCompound forgeCompound = compound.getCompoundTag(NbtDataUtil.FORGE_DATA);
         final NBTTagCompound spongeCompound = forgeCompound.getCompoundTag(NbtDataUtil.SPONGE_DATA);
@@ -166,6 +193,7 @@ public int getContentVersion() {
 
     @Override
     public DataContainer toContainer() {
+        this.readPendingData();
         // TODO More data
         return new MemoryDataContainer()
                 .set(Queries.CONTENT_VERSION, getContentVersion())
@@ -255,6 +283,7 @@ public Map<UUID, RespawnLocation> getBedlocations() {
         if (player.isPresent()) {
             return ((ISpongeUser) player.get()).getBedlocations();
         }
+        this.readPendingData();
         return this.spawnLocations;
     }
 
@@ -264,6 +293,7 @@ public boolean setBedLocations(Map<UUID, RespawnLocation> value) {
         if (player.isPresent()) {
             return ((ISpongeUser) player.get()).setBedLocations(value);
         }
+        this.readPendingData();
         this.spawnLocations.clear();
         this.spawnLocations.putAll(value);
         this.markDirty();
@@ -276,6 +306,7 @@ public ImmutableMap<UUID, RespawnLocation> removeAllBeds() {
         if (player.isPresent()) {
             return ((ISpongeUser) player.get()).removeAllBeds();
         }
+        this.readPendingData();
         ImmutableMap<UUID, RespawnLocation> locations = ImmutableMap.copyOf(this.spawnLocations);
         this.spawnLocations.clear();
         this.markDirty();
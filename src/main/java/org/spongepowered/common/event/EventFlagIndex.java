@@ -0,0 +1,144 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import com.google.common.reflect.TypeToken;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.SpongeEventFactory;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A flag for every event type, enabled whenever a listener is registered
+ * that could receive an event of that type.
+ *
+ * <p>A flag for an event type is enabled if a listener is registered for a
+ * supertype of it (the listener receives it) or for a subtype of it (the
+ * event that is actually fired may be that subtype). This matches the
+ * semantics of the named flags in {@link ShouldFire}.</p>
+ *
+ * <p>Every event interface produced by the {@link SpongeEventFactory} and
+ * its super interfaces are indexed when this is constructed, any other
+ * event type (such as plugin provided events) is indexed the first time it
+ * is queried. Lookups never lock, updates are kept in sync by the
+ * {@link ListenerChecker}.</p>
+ */
+final class EventFlagIndex {
+
+    private final Object lock = new Object();
+    private final Object2IntMap<Class<?>> listenerCounts = new Object2IntOpenHashMap<>();
+    private final List<Flag> flags = new ArrayList<>();
+
+    private final ClassValue<Flag> flagsByType = new ClassValue<Flag>() {
+
+        @Override
+        protected Flag computeValue(Class<?> type) {
+            synchronized (EventFlagIndex.this.lock) {
+                final Flag flag = new Flag(type);
+                flag.enabled = ListenerChecker.ALL_TRUE || EventFlagIndex.this.hasRelatedListener(type);
+                EventFlagIndex.this.flags.add(flag);
+                return flag;
+            }
+        }
+    };
+
+    EventFlagIndex() {
+        for (Method method : SpongeEventFactory.class.getMethods()) {
+            if (Event.class.isAssignableFrom(method.getReturnType())) {
+                for (Class<?> type : TypeToken.of(method.getReturnType()).getTypes().rawTypes()) {
+                    if (Event.class.isAssignableFrom(type)) {
+                        this.flagsByType.get(type);
+                    }
+                }
+            }
+        }
+    }
+
+    boolean isEnabled(Class<?> eventClass) {
+        return this.flagsByType.get(eventClass).enabled;
+    }
+
+    void listenerAdded(Class<?> eventClass) {
+        synchronized (this.lock) {
+            if (this.listenerCounts.put(eventClass, this.listenerCounts.getInt(eventClass) + 1) != 0) {
+                return;
+            }
+            for (Flag flag : this.flags) {
+                if (!flag.enabled && isRelated(flag.type, eventClass)) {
+                    flag.enabled = true;
+                }
+            }
+        }
+    }
+
+    void listenerRemoved(Class<?> eventClass) {
+        synchronized (this.lock) {
+            final int count = this.listenerCounts.getInt(eventClass);
+            if (count > 1) {
+                this.listenerCounts.put(eventClass, count - 1);
+                return;
+            } else if (count == 0) {
+                return;
+            }
+            this.listenerCounts.removeInt(eventClass);
+            if (ListenerChecker.ALL_TRUE) {
+                return;
+            }
+            for (Flag flag : this.flags) {
+                if (flag.enabled && isRelated(flag.type, eventClass)) {
+                    flag.enabled = this.hasRelatedListener(flag.type);
+                }
+            }
+        }
+    }
+
+    private boolean hasRelatedListener(Class<?> type) {
+        for (Class<?> listenedType : this.listenerCounts.keySet()) {
+            if (isRelated(type, listenedType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRelated(Class<?> type, Class<?> listenedType) {
+        return listenedType.isAssignableFrom(type) || type.isAssignableFrom(listenedType);
+    }
+
+    private static final class Flag {
+
+        final Class<?> type;
+        volatile boolean enabled;
+
+        Flag(Class<?> type) {
+            this.type = type;
+        }
+    }
+
+}
@@ -28,13 +28,14 @@
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
 import com.google.common.reflect.TypeToken;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -42,7 +43,7 @@
 
 public class ListenerChecker {
 
-    private static final boolean ALL_TRUE = Boolean.parseBoolean(System.getProperty("sponge.shouldFireAll", "").toLowerCase());
+    static final boolean ALL_TRUE = Boolean.parseBoolean(System.getProperty("sponge.shouldFireAll", "").toLowerCase());
     private static final boolean DEBUG = Boolean.parseBoolean(System.getProperty("sponge.debugShouldFire", "").toLowerCase());
 
     private final Class<?> clazz;
@@ -56,11 +57,12 @@ public Optional<Field> load(Class<?> key) throws Exception {
         }
     });
 
-    private LoadingCache<Class<?>, Set<Class<?>>> subtypeMappings = CacheBuilder.newBuilder().build(new CacheLoader<Class<?>, Set<Class<?>>>() {
+    // Counted, as several listeners may be registered for the same event class
+    private LoadingCache<Class<?>, Multiset<Class<?>>> subtypeMappings = CacheBuilder.newBuilder().build(new CacheLoader<Class<?>, Multiset<Class<?>>>() {
 
         @Override
-        public Set<Class<?>> load(Class<?> key) throws Exception {
-            return new HashSet<>();
+        public Multiset<Class<?>> load(Class<?> key) throws Exception {
+            return HashMultiset.create();
         }
     });
 
@@ -92,6 +94,7 @@ public <T> void registerListenerFor(Class<T> eventClass) {
         // We don't need to walk down the tree, because a more-specific flag can never be turned
         // from false to true by a less-specific event (and therefore flag) being registered.
         this.updateFields(types, c -> true);
+        ShouldFire.INDEX.listenerAdded(eventClass);
     }
 
     public <T> void unregisterListenerFor(Class<T> eventClass) {
@@ -111,6 +114,7 @@ public <T> void unregisterListenerFor(Class<T> eventClass) {
         // If the set is empty for a class (there are no direct listeners or subclass listeners)
         // we set it to false (opposite of isEmpty/true)
         this.updateFields(types, c -> !this.subtypeMappings.getUnchecked(c).isEmpty());
+        ShouldFire.INDEX.listenerRemoved(eventClass);
     }
 
     public ListenerChecker(Class<?> clazz) {
@@ -35,6 +35,8 @@
 import org.spongepowered.api.event.Order;
 import org.spongepowered.api.plugin.PluginContainer;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 
@@ -100,30 +102,52 @@ public int compareTo(RegisteredListener<?> handler) {
         return this.order.compareTo(handler.order);
     }
 
+    /**
+     * The baked listeners of a single event type. Instances are immutable and
+     * safe to share between threads.
+     */
     public static final class Cache {
 
-        private final List<RegisteredListener<?>> listeners;
-        private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
-
         private static final Order[] ORDERS = Order.values();
+        private static final RegisteredListener<?>[] EMPTY = new RegisteredListener<?>[0];
+
+        private final RegisteredListener<?>[] listeners;
+        private final List<RegisteredListener<?>> listenerList;
+        private final EnumMap<Order, RegisteredListener<?>[]> listenersByOrder;
+        private final EnumMap<Order, List<RegisteredListener<?>>> listenerListsByOrder;
 
         Cache(List<RegisteredListener<?>> listeners) {
-            this.listeners = listeners;
+            this.listeners = listeners.toArray(EMPTY);
+            this.listenerList = Collections.unmodifiableList(Arrays.asList(this.listeners));
 
             this.listenersByOrder = Maps.newEnumMap(Order.class);
+            this.listenerListsByOrder = Maps.newEnumMap(Order.class);
             for (Order order : ORDERS) {
-                this.listenersByOrder.put(order, Lists.<RegisteredListener<?>>newArrayList());
-            }
-            for (RegisteredListener<?> handler : listeners) {
-                this.listenersByOrder.get(handler.getOrder()).add(handler);
+                final List<RegisteredListener<?>> orderListeners = Lists.newArrayList();
+                for (RegisteredListener<?> handler : this.listeners) {
+                    if (handler.getOrder() == order) {
+                        orderListeners.add(handler);
+                    }
+                }
+                final RegisteredListener<?>[] orderArray = orderListeners.toArray(EMPTY);
+                this.listenersByOrder.put(order, orderArray);
+                this.listenerListsByOrder.put(order, Collections.unmodifiableList(Arrays.asList(orderArray)));
             }
         }
 
         public List<RegisteredListener<?>> getListeners() {
-            return this.listeners;
+            return this.listenerList;
         }
 
         public List<RegisteredListener<?>> getListenersByOrder(Order order) {
+            return this.listenerListsByOrder.get(checkNotNull(order, "order"));
+        }
+
+        RegisteredListener<?>[] getListenerArray() {
+            return this.listeners;
+        }
+
+        RegisteredListener<?>[] getListenerArrayByOrder(Order order) {
             return this.listenersByOrder.get(checkNotNull(order, "order"));
         }
 
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.event;
 
+import org.spongepowered.api.event.Event;
+
 public class ShouldFire {
 
 
@@ -54,4 +56,14 @@ public class ShouldFire {
     public static boolean RIDE_ENTITY_EVENT_MOUNT = false;
     public static boolean RIDE_ENTITY_EVENT_DISMOUNT = false;
 
+    // Every other event type is covered by the index below, which
+    // follows the same rules as the flags above
+    // For example: ShouldFire.hasListeners(CollideEntityEvent.class)
+
+    static final EventFlagIndex INDEX = new EventFlagIndex();
+
+    public static boolean hasListeners(Class<? extends Event> eventClass) {
+        return INDEX.isEnabled(eventClass);
+    }
+
 }
@@ -197,6 +197,9 @@ public static CollideEntityEvent callCollideEntityEvent(net.minecraft.world.Worl
     }
 
     public static boolean handleChangeBlockEventPre(IMixinWorldServer worldIn, BlockPos pos) {
+        if (!ShouldFire.hasListeners(ChangeBlockEvent.Pre.class)) {
+            return false;
+        }
         final CauseTracker causeTracker = worldIn.getCauseTracker();
         PhaseData data = causeTracker.getCurrentPhaseData();
         Optional<BlockSnapshot> block = data.context.getSource(BlockSnapshot.class);
@@ -318,21 +321,24 @@ public static boolean handleCollideBlockEvent(Block block, net.minecraft.world.W
         final WorldServer worldServer = (WorldServer) world;
         final IMixinWorldServer mixinWorldServer = (IMixinWorldServer) worldServer;
         final CauseTracker causeTracker = mixinWorldServer.getCauseTracker();
-        final Cause.Builder builder = Cause.source(entity);
-        builder.named(NamedCause.of(NamedCause.PHYSICAL, entity));
-
-        if (!(entity instanceof EntityPlayer)) {
-            IMixinEntity spongeEntity = (IMixinEntity) entity;
-            Optional<User> user = spongeEntity.getCreatorUser();
-            if (user.isPresent()) {
-                builder.named(NamedCause.owner(user.get()));
+        boolean cancelled = false;
+        if (ShouldFire.hasListeners(CollideBlockEvent.class)) {
+            final Cause.Builder builder = Cause.source(entity);
+            builder.named(NamedCause.of(NamedCause.PHYSICAL, entity));
+
+            if (!(entity instanceof EntityPlayer)) {
+                IMixinEntity spongeEntity = (IMixinEntity) entity;
+                Optional<User> user = spongeEntity.getCreatorUser();
+                if (user.isPresent()) {
+                    builder.named(NamedCause.owner(user.get()));
+                }
             }
-        }
 
-        // TODO: Add target side support
-        CollideBlockEvent event = SpongeEventFactory.createCollideBlockEvent(builder.build(), (BlockState) state,
-                new Location<>((World) world, VecHelper.toVector3d(pos)), direction);
-        boolean cancelled = SpongeImpl.postEvent(event);
+            // TODO: Add target side support
+            CollideBlockEvent event = SpongeEventFactory.createCollideBlockEvent(builder.build(), (BlockState) state,
+                    new Location<>((World) world, VecHelper.toVector3d(pos)), direction);
+            cancelled = SpongeImpl.postEvent(event);
+        }
         if (!cancelled) {
             IMixinEntity spongeEntity = (IMixinEntity) entity;
             if (!pos.equals(spongeEntity.getLastCollidedBlockPos())) {
@@ -354,12 +360,28 @@ public static boolean handleCollideImpactEvent(net.minecraft.entity.Entity proje
         final IMixinWorldServer mixinWorldServer = (IMixinWorldServer) worldServer;
         final CauseTracker causeTracker = mixinWorldServer.getCauseTracker();
         RayTraceResult.Type movingObjectType = movingObjectPosition.typeOfHit;
-        final Cause.Builder builder = Cause.source(projectile).named("ProjectileSource", projectileSource == null
-                                                                                         ? ProjectileSource.UNKNOWN
-                                                                                         : projectileSource);
         final Optional<User> notifier = causeTracker.getCurrentPhaseData()
                 .context
                 .firstNamed(NamedCause.NOTIFIER, User.class);
+
+        if (movingObjectType == RayTraceResult.Type.BLOCK) {
+            if (!ShouldFire.hasListeners(CollideBlockEvent.Impact.class)) {
+                // Nothing can cancel the impact, only track it
+                if (notifier.isPresent()) {
+                    final BlockPos targetPos = new BlockPos(movingObjectPosition.hitVec);
+                    final Block targetBlock = worldServer.getBlockState(movingObjectPosition.getBlockPos()).getBlock();
+                    IMixinChunk spongeChunk = (IMixinChunk) worldServer.getChunkFromBlockCoords(targetPos);
+                    spongeChunk.addTrackedBlockPosition(targetBlock, targetPos, notifier.get(), PlayerTracker.Type.NOTIFIER);
+                }
+                return false;
+            }
+        } else if (movingObjectPosition.entityHit == null || !ShouldFire.hasListeners(CollideEntityEvent.Impact.class)) {
+            return false;
+        }
+
+        final Cause.Builder builder = Cause.source(projectile).named("ProjectileSource", projectileSource == null
+                                                                                         ? ProjectileSource.UNKNOWN
+                                                                                         : projectileSource);
         notifier.ifPresent(user -> builder.named(NamedCause.OWNER, user));
 
         Location<World> impactPoint = new Location<>((World) projectile.worldObj, VecHelper.toVector3d(movingObjectPosition.hitVec));
@@ -381,7 +403,7 @@ public static boolean handleCollideImpactEvent(net.minecraft.entity.Entity proje
                 IMixinChunk spongeChunk = (IMixinChunk) projectile.worldObj.getChunkFromBlockCoords(targetPos);
                 spongeChunk.addTrackedBlockPosition((Block) targetBlock.getState().getType(), targetPos, notifier.get(), PlayerTracker.Type.NOTIFIER);
             }
-        } else if (movingObjectPosition.entityHit != null) { // entity
+        } else { // entity
             ArrayList<Entity> entityList = new ArrayList<>();
             entityList.add((Entity) movingObjectPosition.entityHit);
             CollideEntityEvent.Impact event = SpongeEventFactory.createCollideEntityEventImpact(builder.build(), entityList, impactPoint,
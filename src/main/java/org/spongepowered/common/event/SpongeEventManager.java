@@ -27,14 +27,14 @@
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import co.aikar.timings.Timings;
 import co.aikar.timings.TimingsManager;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 import com.google.common.reflect.TypeToken;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
@@ -48,12 +48,12 @@
 import org.spongepowered.common.event.filter.FilterFactory;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -78,38 +78,15 @@ public class SpongeEventManager implements EventManager {
 
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>Lookups never lock, baking and invalidation happen under the
+     * {@link #lock}. When handlers are added or removed only the event types
+     * that are a subtype of their event class are invalidated.</p>
      */
-    private final LoadingCache<Class<? extends Event>, RegisteredListener.Cache> handlersCache =
-            Caffeine.newBuilder().initialCapacity(150).build((eventClass) -> bakeHandlers(eventClass));
+    private final Map<Class<? extends Event>, RegisteredListener.Cache> handlersCache = new ConcurrentHashMap<>(150, 0.75f, 1);
 
     @Inject
     public SpongeEventManager(PluginManager pluginManager) {
         this.pluginManager = checkNotNull(pluginManager, "pluginManager");
-
-        // Caffeine offers no control over the concurrency level of the
-        // ConcurrentHashMap which backs the cache. By default this concurrency
-        // level is 16. We replace the backing map before any use can occur
-        // a new ConcurrentHashMap with a concurrency level of 1
-        try {
-            // Cache impl class is UnboundedLocalLoadingCache which extends
-            // UnboundedLocalManualCache
-
-            // UnboundedLocalManualCache has a field 'cache' with an
-            // UnboundedLocalCache which contains the actual backing map
-            Field innerCache = this.handlersCache.getClass().getSuperclass().getDeclaredField("cache");
-            innerCache.setAccessible(true);
-            Object innerCacheValue = innerCache.get(this.handlersCache);
-            Class<?> innerCacheClass = innerCacheValue.getClass(); // UnboundedLocalCache
-            Field cacheData = innerCacheClass.getDeclaredField("data");
-            cacheData.setAccessible(true);
-            ConcurrentHashMap<Class<? extends Event>, RegisteredListener.Cache> newBackingData = new ConcurrentHashMap<>(150, 0.75f, 1);
-            cacheData.set(innerCacheValue, newBackingData);
-        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            SpongeImpl.getLogger().warn("Failed to set event cache backing array, type was " + this.handlersCache.getClass().getName());
-            SpongeImpl.getLogger().warn("  Caused by: " + e.getClass().getName() + ": " + e.getMessage());
-        }
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(Class<T> rootEvent) {
@@ -146,21 +123,33 @@ private void register(RegisteredListener<? extends Event> handler) {
 
     private void register(List<RegisteredListener<? extends Event>> handlers) {
         synchronized (this.lock) {
-            boolean changed = false;
+            final Set<Class<?>> changed = Sets.newHashSet();
 
             for (RegisteredListener<?> handler : handlers) {
                 if (this.handlersByEvent.put(handler.getEventClass(), handler)) {
-                    changed = true;
+                    changed.add(handler.getEventClass());
                     this.checker.registerListenerFor(handler.getEventClass());
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
-            }
+            invalidate(changed);
         }
     }
 
+    private void invalidate(Set<Class<?>> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        this.handlersCache.keySet().removeIf(eventClass -> {
+            for (Class<?> changedClass : changed) {
+                if (changedClass.isAssignableFrom(eventClass)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
     /*private void enableFields(Collection<RegisteredListener<? extends Event>> handlers) {
         for (RegisteredListener<?> handler: handlers) {
             if (this.hasAnyListeners(handler.getEventClass())) {
@@ -178,7 +167,7 @@ private void disableFields(Collection<RegisteredListener<? extends Event>> handl
 
     // Override in SpongeModEventManager
     protected boolean hasAnyListeners(Class<? extends Event> clazz) {
-        return !this.handlersCache.get(clazz).getListeners().isEmpty();
+        return getHandlerCache(clazz).getListenerArray().length != 0;
     }
 
     public void registerListener(PluginContainer plugin, Object listenerObject) {
@@ -260,21 +249,19 @@ public <T extends Event> void registerListener(Object plugin, Class<T> eventClas
 
     private void unregister(Predicate<RegisteredListener<?>> unregister) {
         synchronized (this.lock) {
-            boolean changed = false;
+            final Set<Class<?>> changed = Sets.newHashSet();
 
             Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
             while (itr.hasNext()) {
                 RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
+                    changed.add(handler.getEventClass());
                     this.checker.unregisterListenerFor(handler.getEventClass());
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
-            }
+            invalidate(changed);
         }
     }
 
@@ -292,24 +279,81 @@ public void unregisterPluginListeners(Object pluginObj) {
     }
 
     protected RegisteredListener.Cache getHandlerCache(Event event) {
-        return this.handlersCache.get(checkNotNull(event, "event").getClass());
+        return getHandlerCache(checkNotNull(event, "event").getClass());
     }
 
-    @SuppressWarnings("unchecked")
-    protected static boolean post(Event event, List<RegisteredListener<?>> handlers) {
-        TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
-        for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
-            try {
-                handler.getTimingsHandler().startTimingIfSync();
-                ((AbstractEvent) event).currentOrder = handler.getOrder();
-                handler.handle(event);
-                handler.getTimingsHandler().stopTimingIfSync();
-            } catch (Throwable e) {
-                handler.getTimingsHandler().stopTimingIfSync();
-                SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
+    private RegisteredListener.Cache getHandlerCache(Class<? extends Event> eventClass) {
+        RegisteredListener.Cache cache = this.handlersCache.get(eventClass);
+        if (cache == null) {
+            // Bake under the lock so a concurrent invalidation can't be lost
+            synchronized (this.lock) {
+                cache = this.handlersCache.get(eventClass);
+                if (cache == null) {
+                    cache = bakeHandlers(eventClass);
+                    this.handlersCache.put(eventClass, cache);
+                }
+            }
+        }
+        return cache;
+    }
+
+    private static boolean isTimedThread() {
+        return Timings.isTimingsEnabled() && !SpongeImpl.getGame().getPlatform().getExecutionType().isClient()
+                && Sponge.isServerAvailable() && SpongeImpl.getServer().isCallingFromMinecraftThread();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void dispatch(Event event, RegisteredListener handler, boolean timed) {
+        try {
+            if (timed) {
+                handler.getTimingsHandler().startTiming();
+            }
+            ((AbstractEvent) event).currentOrder = handler.getOrder();
+            handler.handle(event);
+        } catch (Throwable e) {
+            SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
+        } finally {
+            if (timed) {
+                handler.getTimingsHandler().stopTiming();
             }
         }
-        TimingsManager.PLUGIN_EVENT_HANDLER.stopTimingIfSync();
+    }
+
+    protected static boolean post(Event event, List<RegisteredListener<?>> handlers) {
+        if (handlers.isEmpty()) {
+            return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        }
+        // The thread can't change while posting, only check it once
+        final boolean timed = isTimedThread();
+        if (timed) {
+            TimingsManager.PLUGIN_EVENT_HANDLER.startTiming();
+        }
+        for (RegisteredListener<?> handler : handlers) {
+            dispatch(event, handler, timed);
+        }
+        if (timed) {
+            TimingsManager.PLUGIN_EVENT_HANDLER.stopTiming();
+        }
+        ((AbstractEvent) event).currentOrder = null;
+
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    protected static boolean post(Event event, RegisteredListener<?>[] handlers) {
+        if (handlers.length == 0) {
+            return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        }
+        // The thread can't change while posting, only check it once
+        final boolean timed = isTimedThread();
+        if (timed) {
+            TimingsManager.PLUGIN_EVENT_HANDLER.startTiming();
+        }
+        for (RegisteredListener<?> handler : handlers) {
+            dispatch(event, handler, timed);
+        }
+        if (timed) {
+            TimingsManager.PLUGIN_EVENT_HANDLER.stopTiming();
+        }
         ((AbstractEvent) event).currentOrder = null;
 
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
@@ -317,7 +361,7 @@ protected static boolean post(Event event, List<RegisteredListener<?>> handlers)
 
     @Override
     public boolean post(Event event) {
-        return post(event, getHandlerCache(event).getListeners());
+        return post(event, getHandlerCache(event).getListenerArray());
     }
 
     public boolean post(Event event, boolean allowClientThread) {
@@ -325,7 +369,7 @@ public boolean post(Event event, boolean allowClientThread) {
     }
 
     public boolean post(Event event, Order order) {
-        return post(event, getHandlerCache(event).getListenersByOrder(order));
+        return post(event, getHandlerCache(event).getListenerArrayByOrder(order));
     }
 
 }
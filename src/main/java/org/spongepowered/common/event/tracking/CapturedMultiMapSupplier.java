@@ -51,6 +51,10 @@ public Multimap<K, V> get() {
         return this.captured;
     }
 
+    final void reset() {
+        this.captured = null;
+    }
+
     public final boolean isEmpty() {
         return this.captured == null || this.captured.isEmpty();
     }
@@ -87,7 +87,7 @@ private CauseStack push(PhaseData tuple) {
     }
 
     CauseStack push(IPhaseState state, PhaseContext context) {
-        return push(new PhaseData(context, state));
+        return push(context.isPooled() ? context.getPooledData(state) : new PhaseData(context, state));
     }
 
     public void forEach(Consumer<PhaseData> consumer) {
@@ -56,8 +56,11 @@
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
@@ -69,6 +72,7 @@
 public final class CauseTracker {
 
     public static final boolean ENABLED = Booleans.parseBoolean(System.getProperty("sponge.causeTracking"), true);
+    private static final int MAX_POOLED_CONTEXTS = 32;
 
     static final BiConsumer<PrettyPrinter, PhaseContext> CONTEXT_PRINTER = (printer, context) ->
             context.forEach(namedCause -> {
@@ -91,6 +95,8 @@ public final class CauseTracker {
         });
     };
 
+    @Nullable private static CrossWorldPhase<CauseTracker> crossWorldPhase;
+
     private final WorldServer targetWorld;
 
     private final CauseStack stack = new CauseStack();
@@ -99,6 +105,9 @@ public final class CauseTracker {
 
     private final boolean isVerbose = SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().isVerbose();
 
+    private final boolean poolContexts = SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().isPoolingPhaseContexts();
+    private final ArrayDeque<PhaseContext> contextPool = new ArrayDeque<>(MAX_POOLED_CONTEXTS);
+
     @SuppressWarnings("ConstantConditions")
     public CauseTracker(WorldServer targetWorld) {
         if (((IMixinWorldServer) targetWorld).getCauseTracker() != null) {
@@ -109,11 +118,87 @@ public CauseTracker(WorldServer targetWorld) {
 
     // ----------------- STATE ACCESS ----------------------------------
 
+    /**
+     * Starts a new {@link PhaseContext} for a phase that will be entered
+     * with {@link #switchToPhase(IPhaseState, PhaseContext)} on this tracker
+     * and is not referenced after it is completed. If pooling is enabled,
+     * the context is taken from this tracker's pool and returned to it once
+     * its phase is completed.
+     *
+     * @return A new or recycled phase context
+     */
+    public PhaseContext startContext() {
+        if (!this.poolContexts) {
+            return PhaseContext.start();
+        }
+        final PhaseContext context = this.contextPool.poll();
+        return context == null ? new PhaseContext(true) : context;
+    }
+
+    private void releaseContext(PhaseContext context) {
+        if (context.isPooled() && this.contextPool.size() < MAX_POOLED_CONTEXTS) {
+            context.reset();
+            this.contextPool.push(context);
+        }
+    }
+
+    /**
+     * Enters the given state on this tracker and lets every other world's
+     * tracker join it lazily, the first time that tracker is used on the
+     * main thread before {@link #completeCrossWorldPhase()} is called.
+     * Worlds that are never touched don't build a context or unwind a phase.
+     *
+     * @param state The state to enter
+     * @param contextFactory The factory of the context for each world entering the state
+     */
+    public void enterCrossWorldPhase(IPhaseState state, Supplier<PhaseContext> contextFactory) {
+        final CrossWorldPhase<CauseTracker> phase = new CrossWorldPhase<>(this, state, contextFactory, crossWorldPhase);
+        // Switching first joins any outer cross world phase below this one
+        switchToPhase(state, phase.createContext());
+        crossWorldPhase = phase;
+    }
+
+    /**
+     * Completes the phase entered with {@link #enterCrossWorldPhase(IPhaseState, Supplier)}
+     * on this tracker first, then on every world that joined it.
+     */
+    public void completeCrossWorldPhase() {
+        final CrossWorldPhase<CauseTracker> phase = crossWorldPhase;
+        checkArgument(phase != null && phase.origin == this, "No cross world phase was entered on this tracker!");
+        try {
+            completePhase();
+            // Worlds may still join while the others are unwinding
+            final List<CauseTracker> joined = phase.getJoined();
+            for (int i = 0; i < joined.size(); i++) {
+                joined.get(i).completePhase();
+            }
+        } finally {
+            crossWorldPhase = phase.previous;
+        }
+    }
+
+    private void joinCrossWorldPhase() {
+        final CrossWorldPhase<CauseTracker> phase = crossWorldPhase;
+        if (phase != null) {
+            joinCrossWorldPhase(phase);
+        }
+    }
+
+    private void joinCrossWorldPhase(CrossWorldPhase<CauseTracker> phase) {
+        if (phase.previous != null) {
+            joinCrossWorldPhase(phase.previous);
+        }
+        if (phase.join(this)) {
+            this.stack.push(phase.state, phase.createContext());
+        }
+    }
+
     public void switchToPhase(IPhaseState state, PhaseContext phaseContext) {
         checkNotNull(state, "State cannot be null!");
         checkNotNull(state.getPhase(), "Phase cannot be null!");
         checkNotNull(phaseContext, "PhaseContext cannot be null!");
         checkArgument(phaseContext.isComplete(), "PhaseContext must be complete!");
+        joinCrossWorldPhase();
         final IPhaseState currentState = this.stack.peek().state;
         if (this.isVerbose) {
             if (this.stack.size() > 6 && !currentState.isExpectedForReEntrance()) {
@@ -196,6 +281,9 @@ public void completePhase() {
         } catch (Exception e) {
             printMessageWithCaughtException("Exception Post Dispatching Phase", "Something happened when trying to post dispatch state", state, context, e);
         }
+        if (this.currentProcessingState != currentPhaseData) {
+            releaseContext(context);
+        }
     }
 
     private void printRunawayPhase(IPhaseState state, PhaseContext context) {
@@ -273,14 +361,17 @@ public IMixinWorldServer getMixinWorld() {
     }
 
     public PhaseData getCurrentPhaseData() {
+        joinCrossWorldPhase();
         return this.stack.peek();
     }
 
     public IPhaseState getCurrentState() {
+        joinCrossWorldPhase();
         return this.stack.peekState();
     }
 
     public PhaseContext getCurrentContext() {
+        joinCrossWorldPhase();
         return this.stack.peekContext();
     }
 
@@ -305,7 +396,7 @@ public void notifyBlockOfStateChange(final BlockPos notifyPos, final Block sourc
         try {
             // Sponge start - prepare notification
             if (CauseTracker.ENABLED) {
-                final PhaseData peek = this.stack.peek();
+                final PhaseData peek = getCurrentPhaseData();
                 final IPhaseState state = peek.state;
                 state.getPhase().associateNeighborStateNotifier(state, peek.context, sourcePos, iblockstate.getBlock(), notifyPos, this.targetWorld, PlayerTracker.Type.NOTIFIER);
             }
@@ -350,7 +441,7 @@ public boolean setBlockState(final BlockPos pos, final IBlockState newState, fin
         }
 
         // Now we need to do some of our own logic to see if we need to capture.
-        final PhaseData phaseData = this.stack.peek();
+        final PhaseData phaseData = getCurrentPhaseData();
         final IPhaseState phaseState = phaseData.state;
         final boolean isComplete = phaseState == GeneralPhase.State.COMPLETE;
         if (CauseTracker.ENABLED && this.isVerbose && isComplete) {
@@ -471,7 +562,7 @@ public boolean spawnEntity(Entity entity) {
 
         final net.minecraft.entity.Entity minecraftEntity = EntityUtil.toNative(entity);
         final WorldServer minecraftWorld = this.getMinecraftWorld();
-        final PhaseData phaseData = this.stack.peek();
+        final PhaseData phaseData = getCurrentPhaseData();
         final IPhaseState phaseState = phaseData.state;
         final PhaseContext context = phaseData.context;
         final TrackingPhase phase = phaseState.getPhase();
@@ -543,7 +634,7 @@ public boolean spawnEntityWithCause(Entity entity, Cause cause) {
 
         final net.minecraft.entity.Entity minecraftEntity = EntityUtil.toNative(entity);
         final WorldServer minecraftWorld = this.getMinecraftWorld();
-        final PhaseData phaseData = this.stack.peek();
+        final PhaseData phaseData = getCurrentPhaseData();
         // Sponge End - continue with vanilla mechanics
 
         final int chunkX = MathHelper.floor_double(minecraftEntity.posX / 16.0D);
@@ -0,0 +1,110 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * A phase that is entered on a single origin, but that any other
+ * participant (usually the {@link CauseTracker} of another world) joins
+ * lazily the first time it is touched while the phase is active. This
+ * replaces eagerly entering the same state in every loaded world when
+ * only the origin world is likely to be affected.
+ *
+ * @param <T> The participant type
+ */
+public final class CrossWorldPhase<T> {
+
+    private static long entered;
+    private static long joins;
+
+    final T origin;
+    final IPhaseState state;
+    private final Supplier<PhaseContext> contextFactory;
+    private final Thread thread;
+    @Nullable final CrossWorldPhase<T> previous;
+    private final List<T> joined = new ArrayList<>(2);
+
+    CrossWorldPhase(T origin, IPhaseState state, Supplier<PhaseContext> contextFactory, @Nullable CrossWorldPhase<T> previous) {
+        this.origin = checkNotNull(origin, "origin");
+        this.state = checkNotNull(state, "state");
+        this.contextFactory = checkNotNull(contextFactory, "contextFactory");
+        this.thread = Thread.currentThread();
+        this.previous = previous;
+        entered++;
+    }
+
+    /**
+     * Gets whether the given participant still has to enter this phase.
+     * The origin and participants that already joined (even if they have
+     * completed the phase since) never join again.
+     *
+     * @param participant The participant
+     * @return True if the participant should enter the phase now
+     */
+    boolean join(T participant) {
+        if (Thread.currentThread() != this.thread || participant == this.origin) {
+            return false;
+        }
+        for (int i = 0; i < this.joined.size(); i++) {
+            if (this.joined.get(i) == participant) {
+                return false;
+            }
+        }
+        this.joined.add(participant);
+        joins++;
+        return true;
+    }
+
+    PhaseContext createContext() {
+        return this.contextFactory.get();
+    }
+
+    /**
+     * Gets the participants that joined this phase, in the order
+     * they joined. The list may grow while the joined participants
+     * are completing their phase.
+     *
+     * @return The joined participants
+     */
+    List<T> getJoined() {
+        return this.joined;
+    }
+
+    public static long getEntered() {
+        return entered;
+    }
+
+    public static long getJoins() {
+        return joins;
+    }
+
+}
@@ -28,6 +28,7 @@
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.collect.Multimap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -46,6 +47,7 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -63,8 +65,46 @@
  */
 public class PhaseContext {
 
+    // The well-known entries added by the tracker itself are kept in slots
+    // rather than as named causes, these are only created when iterating
+    private static final String[] SLOT_NAMES = {
+            NamedCause.SOURCE,
+            NamedCause.OWNER,
+            NamedCause.NOTIFIER,
+            InternalNamedCauses.Tracker.CAPTURED_BLOCKS,
+            InternalNamedCauses.Tracker.CAPTURED_BLOCK_ITEM_DROPS,
+            InternalNamedCauses.Tracker.CAPTURED_BLOCK_DROPS,
+            InternalNamedCauses.Tracker.CAPTURED_ITEMS,
+            InternalNamedCauses.Tracker.CAPTURED_ENTITIES,
+            InternalNamedCauses.Tracker.CAPTURED_ITEM_STACKS,
+            InternalNamedCauses.Tracker.CAPTURED_ENTITY_STACK_DROPS,
+            InternalNamedCauses.Tracker.CAPTURED_ENTITY_ITEM_DROPS,
+            InternalNamedCauses.Tracker.CAPTURED_PLAYER
+    };
+    private static final int SOURCE = 0;
+    private static final int OWNER = 1;
+    private static final int NOTIFIER = 2;
+    private static final int CAPTURED_BLOCKS = 3;
+    private static final int CAPTURED_BLOCK_ITEM_DROPS = 4;
+    private static final int CAPTURED_BLOCK_DROPS = 5;
+    private static final int CAPTURED_ITEMS = 6;
+    private static final int CAPTURED_ENTITIES = 7;
+    private static final int CAPTURED_ITEM_STACKS = 8;
+    private static final int CAPTURED_ENTITY_STACK_DROPS = 9;
+    private static final int CAPTURED_ENTITY_ITEM_DROPS = 10;
+    private static final int CAPTURED_PLAYER = 11;
+
     private boolean isCompleted = false;
-    private final ArrayList<NamedCause> contextObjects = new ArrayList<>(10);
+    private final Object[] slots = new Object[SLOT_NAMES.length];
+    private final ArrayList<NamedCause> contextObjects = new ArrayList<>(4);
+    // The order entries were added in, lookups and iteration still follow it
+    private final int[] slotOrder = new int[SLOT_NAMES.length];
+    private final IntArrayList contextOrder = new IntArrayList(4);
+    private int added;
+    // The last result of first(Class), valid as long as nothing was added since
+    @Nullable private Class<?> lastFirstClass;
+    private Optional<?> lastFirst = Optional.empty();
+    private int lastFirstAdded;
     @Nullable private Cause cause = null;
 
     @Nullable private CapturedBlocksSupplier blocksSupplier;
@@ -80,6 +120,10 @@ public class PhaseContext {
 
     private Object source;
 
+    // Only set for contexts pooled by a CauseTracker
+    @Nullable private final PooledCaptures pooledCaptures;
+    @Nullable private PhaseData pooledData;
+
     public static PhaseContext start() {
         return new PhaseContext();
     }
@@ -89,20 +133,81 @@ public PhaseContext add(@Nullable NamedCause namedCause) {
             return this;
         }
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
-        this.contextObjects.add(namedCause);
-        if (namedCause.getName().equals(NamedCause.SOURCE)) {
+        final int slot = slotOf(namedCause.getName());
+        if (slot == -1 || this.slots[slot] != null) {
+            this.contextObjects.add(namedCause);
+            this.contextOrder.add(this.added++);
+        } else {
+            this.slots[slot] = namedCause.getCauseObject();
+            this.slotOrder[slot] = this.added++;
+        }
+        if (slot == SOURCE) {
             this.source = namedCause.getCauseObject();
         }
         return this;
     }
 
+    private static int slotOf(String name) {
+        switch (name) {
+            case NamedCause.SOURCE:
+                return SOURCE;
+            case NamedCause.OWNER:
+                return OWNER;
+            case NamedCause.NOTIFIER:
+                return NOTIFIER;
+            case InternalNamedCauses.Tracker.CAPTURED_BLOCKS:
+                return CAPTURED_BLOCKS;
+            case InternalNamedCauses.Tracker.CAPTURED_BLOCK_ITEM_DROPS:
+                return CAPTURED_BLOCK_ITEM_DROPS;
+            case InternalNamedCauses.Tracker.CAPTURED_BLOCK_DROPS:
+                return CAPTURED_BLOCK_DROPS;
+            case InternalNamedCauses.Tracker.CAPTURED_ITEMS:
+                return CAPTURED_ITEMS;
+            case InternalNamedCauses.Tracker.CAPTURED_ENTITIES:
+                return CAPTURED_ENTITIES;
+            case InternalNamedCauses.Tracker.CAPTURED_ITEM_STACKS:
+                return CAPTURED_ITEM_STACKS;
+            case InternalNamedCauses.Tracker.CAPTURED_ENTITY_STACK_DROPS:
+                return CAPTURED_ENTITY_STACK_DROPS;
+            case InternalNamedCauses.Tracker.CAPTURED_ENTITY_ITEM_DROPS:
+                return CAPTURED_ENTITY_ITEM_DROPS;
+            case InternalNamedCauses.Tracker.CAPTURED_PLAYER:
+                return CAPTURED_PLAYER;
+            default:
+                return -1;
+        }
+    }
+
+    private static int slotOfIgnoreCase(String name) {
+        final int slot = slotOf(name);
+        if (slot != -1) {
+            return slot;
+        }
+        for (int i = 0; i < SLOT_NAMES.length; i++) {
+            if (SLOT_NAMES[i].equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void addSlot(int slot, Object object) {
+        if (this.slots[slot] == null) {
+            this.slots[slot] = object;
+            this.slotOrder[slot] = this.added++;
+        } else {
+            this.contextObjects.add(NamedCause.of(SLOT_NAMES[slot], object));
+            this.contextOrder.add(this.added++);
+        }
+    }
+
     public PhaseContext owner(User owner) {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         if (this.owner != null) {
             throw new IllegalStateException("Owner for this phase context is already set!");
         }
         this.owner = checkNotNull(owner, "Owner cannot be null!");
-        this.contextObjects.add(NamedCause.owner(owner));
+        this.addSlot(OWNER, owner);
         return this;
     }
 
@@ -112,7 +217,7 @@ public PhaseContext notifier(User notifier) {
             throw new IllegalStateException("Notifier for this phase context is already set!");
         }
         this.notifier = checkNotNull(notifier, "Notifier cannot be null!");
-        this.contextObjects.add(NamedCause.notifier(notifier));
+        this.addSlot(NOTIFIER, notifier);
         return this;
     }
 
@@ -126,15 +231,7 @@ public PhaseContext addBlockCaptures() {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         this.checkBlockSuppliers();
 
-        CapturedBlocksSupplier blocksSupplier = new CapturedBlocksSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, blocksSupplier));
-        this.blocksSupplier = blocksSupplier;
-        BlockItemEntityDropsSupplier blockItemEntityDropsSupplier = new BlockItemEntityDropsSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_ITEM_DROPS, blockItemEntityDropsSupplier));
-        this.blockItemEntityDropsSupplier = blockItemEntityDropsSupplier;
-        BlockItemDropsSupplier blockItemDropsSupplier = new BlockItemDropsSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_DROPS, blockItemDropsSupplier));
-        this.blockItemDropsSupplier = blockItemDropsSupplier;
+        this.captureBlocks();
         return this;
     }
 
@@ -145,24 +242,8 @@ public PhaseContext addCaptures() {
         checkState(this.capturedEntitiesSupplier == null, "CapturedEntitiesSupplier is already set!");
         checkState(this.capturedItemStackSupplier == null, "CapturedItemStackSupplier is already set!");
 
-        CapturedBlocksSupplier blocksSupplier = new CapturedBlocksSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, blocksSupplier));
-        this.blocksSupplier = blocksSupplier;
-        BlockItemEntityDropsSupplier blockItemEntityDropsSupplier = new BlockItemEntityDropsSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_ITEM_DROPS, blockItemEntityDropsSupplier));
-        this.blockItemEntityDropsSupplier = blockItemEntityDropsSupplier;
-        BlockItemDropsSupplier blockItemDropsSupplier = new BlockItemDropsSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_DROPS, blockItemDropsSupplier));
-        this.blockItemDropsSupplier = blockItemDropsSupplier;
-        CapturedItemsSupplier capturedItemsSupplier = new CapturedItemsSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ITEMS, capturedItemsSupplier));
-        this.capturedItemsSupplier = capturedItemsSupplier;
-        CapturedEntitiesSupplier capturedEntitiesSupplier = new CapturedEntitiesSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITIES, capturedEntitiesSupplier));
-        this.capturedEntitiesSupplier = capturedEntitiesSupplier;
-        CapturedItemStackSupplier capturedItemStackSupplier = new CapturedItemStackSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ITEM_STACKS, capturedItemStackSupplier));
-        this.capturedItemStackSupplier = capturedItemStackSupplier;
+        this.captureBlocks();
+        this.captureEntities();
         return this;
     }
 
@@ -172,15 +253,7 @@ public PhaseContext addEntityCaptures() {
         checkState(this.capturedEntitiesSupplier == null, "CapturedEntitiesSupplier is already set!");
         checkState(this.capturedItemStackSupplier == null, "CapturedItemStackSupplier is already set!");
 
-        CapturedItemsSupplier capturedItemsSupplier = new CapturedItemsSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ITEMS, capturedItemsSupplier));
-        this.capturedItemsSupplier = capturedItemsSupplier;
-        CapturedEntitiesSupplier capturedEntitiesSupplier = new CapturedEntitiesSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITIES, capturedEntitiesSupplier));
-        this.capturedEntitiesSupplier = capturedEntitiesSupplier;
-        CapturedItemStackSupplier capturedItemStackSupplier = new CapturedItemStackSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ITEM_STACKS, capturedItemStackSupplier));
-        this.capturedItemStackSupplier = capturedItemStackSupplier;
+        this.captureEntities();
         return this;
     }
 
@@ -189,24 +262,61 @@ public PhaseContext addEntityDropCaptures() {
         checkState(this.entityItemDropsSupplier == null, "EntityItemDropsSupplier is already set!");
         checkState(this.entityItemEntityDropsSupplier == null, "EntityItemEntityDropsSupplier is already set!");
 
-        EntityItemDropsSupplier entityItemDropsSupplier = new EntityItemDropsSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITY_STACK_DROPS, entityItemDropsSupplier));
-        this.entityItemDropsSupplier = entityItemDropsSupplier;
-        EntityItemEntityDropsSupplier entityItemEntityDropsSupplier = new EntityItemEntityDropsSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITY_ITEM_DROPS, entityItemEntityDropsSupplier));
-        this.entityItemEntityDropsSupplier = entityItemEntityDropsSupplier;
+        this.captureEntityDrops();
         return this;
     }
 
+    private void captureBlocks() {
+        if (this.pooledCaptures != null) {
+            this.blocksSupplier = this.pooledCaptures.blocksSupplier;
+            this.blockItemEntityDropsSupplier = this.pooledCaptures.blockItemEntityDropsSupplier;
+            this.blockItemDropsSupplier = this.pooledCaptures.blockItemDropsSupplier;
+        } else {
+            this.blocksSupplier = new CapturedBlocksSupplier();
+            this.blockItemEntityDropsSupplier = new BlockItemEntityDropsSupplier();
+            this.blockItemDropsSupplier = new BlockItemDropsSupplier();
+        }
+        this.addSlot(CAPTURED_BLOCKS, this.blocksSupplier);
+        this.addSlot(CAPTURED_BLOCK_ITEM_DROPS, this.blockItemEntityDropsSupplier);
+        this.addSlot(CAPTURED_BLOCK_DROPS, this.blockItemDropsSupplier);
+    }
+
+    private void captureEntities() {
+        if (this.pooledCaptures != null) {
+            this.capturedItemsSupplier = this.pooledCaptures.capturedItemsSupplier;
+            this.capturedEntitiesSupplier = this.pooledCaptures.capturedEntitiesSupplier;
+            this.capturedItemStackSupplier = this.pooledCaptures.capturedItemStackSupplier;
+        } else {
+            this.capturedItemsSupplier = new CapturedItemsSupplier();
+            this.capturedEntitiesSupplier = new CapturedEntitiesSupplier();
+            this.capturedItemStackSupplier = new CapturedItemStackSupplier();
+        }
+        this.addSlot(CAPTURED_ITEMS, this.capturedItemsSupplier);
+        this.addSlot(CAPTURED_ENTITIES, this.capturedEntitiesSupplier);
+        this.addSlot(CAPTURED_ITEM_STACKS, this.capturedItemStackSupplier);
+    }
+
+    private void captureEntityDrops() {
+        if (this.pooledCaptures != null) {
+            this.entityItemDropsSupplier = this.pooledCaptures.entityItemDropsSupplier;
+            this.entityItemEntityDropsSupplier = this.pooledCaptures.entityItemEntityDropsSupplier;
+        } else {
+            this.entityItemDropsSupplier = new EntityItemDropsSupplier();
+            this.entityItemEntityDropsSupplier = new EntityItemEntityDropsSupplier();
+        }
+        this.addSlot(CAPTURED_ENTITY_STACK_DROPS, this.entityItemDropsSupplier);
+        this.addSlot(CAPTURED_ENTITY_ITEM_DROPS, this.entityItemEntityDropsSupplier);
+    }
+
     public PhaseContext player() {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_PLAYER, new CapturePlayer()));
+        this.addSlot(CAPTURED_PLAYER, new CapturePlayer());
         return this;
     }
 
     public PhaseContext player(@Nullable Player player) {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_PLAYER, new CapturePlayer(player)));
+        this.addSlot(CAPTURED_PLAYER, new CapturePlayer(player));
         return this;
     }
 
@@ -219,45 +329,52 @@ public boolean isComplete() {
         return this.isCompleted;
     }
 
-    @Nullable private Class<?> cachedClass;
-    @Nullable private Object cachedObject;
-    @Nullable private String cachedName;
-
     @SuppressWarnings("unchecked")
     public <T> Optional<T> first(Class<T> tClass) {
-        if (this.cachedClass != null && this.cachedClass == tClass) {
-            if (this.cachedObject != null) {
-                return Optional.of((T) this.cachedObject);
+        if (tClass == this.lastFirstClass && this.lastFirstAdded == this.added) {
+            return (Optional<T>) this.lastFirst;
+        }
+        final Optional<T> first = this.findFirst(tClass);
+        this.lastFirstClass = tClass;
+        this.lastFirst = first;
+        this.lastFirstAdded = this.added;
+        return first;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> findFirst(Class<T> tClass) {
+        int slot = -1;
+        for (int i = 0; i < this.slots.length; i++) {
+            if (tClass.isInstance(this.slots[i]) && (slot == -1 || this.slotOrder[i] < this.slotOrder[slot])) {
+                slot = i;
             }
         }
-        for (NamedCause cause : this.contextObjects) {
-            if (tClass.isInstance(cause.getCauseObject())) {
-                Object causeObject = cause.getCauseObject();
-                this.cachedClass = tClass;
-                this.cachedObject = causeObject;
-                this.cachedName = cause.getName();
-                return Optional.of((T) causeObject);
+        for (int i = 0; i < this.contextObjects.size(); i++) {
+            final Object object = this.contextObjects.get(i).getCauseObject();
+            if (tClass.isInstance(object)) {
+                if (slot == -1 || this.contextOrder.getInt(i) < this.slotOrder[slot]) {
+                    return Optional.of((T) object);
+                }
+                break;
             }
         }
-        return Optional.empty();
+        return slot == -1 ? Optional.empty() : Optional.of((T) this.slots[slot]);
     }
 
     @SuppressWarnings("unchecked")
     public <T> Optional<T> firstNamed(String name, Class<T> tClass) {
-        if (name.equals(this.cachedName) && tClass == this.cachedClass) {
-            if (this.cachedObject != null) {
-                return Optional.of((T) this.cachedObject);
-            }
-        }
-        for (NamedCause cause : this.contextObjects) {
+        final int slot = slotOfIgnoreCase(name);
+        final boolean inSlot = slot != -1 && tClass.isInstance(this.slots[slot]);
+        for (int i = 0; i < this.contextObjects.size(); i++) {
+            final NamedCause cause = this.contextObjects.get(i);
             if (cause.getName().equalsIgnoreCase(name) && tClass.isInstance(cause.getCauseObject())) {
-                this.cachedObject = cause.getCauseObject();
-                this.cachedClass = tClass;
-                this.cachedName = name;
-                return Optional.of((T) cause.getCauseObject());
+                if (!inSlot || this.contextOrder.getInt(i) < this.slotOrder[slot]) {
+                    return Optional.of((T) cause.getCauseObject());
+                }
+                break;
             }
         }
-        return Optional.empty();
+        return inSlot ? Optional.of((T) this.slots[slot]) : Optional.empty();
     }
 
     @SuppressWarnings("unchecked")
@@ -279,11 +396,11 @@ public Optional<User> getNotifier() {
         return Optional.ofNullable(this.notifier);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public List<Entity> getCapturedEntities() throws IllegalStateException {
-        return firstNamed(InternalNamedCauses.Tracker.CAPTURED_ENTITIES, CapturedEntitiesSupplier.class)
-                .map(CapturedEntitiesSupplier::get)
-                .orElseThrow(TrackingUtil.throwWithContext("Intended to capture entity spawns!", this));
+        if (this.capturedEntitiesSupplier == null) {
+            throw TrackingUtil.throwWithContext("Intended to capture entity spawns!", this).get();
+        }
+        return this.capturedEntitiesSupplier.get();
     }
 
     @SuppressWarnings("unchecked")
@@ -310,11 +427,11 @@ public CapturedSupplier<EntityItem> getCapturedItemsSupplier() throws IllegalSta
         return this.capturedItemsSupplier;
     }
 
-    @SuppressWarnings("unchecked")
     public List<BlockSnapshot> getCapturedBlocks() throws IllegalStateException {
-        return firstNamed(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, CapturedBlocksSupplier.class)
-                .map(CapturedBlocksSupplier::get)
-                .orElseThrow(TrackingUtil.throwWithContext("Intended to capture block changes, but there is no list available!", this));
+        if (this.blocksSupplier == null) {
+            throw TrackingUtil.throwWithContext("Intended to capture block changes, but there is no list available!", this).get();
+        }
+        return this.blocksSupplier.get();
     }
 
     @SuppressWarnings("unchecked")
@@ -373,28 +490,113 @@ public CapturedSupplier<ItemDropData> getCapturedItemStackSupplier() throws Ille
     }
 
     public CapturePlayer getCapturedPlayerSupplier() throws IllegalStateException {
-        return this.firstNamed(InternalNamedCauses.Tracker.CAPTURED_PLAYER, CapturePlayer.class)
-                .orElseThrow(
-                        TrackingUtil.throwWithContext("Expected to be capturing a Player from an event listener, but we're not capturing them!", this));
+        final Object capturePlayer = this.slots[CAPTURED_PLAYER];
+        if (!(capturePlayer instanceof CapturePlayer)) {
+            throw TrackingUtil.throwWithContext("Expected to be capturing a Player from an event listener, but we're not capturing them!", this).get();
+        }
+        return (CapturePlayer) capturePlayer;
     }
 
     public Optional<Player> getCapturedPlayer() throws IllegalStateException {
-        return this.firstNamed(InternalNamedCauses.Tracker.CAPTURED_PLAYER, CapturePlayer.class)
-                .orElseThrow(
-                        TrackingUtil.throwWithContext("Expected to be capturing a Player from an event listener, but we're not capturing them!", this))
-                .getPlayer();
+        return this.getCapturedPlayerSupplier().getPlayer();
     }
 
+    /**
+     * Passes all objects in this context to the consumer as named causes.
+     * The named causes of the well-known tracker entries are created on
+     * each call, so this should only be used when building a {@link Cause}
+     * or printing the context.
+     *
+     * @param consumer The consumer
+     */
     public void forEach(Consumer<NamedCause> consumer) {
-        this.contextObjects.forEach(consumer);
+        this.getNamedCauses().forEach(consumer);
+    }
+
+    private List<NamedCause> getNamedCauses() {
+        final List<NamedCause> namedCauses = new ArrayList<>(SLOT_NAMES.length + this.contextObjects.size());
+        final boolean[] listed = new boolean[SLOT_NAMES.length];
+        int next = 0;
+        while (true) {
+            // The earliest slot not listed yet
+            int slot = -1;
+            for (int i = 0; i < SLOT_NAMES.length; i++) {
+                if (this.slots[i] != null && !listed[i] && (slot == -1 || this.slotOrder[i] < this.slotOrder[slot])) {
+                    slot = i;
+                }
+            }
+            if (slot == -1) {
+                break;
+            }
+            while (next < this.contextObjects.size() && this.contextOrder.getInt(next) < this.slotOrder[slot]) {
+                namedCauses.add(this.contextObjects.get(next++));
+            }
+            namedCauses.add(NamedCause.of(SLOT_NAMES[slot], this.slots[slot]));
+            listed[slot] = true;
+        }
+        namedCauses.addAll(this.contextObjects.subList(next, this.contextObjects.size()));
+        return namedCauses;
     }
 
     PhaseContext() {
+        this.pooledCaptures = null;
+    }
+
+    PhaseContext(boolean pooled) {
+        this.pooledCaptures = pooled ? new PooledCaptures() : null;
+    }
+
+    boolean isPooled() {
+        return this.pooledCaptures != null;
+    }
+
+    /**
+     * Gets the {@link PhaseData} for this pooled context in the given state,
+     * reusing the previous one if this context was last pushed in the same
+     * state.
+     *
+     * @param state The state this context is being pushed with
+     * @return The phase data
+     */
+    PhaseData getPooledData(IPhaseState state) {
+        if (this.pooledData == null || this.pooledData.state != state) {
+            this.pooledData = new PhaseData(this, state);
+        }
+        return this.pooledData;
+    }
+
+    /**
+     * Resets this pooled context so it can be started again. Captured lists
+     * are dropped rather than cleared, as they may have been handed out to
+     * events, and are lazily created again only when something is captured.
+     */
+    void reset() {
+        checkState(this.pooledCaptures != null, "Only pooled contexts can be reset!");
+        this.isCompleted = false;
+        Arrays.fill(this.slots, null);
+        this.contextObjects.clear();
+        this.contextOrder.clear();
+        this.added = 0;
+        this.lastFirstClass = null;
+        this.lastFirst = Optional.empty();
+        this.cause = null;
+        this.blocksSupplier = null;
+        this.blockItemDropsSupplier = null;
+        this.blockItemEntityDropsSupplier = null;
+        this.capturedItemsSupplier = null;
+        this.capturedEntitiesSupplier = null;
+        this.capturedItemStackSupplier = null;
+        this.entityItemDropsSupplier = null;
+        this.entityItemEntityDropsSupplier = null;
+        this.owner = null;
+        this.notifier = null;
+        this.source = null;
+        this.pooledCaptures.reset();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.isCompleted, this.contextObjects, this.cause);
+        return Objects.hash(this.isCompleted, Arrays.hashCode(this.slots), this.contextObjects, this.cause);
     }
 
     @Override
@@ -407,6 +609,7 @@ public boolean equals(@Nullable Object obj) {
         }
         final PhaseContext other = (PhaseContext) obj;
         return Objects.equals(this.isCompleted, other.isCompleted)
+               && Arrays.equals(this.slots, other.slots)
                && Objects.equals(this.contextObjects, other.contextObjects)
                && Objects.equals(this.cause, other.cause);
     }
@@ -415,11 +618,38 @@ public boolean equals(@Nullable Object obj) {
     public String toString() {
         return com.google.common.base.Objects.toStringHelper(this)
                 .add("isCompleted", this.isCompleted)
-                .add("contextObjects", this.contextObjects)
+                .add("contextObjects", this.getNamedCauses())
                 .add("cause", this.cause)
                 .toString();
     }
 
+    /**
+     * The suppliers of a pooled context, created once and reused each time
+     * the context is started.
+     */
+    static final class PooledCaptures {
+
+        final CapturedBlocksSupplier blocksSupplier = new CapturedBlocksSupplier();
+        final BlockItemEntityDropsSupplier blockItemEntityDropsSupplier = new BlockItemEntityDropsSupplier();
+        final BlockItemDropsSupplier blockItemDropsSupplier = new BlockItemDropsSupplier();
+        final CapturedItemsSupplier capturedItemsSupplier = new CapturedItemsSupplier();
+        final CapturedEntitiesSupplier capturedEntitiesSupplier = new CapturedEntitiesSupplier();
+        final CapturedItemStackSupplier capturedItemStackSupplier = new CapturedItemStackSupplier();
+        final EntityItemDropsSupplier entityItemDropsSupplier = new EntityItemDropsSupplier();
+        final EntityItemEntityDropsSupplier entityItemEntityDropsSupplier = new EntityItemEntityDropsSupplier();
+
+        void reset() {
+            this.blocksSupplier.reset();
+            this.blockItemEntityDropsSupplier.reset();
+            this.blockItemDropsSupplier.reset();
+            this.capturedItemsSupplier.reset();
+            this.capturedEntitiesSupplier.reset();
+            this.capturedItemStackSupplier.reset();
+            this.entityItemDropsSupplier.reset();
+            this.entityItemEntityDropsSupplier.reset();
+        }
+    }
+
     static class BlockItemDropsSupplier extends CapturedMultiMapSupplier<BlockPos, ItemDropData> {
 
         BlockItemDropsSupplier() {
@@ -69,6 +69,7 @@
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.InternalNamedCauses;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.phase.BlockPhase;
 import org.spongepowered.common.event.tracking.phase.GeneralPhase;
 import org.spongepowered.common.event.tracking.phase.TickPhase;
@@ -130,7 +131,7 @@ public final class TrackingUtil {
     public static void tickEntity(CauseTracker causeTracker, net.minecraft.entity.Entity entityIn) {
         checkArgument(entityIn instanceof Entity, "Entity %s is not an instance of SpongeAPI's Entity!", entityIn);
         checkNotNull(entityIn, "Cannot capture on a null ticking entity!");
-        final PhaseContext phaseContext = PhaseContext.start()
+        final PhaseContext phaseContext = causeTracker.startContext()
                 .add(NamedCause.source(entityIn))
                 .addEntityCaptures()
                 .addBlockCaptures();
@@ -152,7 +153,7 @@ public static void tickEntity(CauseTracker causeTracker, net.minecraft.entity.En
     public static void tickRidingEntity(CauseTracker causeTracker, net.minecraft.entity.Entity entity) {
         checkArgument(entity instanceof Entity, "Entity %s is not an instance of SpongeAPI's Entity!", entity);
         checkNotNull(entity, "Cannot capture on a null ticking entity!");
-        final PhaseContext phaseContext = PhaseContext.start()
+        final PhaseContext phaseContext = causeTracker.startContext()
                 .add(NamedCause.source(entity))
                 .addEntityCaptures()
                 .addBlockCaptures();
@@ -173,7 +174,7 @@ public static void tickRidingEntity(CauseTracker causeTracker, net.minecraft.ent
     public static void tickTileEntity(CauseTracker causeTracker, ITickable tile) {
         checkArgument(tile instanceof TileEntity, "ITickable %s is not a TileEntity!", tile);
         checkNotNull(tile, "Cannot capture on a null ticking tile entity!");
-        final PhaseContext phaseContext = PhaseContext.start()
+        final PhaseContext phaseContext = causeTracker.startContext()
                 .add(NamedCause.source(tile))
                 .addEntityCaptures()
                 .addBlockCaptures();
@@ -205,12 +206,14 @@ public static void updateTickBlock(CauseTracker causeTracker, Block block, Block
         final IMixinWorldServer mixinWorld = causeTracker.getMixinWorld();
         final WorldServer minecraftWorld = causeTracker.getMinecraftWorld();
         BlockSnapshot snapshot = mixinWorld.createSpongeBlockSnapshot(state, state.getActualState(minecraftWorld, pos), pos, 0);
-        final TickBlockEvent event = SpongeEventFactory.createTickBlockEventScheduled(Cause.of(NamedCause.source(minecraftWorld)), snapshot);
-        SpongeImpl.postEvent(event);
-        if(event.isCancelled()) {
-            return;
+        if (ShouldFire.hasListeners(TickBlockEvent.class)) {
+            final TickBlockEvent event = SpongeEventFactory.createTickBlockEventScheduled(Cause.of(NamedCause.source(minecraftWorld)), snapshot);
+            SpongeImpl.postEvent(event);
+            if (event.isCancelled()) {
+                return;
+            }
         }
-        final PhaseContext phaseContext = PhaseContext.start()
+        final PhaseContext phaseContext = causeTracker.startContext()
                 .add(NamedCause.source(snapshot))
                 .addBlockCaptures()
                 .addEntityCaptures();
@@ -228,12 +231,14 @@ public static void randomTickBlock(CauseTracker causeTracker, Block block, Block
         final IMixinWorldServer mixinWorld = causeTracker.getMixinWorld();
         final WorldServer minecraftWorld = causeTracker.getMinecraftWorld();
         final BlockSnapshot currentTickBlock = mixinWorld.createSpongeBlockSnapshot(state, state.getActualState(minecraftWorld, pos), pos, 0);
-        final TickBlockEvent event = SpongeEventFactory.createTickBlockEventRandom(Cause.of(NamedCause.source(minecraftWorld)), currentTickBlock);
-        SpongeImpl.postEvent(event);
-        if(event.isCancelled()) {
-            return;
+        if (ShouldFire.hasListeners(TickBlockEvent.class)) {
+            final TickBlockEvent event = SpongeEventFactory.createTickBlockEventRandom(Cause.of(NamedCause.source(minecraftWorld)), currentTickBlock);
+            SpongeImpl.postEvent(event);
+            if (event.isCancelled()) {
+                return;
+            }
         }
-        final PhaseContext phaseContext = PhaseContext.start()
+        final PhaseContext phaseContext = causeTracker.startContext()
                 .add(NamedCause.source(currentTickBlock))
                 .addEntityCaptures()
                 .addBlockCaptures();
@@ -166,6 +166,28 @@ default boolean ignoresItemPreMerges() {
         default boolean doesCaptureEntityDrops() {
             return false;
         }
+
+        /**
+         * Gets whether packets in this state are processed without entering
+         * this state at all. Only states that capture nothing and have
+         * nothing to unwind may return true.
+         *
+         * @return True if the packet needs no phase context
+         */
+        default boolean isUntracked() {
+            return false;
+        }
+
+        /**
+         * Gets whether unwinding this state compares the cursor item from
+         * before the packet was processed, which must then be captured
+         * in the context.
+         *
+         * @return True if the cursor is snapshotted for this state
+         */
+        default boolean tracksCursor() {
+            return false;
+        }
     }
 
     public enum Inventory implements IPacketState, IPhaseState {
@@ -387,6 +409,11 @@ public boolean matches(int packetState) {
             return this.stateMask != MASK_NONE && ((packetState & this.stateMask & this.stateId) == (packetState & this.stateMask));
         }
 
+        @Override
+        public boolean tracksCursor() {
+            return true;
+        }
+
         @Override
         public void populateContext(EntityPlayerMP playerMP, Packet<?> packet, PhaseContext context) {
             if (playerMP.openContainer != null) {
@@ -492,6 +519,11 @@ public boolean tracksEntitySpecificDrops() {
             public boolean ignoresItemPreMerges() {
                 return true;
             }
+
+            @Override
+            public boolean isUntracked() {
+                return true;
+            }
         },
         INTERACT_ENTITY {
             @Override
@@ -698,6 +730,11 @@ public boolean isPacketIgnored(Packet<?> packetIn, EntityPlayerMP packetPlayer)
         STOP_SPRINTING,
         STOP_SLEEPING,
         CLOSE_WINDOW {
+            @Override
+            public boolean tracksCursor() {
+                return true;
+            }
+
             @Override
             public void populateContext(EntityPlayerMP playerMP, Packet<?> packet, PhaseContext context) {
                 context
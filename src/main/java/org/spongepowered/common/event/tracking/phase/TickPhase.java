@@ -64,6 +64,7 @@
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.InternalNamedCauses;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
@@ -514,7 +515,9 @@ public void processPostTick(CauseTracker causeTracker, PhaseContext phaseContext
                             }
                         }
                     });
-            this.fireMovementEvents(EntityUtil.toNative(tickingEntity), Cause.source(tickingEntity).build());
+            if (ShouldFire.hasListeners(MoveEntityEvent.class)) {
+                this.fireMovementEvents(EntityUtil.toNative(tickingEntity), Cause.source(tickingEntity).build());
+            }
         }
 
         private void fireMovementEvents(net.minecraft.entity.Entity entity, Cause cause) {
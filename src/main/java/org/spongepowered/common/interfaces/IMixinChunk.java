@@ -35,8 +35,8 @@
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.extent.EntityUniverse;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerTable;
 
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -46,9 +46,8 @@
 
 public interface IMixinChunk {
 
-    Map<Short, PlayerTracker> getTrackedShortPlayerPositions();
-
-    Map<Integer, PlayerTracker> getTrackedIntPlayerPositions();
+    @Nullable
+    PlayerTrackerTable getTrackedPlayers();
 
     Optional<User> getBlockOwner(BlockPos pos);
 
@@ -66,9 +65,7 @@ public interface IMixinChunk {
 
     void addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType);
 
-    void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
-
-    void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
+    void setTrackedPlayers(PlayerTrackerTable trackedPlayers);
 
     void setNeighbor(Direction direction, Chunk neighbor);
 
@@ -78,6 +75,16 @@ public interface IMixinChunk {
 
     void setScheduledForUnload(Long scheduled);
 
+    /**
+     * Recalculates the height map of a single column without touching any
+     * light values, callers are expected to check the light of the blocks
+     * they changed afterwards.
+     *
+     * @param x The local x coordinate of the column
+     * @param z The local z coordinate of the column
+     */
+    void updateHeightMap(int x, int z);
+
     void getIntersectingEntities(Vector3d start, Vector3d direction, double distance, Predicate<EntityUniverse.EntityHit> filter,
             double entryY, double exitY, Set<EntityUniverse.EntityHit> intersections);
 
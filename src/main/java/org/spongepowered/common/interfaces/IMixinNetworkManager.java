@@ -25,10 +25,12 @@
 package org.spongepowered.common.interfaces;
 
 import com.mojang.authlib.properties.Property;
+import net.minecraft.network.Packet;
 import org.spongepowered.api.MinecraftVersion;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.List;
 import java.util.UUID;
 
 public interface IMixinNetworkManager {
@@ -52,4 +54,11 @@ public interface IMixinNetworkManager {
     Property[] getSpoofedProfile();
 
     void setSpoofedProfile(Property[] profile);
+
+    /**
+     * Sends all packets with a single flush of the channel.
+     *
+     * @param packets The packets to send, in order
+     */
+    void sendPackets(List<Packet<?>> packets);
 }
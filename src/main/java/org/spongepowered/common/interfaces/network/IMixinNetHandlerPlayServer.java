@@ -35,4 +35,9 @@ public interface IMixinNetHandlerPlayServer {
     void setAllowClientLocationUpdate(boolean flag);
 
     void captureCurrentPlayerPosition();
+
+    /**
+     * Sends the packets queued during this tick.
+     */
+    void flushPacketQueue();
 }
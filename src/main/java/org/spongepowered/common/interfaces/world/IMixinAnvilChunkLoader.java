@@ -24,10 +24,15 @@
  */
 package org.spongepowered.common.interfaces.world;
 
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
+import javax.annotation.Nullable;
+
 public interface IMixinAnvilChunkLoader {
 
     // Forge method
@@ -35,4 +40,49 @@ public interface IMixinAnvilChunkLoader {
 
     Path getWorldDir();
 
+    /**
+     * Reads and decompresses the stored data of a chunk, taking chunks that
+     * are still pending a save into account. Safe to call off the main
+     * thread.
+     *
+     * <p>Unlike {@link org.spongepowered.common.world.storage.WorldStorageUtil#getChunkData},
+     * which hands out a translated copy of the level data for plugins, this
+     * returns the raw compound run through the data fixer, which is what
+     * creating a chunk from it requires.</p>
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The chunk compound, or null if the chunk was never saved
+     * @throws IOException If the region file could not be read
+     */
+    @Nullable
+    NBTTagCompound readChunkData(int x, int z) throws IOException;
+
+    /**
+     * Creates a chunk from the terrain data of the given chunk compound,
+     * without loading any entities, tile entities or scheduled ticks. Safe
+     * to call off the main thread. The tracked block owners and notifiers
+     * are read into the new chunk as well, which only touches the chunk
+     * itself, as no other thread can see it yet.
+     *
+     * @param world The world
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param compound The chunk compound, as read by {@link #readChunkData(int, int)}
+     * @return The chunk, or null if the data is invalid
+     */
+    @Nullable
+    Chunk readChunkTerrain(World world, int x, int z, NBTTagCompound compound);
+
+    /**
+     * Loads the entities, tile entities and scheduled ticks of a chunk
+     * created by {@link #readChunkTerrain(World, int, int, NBTTagCompound)}.
+     * Must be called on the main thread.
+     *
+     * @param world The world
+     * @param compound The chunk compound
+     * @param chunk The chunk
+     */
+    void loadChunkEntities(World world, NBTTagCompound compound, Chunk chunk);
+
 }
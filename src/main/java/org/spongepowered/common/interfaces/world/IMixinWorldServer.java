@@ -36,6 +36,7 @@
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.common.world.ChunkWorkScheduler;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
@@ -89,4 +90,6 @@ default boolean forceSpawnEntity(Entity entity) {
 
     long getChunkUnloadDelay();
 
+    ChunkWorkScheduler getChunkWorkScheduler();
+
 }
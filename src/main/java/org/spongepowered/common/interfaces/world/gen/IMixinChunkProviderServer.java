@@ -24,7 +24,53 @@
  */
 package org.spongepowered.common.interfaces.world.gen;
 
+import net.minecraft.world.chunk.Chunk;
+
+import javax.annotation.Nullable;
+
 public interface IMixinChunkProviderServer {
 
-    void setMaxChunkUnloads(int maxUnloads);
+    /**
+     * Gets a loaded chunk, or queues it to be loaded asynchronously if the
+     * world has asynchronous chunk loading enabled. Falls back to
+     * {@link net.minecraft.world.gen.ChunkProviderServer#loadChunk(int, int)}
+     * otherwise.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The chunk, or null if it is not loaded yet
+     */
+    @Nullable
+    Chunk loadChunkAsync(int x, int z);
+
+    /**
+     * Gets a loaded chunk, or queues it to be loaded asynchronously if the
+     * world has asynchronous chunk loading enabled. Chunks that don't exist
+     * yet are generated once the asynchronous load found them missing. Falls
+     * back to {@link net.minecraft.world.gen.ChunkProviderServer#provideChunk(int, int)}
+     * otherwise.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The chunk, or null if it is not loaded yet
+     */
+    @Nullable
+    Chunk provideChunkAsync(int x, int z);
+
+    /**
+     * Attaches chunks that finished loading asynchronously to the world,
+     * within the chunk work budget of the current tick.
+     */
+    void attachAsyncLoadedChunks();
+
+    int getPendingAsyncChunkLoads();
+
+    int getPendingChunkUnloads();
+
+    /**
+     * Writes the chunk to its chunk loader without unloading it.
+     *
+     * @param chunk The chunk to save
+     */
+    void saveChunk(Chunk chunk);
 }
@@ -71,6 +71,7 @@ public static void setupMixinEnvironment() {
         Mixins.addConfiguration("mixins.common.concurrentchecks.json");
         Mixins.addConfiguration("mixins.common.entityactivation.json");
         Mixins.addConfiguration("mixins.common.entitycollisions.json");
+        Mixins.addConfiguration("mixins.common.tileentityactivation.json");
         Mixins.addConfiguration("mixins.common.exploit.json");
         Mixins.addConfiguration("mixins.common.tracking.json");
         Mixins.addConfiguration("mixins.common.tostring.json");
@@ -158,7 +158,7 @@ public boolean supports(Class<? extends DataManipulator<?, ?>> holderClass) {
     public <E> DataTransactionResult offer(Key<? extends BaseValue<E>> key, E value) {
         TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
         SpongeTimings.dataOfferKey.startTimingIfSync();
-        final Optional<ValueProcessor<E, ? extends BaseValue<E>>> optional = SpongeDataManager.getInstance().getBaseValueProcessor(key);
+        final Optional<ValueProcessor<E, ? extends BaseValue<E>>> optional = SpongeDataManager.getInstance().getBaseValueProcessor(checkNotNull(key), getClass());
         if (optional.isPresent()) {
             final DataTransactionResult result = optional.get().offerToStore(this, value);
             SpongeTimings.dataOfferKey.stopTimingIfSync();
@@ -258,7 +258,7 @@ public DataTransactionResult remove(Class<? extends DataManipulator<?, ?>> conta
     public DataTransactionResult remove(Key<?> key) {
         TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
         SpongeTimings.dataRemoveKey.startTimingIfSync();
-        final Optional<ValueProcessor<?, ?>> optional = SpongeDataManager.getInstance().getWildValueProcessor(checkNotNull(key));
+        final Optional<ValueProcessor<?, ?>> optional = SpongeDataManager.getInstance().getWildValueProcessor(checkNotNull(key), getClass());
         if (optional.isPresent()) {
             final DataTransactionResult result = optional.get().removeFrom(this);
             SpongeTimings.dataRemoveKey.stopTimingIfSync();
@@ -306,7 +306,7 @@ public DataTransactionResult copyFrom(DataHolder that, MergeFunction function) {
     public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
         TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
         SpongeTimings.dataGetByKey.startTimingIfSync();
-        final Optional<ValueProcessor<E, ? extends BaseValue<E>>> optional = SpongeDataManager.getInstance().getBaseValueProcessor(checkNotNull(key));
+        final Optional<ValueProcessor<E, ? extends BaseValue<E>>> optional = SpongeDataManager.getInstance().getBaseValueProcessor(checkNotNull(key), getClass());
         if (optional.isPresent()) {
             final Optional<E> value = optional.get().getValueFromContainer(this);
             SpongeTimings.dataGetByKey.stopTimingIfSync();
@@ -327,7 +327,7 @@ public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
     public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
         TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
         SpongeTimings.dataGetValue.startTimingIfSync();
-        final Optional<ValueProcessor<E, V>> optional = SpongeDataManager.getInstance().getValueProcessor(checkNotNull(key));
+        final Optional<ValueProcessor<E, V>> optional = SpongeDataManager.getInstance().getValueProcessor(checkNotNull(key), getClass());
         if (optional.isPresent()) {
             final Optional<V> value = optional.get().getApiValueFromContainer(this);
             SpongeTimings.dataGetValue.stopTimingIfSync();
@@ -348,7 +348,7 @@ public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
     public boolean supports(Key<?> key) {
         TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
         SpongeTimings.dataSupportsKey.startTimingIfSync();
-        final Optional<ValueProcessor<?, ?>> optional = SpongeDataManager.getInstance().getWildValueProcessor(checkNotNull(key));
+        final Optional<ValueProcessor<?, ?>> optional = SpongeDataManager.getInstance().getWildValueProcessor(checkNotNull(key), getClass());
         if (optional.isPresent()) {
             final boolean supports = optional.get().supports(this);
             SpongeTimings.dataSupportsKey.stopTimingIfSync();
@@ -112,11 +112,11 @@
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayerMP;
 import org.spongepowered.common.interfaces.network.IMixinNetHandlerPlayServer;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.network.OutboundPacketQueue;
 import org.spongepowered.common.network.PacketUtil;
 import org.spongepowered.common.registry.provider.DirectionFacingProvider;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.VecHelper;
-import org.spongepowered.common.world.WorldManager;
 
 import java.net.InetSocketAddress;
 import java.util.HashMap;
@@ -166,6 +166,8 @@ public abstract class MixinNetHandlerPlayServer implements PlayerConnection, IMi
     private boolean allowClientLocationUpdate = true;
     @Nullable private Item lastItem;
 
+    private final OutboundPacketQueue packetQueue = new OutboundPacketQueue();
+
     @Override
     public void captureCurrentPlayerPosition() {
         this.captureCurrentPosition();
@@ -204,32 +206,17 @@ private void onPlayerTick(EntityPlayerMP playerEntity) {
         }
         final IMixinWorldServer mixinWorldServer = (IMixinWorldServer) playerEntity.worldObj;
         final CauseTracker causeTracker = mixinWorldServer.getCauseTracker();
-        causeTracker.switchToPhase(TickPhase.Tick.PLAYER, PhaseContext.start()
+        // Other worlds only enter the phase once the player's tick touches them
+        causeTracker.enterCrossWorldPhase(TickPhase.Tick.PLAYER, () -> PhaseContext.start()
                 .add(NamedCause.source(playerEntity))
                 .addCaptures()
                 .addEntityDropCaptures()
                 //.addBlockCaptures()
                 .complete());
-        for (WorldServer worldServer : WorldManager.getWorlds()) {
-            if (worldServer == mixinWorldServer) { // we don't care about entering the phase for this world server of which we already entered
-                continue;
-            }
-            final IMixinWorldServer otherMixinWorldServer = (IMixinWorldServer) worldServer;
-            otherMixinWorldServer.getCauseTracker().switchToPhase(TickPhase.Tick.PLAYER, PhaseContext.start()
-                    .add(NamedCause.source(playerEntity))
-                    .addCaptures()
-                    .addEntityDropCaptures()
-                    //.addBlockCaptures()
-                    .complete());
-        }
-        playerEntity.onUpdateEntity();
-        causeTracker.completePhase();
-        for (WorldServer worldServer : WorldManager.getWorlds()) {
-            if (worldServer == mixinWorldServer) { // we don't care about entering the phase for this world server of which we already entered
-                continue;
-            }
-            final IMixinWorldServer otherMixinWorldServer = (IMixinWorldServer) worldServer;
-            otherMixinWorldServer.getCauseTracker().completePhase();
+        try {
+            playerEntity.onUpdateEntity();
+        } finally {
+            causeTracker.completeCrossWorldPhase();
         }
     }
 
@@ -248,7 +235,27 @@ public void onSendPacket(NetworkManager manager, Packet<?> packet) {
         if (!this.allowClientLocationUpdate && packet instanceof SPacketPlayerPosLook) {
             return;
         }
-        manager.sendPacket(this.rewritePacket(packet));
+        final Packet<?> rewritten = this.rewritePacket(packet);
+        if (OutboundPacketQueue.isEnabled() && this.serverController.isCallingFromMinecraftThread()) {
+            if (!OutboundPacketQueue.bypassesQueue(rewritten)) {
+                this.packetQueue.add(rewritten);
+                return;
+            }
+            // Keep the order of the packets already queued
+            this.packetQueue.flush(manager);
+        }
+        manager.sendPacket(rewritten);
+    }
+
+    @Override
+    public void flushPacketQueue() {
+        this.packetQueue.flush(this.netManager);
+    }
+
+    @Inject(method = "kickPlayerFromServer", at = @At("HEAD"))
+    private void onKickPlayer(String reason, CallbackInfo ci) {
+        // The disconnect is sent to the network manager directly, so write what is queued first
+        this.packetQueue.flush(this.netManager);
     }
 
     /**
@@ -65,7 +65,6 @@ public abstract class MixinPacketBuffer extends ByteBuf {
     @Shadow public abstract byte[] readByteArray();
     @Shadow public abstract byte[] readByteArray(int limit);
     @Shadow public abstract int readVarIntFromBuffer();
-    @Shadow public abstract String readStringFromBuffer(int maxLength);
     @Shadow public abstract NBTTagCompound readNBTTagCompoundFromBuffer() throws IOException;
     @Shadow public abstract UUID readUuid();
 
@@ -240,7 +239,9 @@ public abstract class MixinPacketBuffer extends ByteBuf {
 
     @Intrinsic
     public byte[] cbuf$readBytes(int length) {
-        return this.readBytes(length).array();
+        final byte[] dest = new byte[length];
+        this.readBytes(dest);
+        return dest;
     }
 
     public byte[] cbuf$readBytes(int index, int length) {
@@ -405,17 +406,40 @@ public int getInteger(int index) {
     }
 
     public String cbuf$readString() {
-        return this.readStringFromBuffer(MixinPacketBuffer.MAX_STRING_LENGTH);
+        return this.readStringView(MixinPacketBuffer.MAX_STRING_LENGTH);
     }
 
     public String cbuf$getString(int index) {
         final int oldIndex = this.readerIndex();
         this.readerIndex(index);
-        final String value = this.readStringFromBuffer(MixinPacketBuffer.MAX_STRING_LENGTH);
+        final String value = this.readStringView(MixinPacketBuffer.MAX_STRING_LENGTH);
         this.readerIndex(oldIndex);
         return value;
     }
 
+    // Same as readStringFromBuffer, but decodes in place rather than from a copy.
+    // The copy's backing array is not the string for pooled or direct buffers.
+    private String readStringView(int maxLength) {
+        final int length = this.readVarIntFromBuffer();
+        if (length > maxLength * 4) {
+            throw new DecoderException("The received encoded string buffer length is longer than maximum allowed (" + length + " > "
+                    + maxLength * 4 + ")");
+        } else if (length < 0) {
+            throw new DecoderException("The received encoded string buffer length is less than zero! Weird string!");
+        }
+        final String value = this.readUTF8(length);
+        if (value.length() > maxLength) {
+            throw new DecoderException("The received string length is longer than maximum allowed (" + length + " > " + maxLength + ")");
+        }
+        return value;
+    }
+
+    private String readUTF8(int length) {
+        final String value = this.toString(this.readerIndex(), length, Charsets.UTF_8);
+        this.skipBytes(length);
+        return value;
+    }
+
     public ChannelBuf cbuf$writeUTF(String data) {
         byte[] bytes = data.getBytes(Charsets.UTF_8);
         if (bytes.length > MixinPacketBuffer.MAX_STRING_LENGTH_BYTES) {
@@ -438,14 +462,14 @@ public int getInteger(int index) {
 
     public String cbuf$readUTF() {
         final short length = this.readShort();
-        return new String(this.readBytes(length).array(), Charsets.UTF_8);
+        return this.readUTF8(length);
     }
 
     public String cbuf$getUTF(int index) {
         final int oldIndex = this.readerIndex();
         this.readerIndex(index);
         final short length = this.readShort();
-        final String data = new String(this.readBytes(length).array(), Charsets.UTF_8);
+        final String data = this.readUTF8(length);
         this.readerIndex(oldIndex);
         return data;
     }
@@ -0,0 +1,83 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.network.play.server;
+
+import net.minecraft.network.play.server.SPacketEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.interfaces.network.play.server.IMixinSPacketEntity;
+
+@Mixin(SPacketEntity.class)
+public abstract class MixinSPacketEntity implements IMixinSPacketEntity {
+
+    @Shadow protected int entityId;
+    @Shadow protected int posX;
+    @Shadow protected int posY;
+    @Shadow protected int posZ;
+    @Shadow protected byte yaw;
+    @Shadow protected byte pitch;
+    @Shadow protected boolean onGround;
+    @Shadow protected boolean rotating;
+
+    @Override
+    public int getMovedEntityId() {
+        return this.entityId;
+    }
+
+    @Override
+    public int getMoveX() {
+        return this.posX;
+    }
+
+    @Override
+    public int getMoveY() {
+        return this.posY;
+    }
+
+    @Override
+    public int getMoveZ() {
+        return this.posZ;
+    }
+
+    @Override
+    public byte getMoveYaw() {
+        return this.yaw;
+    }
+
+    @Override
+    public byte getMovePitch() {
+        return this.pitch;
+    }
+
+    @Override
+    public boolean isMoveOnGround() {
+        return this.onGround;
+    }
+
+    @Override
+    public boolean hasMoveRotation() {
+        return this.rotating;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.network.play.server;
+
+import net.minecraft.network.datasync.EntityDataManager;
+import net.minecraft.network.play.server.SPacketEntityMetadata;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.interfaces.network.play.server.IMixinSPacketEntityMetadata;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+@Mixin(SPacketEntityMetadata.class)
+public abstract class MixinSPacketEntityMetadata implements IMixinSPacketEntityMetadata {
+
+    @Shadow private int entityId;
+    @Shadow private List<EntityDataManager.DataEntry<?>> dataManagerEntries;
+
+    @Override
+    public int getMetadataEntityId() {
+        return this.entityId;
+    }
+
+    @Nullable
+    @Override
+    public List<EntityDataManager.DataEntry<?>> getMetadataEntries() {
+        return this.dataManagerEntries;
+    }
+
+    @Override
+    public void setMetadata(int entityId, List<EntityDataManager.DataEntry<?>> entries) {
+        this.entityId = entityId;
+        this.dataManagerEntries = entries;
+    }
+}
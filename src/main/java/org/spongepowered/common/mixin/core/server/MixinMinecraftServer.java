@@ -97,11 +97,17 @@
 import org.spongepowered.common.interfaces.IMixinCommandSource;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
 import org.spongepowered.common.interfaces.IMixinSubject;
+import org.spongepowered.common.interfaces.network.IMixinNetHandlerPlayServer;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.network.OutboundPacketQueue;
 import org.spongepowered.common.profile.SpongeProfileManager;
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
+import org.spongepowered.common.service.permission.PermissionStorage;
+import org.spongepowered.common.service.permission.SpongePermissionService;
+import org.spongepowered.common.service.user.UserIndex;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.ChunkWorkScheduler;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
@@ -304,6 +310,11 @@ public void shutdown(Text kickMessage) {
     @Inject(method = "stopServer()V", at = @At("HEAD"))
     public void onServerStopping(CallbackInfo ci) {
         ((MinecraftServer) (Object) this).getPlayerProfileCache().save();
+        UserIndex.close();
+        final Optional<PermissionService> permissionService = Sponge.getServiceManager().provide(PermissionService.class);
+        if (permissionService.isPresent() && permissionService.get() instanceof SpongePermissionService) {
+            ((SpongePermissionService) permissionService.get()).getStorage().ifPresent(PermissionStorage::flush);
+        }
     }
 
     /**
@@ -553,10 +564,12 @@ public String toString() {
     @Inject(method = "tick", at = @At(value = "HEAD"))
     public void onServerTickStart(CallbackInfo ci) {
         TimingsManager.FULL_SERVER_TICK.startTiming();
+        ChunkWorkScheduler.onServerTickStart();
     }
 
     @Inject(method = "tick", at = @At(value = "RETURN"))
     public void onServerTickEnd(CallbackInfo ci) {
+        ChunkWorkScheduler.onServerTickEnd();
         int lastAnimTick = SpongeCommonEventFactory.lastAnimationPacketTick;
         int lastPrimaryTick = SpongeCommonEventFactory.lastPrimaryPacketTick;
         int lastSecondaryTick = SpongeCommonEventFactory.lastSecondaryPacketTick;
@@ -566,6 +579,13 @@ public void onServerTickEnd(CallbackInfo ci) {
             Sponge.getEventManager().post(event);
         }
         SpongeCommonEventFactory.lastAnimationPacketTick = 0;
+        if (OutboundPacketQueue.isEnabled()) {
+            for (EntityPlayerMP playerMP : this.getPlayerList().getPlayerList()) {
+                if (playerMP.connection != null) {
+                    ((IMixinNetHandlerPlayServer) playerMP.connection).flushPacketQueue();
+                }
+            }
+        }
         TimingsManager.FULL_SERVER_TICK.stopTiming();
     }
 
@@ -25,20 +25,30 @@
 package org.spongepowered.common.mixin.core.server;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.local.LocalAddress;
+import net.minecraft.network.INetHandler;
 import net.minecraft.network.NetworkManager;
+import net.minecraft.network.Packet;
+import net.minecraft.util.text.ITextComponent;
 import org.spongepowered.api.MinecraftVersion;
 import org.spongepowered.api.network.RemoteConnection;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeMinecraftVersion;
 import org.spongepowered.common.interfaces.IMixinNetworkManager;
+import org.spongepowered.common.interfaces.network.IMixinNetHandlerPlayServer;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.UnknownHostException;
+import java.util.List;
 
 @SuppressWarnings("rawtypes")
 @Mixin(NetworkManager.class)
@@ -47,6 +57,10 @@ public abstract class MixinNetworkManager extends SimpleChannelInboundHandler im
     @Shadow private Channel channel;
 
     @Shadow public abstract SocketAddress getRemoteAddress();
+    @Shadow public abstract boolean isChannelOpen();
+    @Shadow public abstract void sendPacket(Packet<?> packetIn);
+    @Shadow private void flushOutboundQueue() {}
+    @Shadow public abstract INetHandler getNetHandler();
 
     private InetSocketAddress virtualHost;
     private MinecraftVersion version;
@@ -84,6 +98,39 @@ public void setVirtualHost(String host, int port) {
         }
     }
 
+    @Override
+    public void sendPackets(List<Packet<?>> packets) {
+        if (!this.isChannelOpen()) {
+            // Let vanilla queue them until the channel is open
+            for (Packet<?> packet : packets) {
+                this.sendPacket(packet);
+            }
+            return;
+        }
+        this.flushOutboundQueue();
+        final Packet<?>[] batch = packets.toArray(new Packet<?>[packets.size()]);
+        final Runnable write = () -> {
+            for (Packet<?> packet : batch) {
+                this.channel.write(packet).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+            }
+            this.channel.flush();
+        };
+        if (this.channel.eventLoop().inEventLoop()) {
+            write.run();
+        } else {
+            this.channel.eventLoop().execute(write);
+        }
+    }
+
+    @Inject(method = "closeChannel", at = @At("HEAD"))
+    private void onCloseChannel(ITextComponent message, CallbackInfo ci) {
+        // Packets queued by the play handler during this tick would be lost otherwise
+        final INetHandler handler = this.getNetHandler();
+        if (handler instanceof IMixinNetHandlerPlayServer && this.isChannelOpen() && SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            ((IMixinNetHandlerPlayServer) handler).flushPacketQueue();
+        }
+    }
+
     @Override
     public MinecraftVersion getVersion() {
         return this.version;
@@ -39,6 +39,7 @@
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.network.ClientConnectionEvent;
 import org.spongepowered.api.network.RemoteConnection;
+import org.spongepowered.api.service.permission.PermissionService;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.asm.lib.Opcodes;
 import org.spongepowered.asm.mixin.Final;
@@ -50,6 +51,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.IMixinNetHandlerLoginServer;
+import org.spongepowered.common.service.permission.SpongePermissionService;
 import org.spongepowered.common.text.SpongeTexts;
 
 import java.net.SocketAddress;
@@ -102,6 +104,13 @@ public boolean fireAuthEvent() {
         SpongeImpl.postEvent(event);
         if (event.isCancelled()) {
             this.disconnectClient(event.isMessageCancelled() ? Optional.empty() : Optional.of(event.getMessage()));
+        } else {
+            // Still off the main thread, so the player's stored permissions are ready once they join
+            final Optional<PermissionService> service = SpongeImpl.getGame().getServiceManager().provide(PermissionService.class);
+            if (service.isPresent() && service.get() instanceof SpongePermissionService) {
+                ((SpongePermissionService) service.get()).getStorage().ifPresent(storage ->
+                        storage.prefetch(PermissionService.SUBJECTS_USER, this.loginGameProfile.getId().toString()));
+            }
         }
         return event.isCancelled();
     }
@@ -90,6 +90,8 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.BlockUtil;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerTable;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
@@ -158,6 +160,7 @@ public abstract class MixinChunk implements Chunk, IMixinChunk, IMixinCachable {
     @Shadow @Final private ExtendedBlockStorage[] storageArrays;
     @Shadow @Final private int[] precipitationHeightMap;
     @Shadow @Final private int[] heightMap;
+    @Shadow private int heightMapMinimum;
     @Shadow @Final private ClassInheritanceMultiMap<Entity>[] entityLists;
     @Shadow @Final private Map<BlockPos, TileEntity> chunkTileEntityMap;
     @Shadow private long inhabitedTime;
@@ -437,7 +440,7 @@ public void onGetEntitiesWithinAABBForEntity(Entity entityIn, AxisAlignedBB aabb
             return;
         }
 
-        if (listToFill.size() == 0) {
+        if (listToFill.size() == 0 || !ShouldFire.hasListeners(CollideEntityEvent.class)) {
             return;
         }
 
@@ -461,7 +464,7 @@ public void onGetEntitiesOfTypeWithinAAAB(Class<? extends Entity> entityClass, A
             return;
         }
 
-        if (listToFill.size() == 0) {
+        if (listToFill.size() == 0 || !ShouldFire.hasListeners(CollideEntityEvent.class)) {
             return;
         }
 
@@ -740,14 +743,10 @@ public void addTrackedBlockPosition(Block block, BlockPos pos, User user, Player
 
     }
 
+    @Nullable
     @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() {
-        return Collections.emptyMap();
-    }
-
-    @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
-        return Collections.emptyMap();
+    public PlayerTrackerTable getTrackedPlayers() {
+        return null;
     }
 
     @Override
@@ -771,11 +770,7 @@ public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
     }
 
     @Override
-    public void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPositions) {
-    }
-
-    @Override
-    public void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPositions) {
+    public void setTrackedPlayers(PlayerTrackerTable trackedPlayers) {
     }
 
     // Continuing the rest of the implementation
@@ -1197,4 +1192,24 @@ public Long getScheduledForUnload() {
     public void setScheduledForUnload(Long scheduled) {
         this.scheduledForUnload = scheduled;
     }
+
+    @Override
+    public void updateHeightMap(int x, int z) {
+        final int index = z << 4 | x;
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int y = this.getTopFilledSegment() + 16;
+        while (y > 0) {
+            pos.setPos(this.xPosition << 4 | x, y - 1, this.zPosition << 4 | z);
+            if (SpongeImplHooks.getBlockLightOpacity(this.getBlockState(x, y - 1, z), this.worldObj, pos) != 0) {
+                break;
+            }
+            y--;
+        }
+        this.heightMap[index] = y;
+        if (y < this.heightMapMinimum) {
+            this.heightMapMinimum = y;
+        }
+        this.precipitationHeightMap[index] = -999;
+        this.isModified = true;
+    }
 }
@@ -105,6 +105,7 @@
 import org.spongepowered.api.world.PortalAgent;
 import org.spongepowered.api.world.PortalAgentType;
 import org.spongepowered.api.world.PortalAgentTypes;
+import org.spongepowered.api.world.SerializationBehaviors;
 import org.spongepowered.api.world.gen.BiomeGenerator;
 import org.spongepowered.api.world.gen.WorldGenerator;
 import org.spongepowered.api.world.gen.WorldGeneratorModifier;
@@ -150,7 +151,6 @@
 import org.spongepowered.common.interfaces.block.IMixinBlock;
 import org.spongepowered.common.interfaces.block.IMixinBlockEventData;
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
-import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMap;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldProvider;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
@@ -158,10 +158,13 @@
 import org.spongepowered.common.interfaces.world.gen.IPopulatorProvider;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IModData_Collisions;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivation;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces.IModData_TileEntityActivation;
 import org.spongepowered.common.registry.provider.DirectionFacingProvider;
 import org.spongepowered.common.registry.type.event.InternalSpawnTypes;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ChunkWorkScheduler;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.border.PlayerBorderListener;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
@@ -204,6 +207,7 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     protected long weatherStartTime;
     protected Weather prevWeather;
     protected WorldTimingsHandler timings = new WorldTimingsHandler((WorldServer) (Object) this);
+    private final ChunkWorkScheduler chunkWorkScheduler = new ChunkWorkScheduler((WorldServer) (Object) this);
     private int chunkGCTickCount = 0;
     private int chunkGCLoadThreshold = 0;
     private int chunkGCTickInterval = 600;
@@ -252,6 +256,7 @@ public void onConstruct(MinecraftServer server, ISaveHandler saveHandlerIn, Worl
         // Need to set the active config before we call it.
         this.chunkGCLoadThreshold = SpongeHooks.getActiveConfig((WorldServer) (Object) this).getConfig().getWorld().getChunkLoadThreadhold();
         this.chunkGCTickInterval = this.getActiveConfig().getConfig().getWorld().getTickInterval();
+        this.chunkWorkScheduler.updateConfig(this.getActiveConfig().getConfig().getWorld());
         this.weatherIceAndSnowEnabled = this.getActiveConfig().getConfig().getWorld().getWeatherIceAndSnow();
         this.weatherThunderEnabled = this.getActiveConfig().getConfig().getWorld().getWeatherThunder();
         this.updateEntityTick = 0;
@@ -325,10 +330,8 @@ public void setActiveConfig(SpongeConfig<?> config) {
         this.weatherIceAndSnowEnabled = this.activeConfig.getConfig().getWorld().getWeatherIceAndSnow();
         this.weatherThunderEnabled = this.activeConfig.getConfig().getWorld().getWeatherThunder();
         this.chunkUnloadDelay = this.activeConfig.getConfig().getWorld().getChunkUnloadDelay() * 1000;
+        this.chunkWorkScheduler.updateConfig(this.activeConfig.getConfig().getWorld());
         if (this.getChunkProvider() != null) {
-            final IMixinChunkProviderServer mixinChunkProvider = (IMixinChunkProviderServer) this.getChunkProvider();
-            final int maxChunkUnloads = this.activeConfig.getConfig().getWorld().getMaxChunkUnloads();
-            mixinChunkProvider.setMaxChunkUnloads(maxChunkUnloads < 1 ? 1 : maxChunkUnloads);
 //            ((ChunkProviderServer) this.getChunkProvider()).chunkLoadOverride = !this.activeConfig.getConfig().getWorld().getDenyChunkRequests();
             for (net.minecraft.entity.Entity entity : this.loadedEntityList) {
                 if (entity instanceof IModData_Activation) {
@@ -338,6 +341,11 @@ public void setActiveConfig(SpongeConfig<?> config) {
                     ((IModData_Collisions) entity).requiresCollisionsCacheRefresh(true);
                 }
             }
+            for (net.minecraft.tileentity.TileEntity tileEntity : this.loadedTileEntityList) {
+                if (tileEntity instanceof IModData_TileEntityActivation) {
+                    ((IModData_TileEntityActivation) tileEntity).requiresActivationCacheRefresh(true);
+                }
+            }
         }
     }
 
@@ -749,42 +757,53 @@ public boolean onFireBlockEvent(net.minecraft.world.WorldServer worldIn, BlockEv
         return TrackingUtil.fireMinecraftBlockEvent(causeTracker, worldIn, event);
     }
 
+    @Inject(method = "tick", at = @At("HEAD"))
+    public void onTickStart(CallbackInfo ci) {
+        this.chunkWorkScheduler.startTick();
+    }
+
     @Inject(method = "tick", at = @At("RETURN"))
     public void onTickEnd(CallbackInfo ci) {
+        // Add chunks that finished loading off the main thread
+        ((IMixinChunkProviderServer) this.getChunkProvider()).attachAsyncLoadedChunks();
         // Clean up any leaked chunks
         this.doChunkGC();
+        // Save modified chunks with whatever budget is left
+        this.doChunkSave();
     }
 
     // Chunk GC
     private void doChunkGC() {
         this.chunkGCTickCount++;
 
-        ChunkProviderServer chunkProviderServer = this.getChunkProvider();
+        boolean startSweep = false;
         int chunkLoadCount = this.getChunkProvider().getLoadedChunkCount();
         if (chunkLoadCount >= this.chunkGCLoadThreshold && this.chunkGCLoadThreshold > 0) {
             chunkLoadCount = 0;
+            startSweep = true;
         } else if (this.chunkGCTickCount >= this.chunkGCTickInterval && this.chunkGCTickInterval > 0) {
             this.chunkGCTickCount = 0;
-        } else {
-            return;
+            startSweep = true;
         }
 
-        long now = System.currentTimeMillis();
-        long unloadAfter = this.chunkUnloadDelay;
-        for (net.minecraft.world.chunk.Chunk chunk : chunkProviderServer.getLoadedChunks()) {
-            IMixinChunk spongeChunk = (IMixinChunk) chunk;
-            if (spongeChunk.getScheduledForUnload() != null && (now - spongeChunk.getScheduledForUnload()) > unloadAfter) {
-                spongeChunk.setScheduledForUnload(null);
-            }
-            // If a player is currently using the chunk, skip it
-            if (spongeChunk.getScheduledForUnload() != null || ((IMixinPlayerChunkMap) this.getPlayerChunkMap()).isChunkInUse(chunk.xPosition, chunk.zPosition)) {
-                continue;
-            }
+        // A sweep is spread over as many ticks as the chunk work budget requires
+        if (startSweep || this.chunkWorkScheduler.getGCBacklog() > 0) {
+            this.timings.doChunkGC.startTiming();
+            this.chunkWorkScheduler.sweepInactiveChunks(startSweep, this.chunkUnloadDelay);
+            this.timings.doChunkGC.stopTiming();
+        }
+    }
 
-            // Queue chunk for unload
-            chunkProviderServer.unload(chunk);
-            SpongeHooks.logChunkGCQueueUnload(chunkProviderServer.worldObj, chunk);
+    private void doChunkSave() {
+        final WorldServer worldServer = (WorldServer) (Object) this;
+        if (worldServer.disableLevelSaving || this.getActiveConfig().getConfig().getWorld().getAutoSaveInterval() <= 0
+                || ((WorldProperties) this.worldInfo).getSerializationBehavior() != SerializationBehaviors.AUTOMATIC
+                || !this.getChunkProvider().canSave()) {
+            return;
         }
+        this.timings.doChunkSave.startTiming();
+        this.chunkWorkScheduler.saveModifiedChunks();
+        this.timings.doChunkSave.stopTiming();
     }
 
     @Redirect(method = "saveAllChunks", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;canSave()Z"))
@@ -1184,6 +1203,12 @@ protected void onUpdateWeatherEffect(net.minecraft.entity.Entity entityIn) {
 
     @Override
     protected void onUpdateTileEntities(ITickable tile) {
+        // Sponge start - skip inactive tile entities
+        if (tile instanceof IModData_TileEntityActivation && !TileEntityActivation.checkIfActive((net.minecraft.tileentity.TileEntity) tile)) {
+            TimingHistory.skippedTileEntityTicks++;
+            return;
+        }
+        // Sponge end
         final CauseTracker causeTracker = this.getCauseTracker();
         final IPhaseState state = causeTracker.getCurrentState();
         if (!CauseTracker.ENABLED || state.getPhase().alreadyCapturingTileTicks(state)) {
@@ -1713,4 +1738,9 @@ public int getChunkGCTickInterval() {
     public long getChunkUnloadDelay() {
         return this.chunkUnloadDelay;
     }
+
+    @Override
+    public ChunkWorkScheduler getChunkWorkScheduler() {
+        return this.chunkWorkScheduler;
+    }
 }
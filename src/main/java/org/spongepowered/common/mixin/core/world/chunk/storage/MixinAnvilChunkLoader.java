@@ -25,15 +25,23 @@
 package org.spongepowered.common.mixin.core.world.chunk.storage;
 
 import com.flowpowered.math.vector.Vector3d;
-import com.google.common.collect.Maps;
+import co.aikar.timings.WorldTimingsHandler;
+import net.minecraft.block.Block;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.FixTypes;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.NibbleArray;
 import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraft.world.chunk.storage.RegionFileCache;
 import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.entity.Transform;
@@ -55,17 +63,23 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.util.NbtDataUtil;
-import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerTable;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 @Mixin(AnvilChunkLoader.class)
 @Implements(@Interface(iface = IMixinAnvilChunkLoader.class, prefix = "loader$"))
 public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
@@ -76,72 +90,53 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
     @Shadow @Final private Set<ChunkPos> pendingAnvilChunksCoordinates;
     @Shadow @Final private Map<ChunkPos, NBTTagCompound> chunksToRemove;
     @Shadow @Final private File chunkSaveLocation;
+    @Shadow @Final private DataFixer dataFixer;
 
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
         IMixinChunk chunk = (IMixinChunk) chunkIn;
 
         // Add tracked block positions
-        if (chunk.getTrackedShortPlayerPositions().size() > 0 || chunk.getTrackedIntPlayerPositions().size() > 0) {
+        final PlayerTrackerTable trackedPlayers = chunk.getTrackedPlayers();
+        if (trackedPlayers != null && !trackedPlayers.isEmpty()) {
             NBTTagCompound trackedNbt = new NBTTagCompound();
-            NBTTagList positions = new NBTTagList();
-            trackedNbt.setTag(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, positions);
+            trackedNbt.setIntArray(NbtDataUtil.SPONGE_TRACKED_BLOCKS, trackedPlayers.toArray());
             compound.setTag(NbtDataUtil.SPONGE_DATA, trackedNbt);
-
-            for (Map.Entry<Short, PlayerTracker> mapEntry : chunk.getTrackedShortPlayerPositions().entrySet()) {
-                Short pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setShort("pos", pos);
-                positions.appendTag(valueNbt);
-            }
-
-            for (Map.Entry<Integer, PlayerTracker> mapEntry : chunk.getTrackedIntPlayerPositions().entrySet()) {
-                Integer pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setInteger("ipos", pos);
-                positions.appendTag(valueNbt);
-            }
         }
     }
 
     @Inject(method = "readChunkFromNBT", at = @At(value = "INVOKE", target = "Lnet/minecraft/nbt/NBTTagCompound;getIntArray(Ljava/lang/String;)[I", shift = At.Shift.BEFORE), locals = LocalCapture.CAPTURE_FAILHARD)
     public void onReadChunkFromNBT(World worldIn, NBTTagCompound compound, CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> ci, int chunkX, int chunkZ, net.minecraft.world.chunk.Chunk chunkIn) {
+        readTrackedPositions(compound, chunkIn);
+    }
+
+    private static void readTrackedPositions(NBTTagCompound compound, net.minecraft.world.chunk.Chunk chunkIn) {
         if (compound.hasKey(NbtDataUtil.SPONGE_DATA)) {
-            Map<Integer, PlayerTracker> trackedIntPlayerPositions = Maps.newHashMap();
-            Map<Short, PlayerTracker> trackedShortPlayerPositions = Maps.newHashMap();
-            NBTTagList positions = compound.getCompoundTag(NbtDataUtil.SPONGE_DATA).getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, 10);
+            final NBTTagCompound spongeData = compound.getCompoundTag(NbtDataUtil.SPONGE_DATA);
+            final PlayerTrackerTable trackedPlayers = new PlayerTrackerTable();
             IMixinChunk chunk = (IMixinChunk) chunkIn;
-            for (int i = 0; i < positions.tagCount(); i++) {
-                NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
-                boolean isShortPos = valueNbt.hasKey("pos");
-                PlayerTracker tracker = new PlayerTracker();
-                if (valueNbt.hasKey("owner")) {
-                    tracker.ownerIndex = valueNbt.getInteger("owner");
-                } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
-                    tracker.ownerIndex = valueNbt.getInteger("uuid");
-                }
-                if (valueNbt.hasKey("notifier")) {
-                    tracker.notifierIndex = valueNbt.getInteger("notifier");
-                }
-
-                if (tracker.notifierIndex != -1 || tracker.ownerIndex != -1) {
-                    if (isShortPos) {
-                        trackedShortPlayerPositions.put(valueNbt.getShort("pos"), tracker);
-                    } else {
-                        trackedIntPlayerPositions.put(valueNbt.getInteger("ipos"), tracker);
+            if (spongeData.hasKey(NbtDataUtil.SPONGE_TRACKED_BLOCKS, NbtDataUtil.TAG_INT_ARRAY)) {
+                trackedPlayers.readArray(spongeData.getIntArray(NbtDataUtil.SPONGE_TRACKED_BLOCKS));
+            } else { // Migrate data written before the packed table, remove in future
+                NBTTagList positions = spongeData.getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, 10);
+                for (int i = 0; i < positions.tagCount(); i++) {
+                    NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
+                    int ownerIndex = PlayerTrackerTable.NONE;
+                    int notifierIndex = PlayerTrackerTable.NONE;
+                    if (valueNbt.hasKey("owner")) {
+                        ownerIndex = valueNbt.getInteger("owner");
+                    } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
+                        ownerIndex = valueNbt.getInteger("uuid");
+                    }
+                    if (valueNbt.hasKey("notifier")) {
+                        notifierIndex = valueNbt.getInteger("notifier");
                     }
+
+                    final int key = valueNbt.hasKey("pos") ? PlayerTrackerTable.fromShortKey(valueNbt.getShort("pos")) : valueNbt.getInteger("ipos");
+                    trackedPlayers.set(key, ownerIndex, notifierIndex);
                 }
             }
-            chunk.setTrackedIntPlayerPositions(trackedIntPlayerPositions);
-            chunk.setTrackedShortPlayerPositions(trackedShortPlayerPositions);
+            chunk.setTrackedPlayers(trackedPlayers);
         }
     }
 
@@ -204,4 +199,113 @@ public Path getWorldDir() {
         return this.chunkSaveLocation.toPath();
     }
 
+    @Nullable
+    @Override
+    public NBTTagCompound readChunkData(int x, int z) throws IOException {
+        NBTTagCompound compound = this.chunksToRemove.get(new ChunkPos(x, z));
+        if (compound == null) {
+            final DataInputStream stream = RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z);
+            if (stream == null) {
+                return null;
+            }
+            compound = this.dataFixer.process(FixTypes.CHUNK, CompressedStreamTools.read(stream));
+        }
+        return compound;
+    }
+
+    // Based on AnvilChunkLoader#checkedReadChunkFromNBT and the terrain part of AnvilChunkLoader#readChunkFromNBT
+    @Nullable
+    @Override
+    public net.minecraft.world.chunk.Chunk readChunkTerrain(World world, int x, int z, NBTTagCompound compound) {
+        if (!compound.hasKey(NbtDataUtil.CHUNK_DATA_LEVEL, NbtDataUtil.TAG_COMPOUND)) {
+            SpongeImpl.getLogger().error("Chunk file at {},{} is missing level data, skipping", x, z);
+            return null;
+        }
+        final NBTTagCompound level = compound.getCompoundTag(NbtDataUtil.CHUNK_DATA_LEVEL);
+        if (!level.hasKey(NbtDataUtil.CHUNK_DATA_SECTIONS, NbtDataUtil.TAG_LIST)) {
+            SpongeImpl.getLogger().error("Chunk file at {},{} is missing block data, skipping", x, z);
+            return null;
+        }
+        if (level.getInteger("xPos") != x || level.getInteger("zPos") != z) {
+            SpongeImpl.getLogger().error("Chunk file at {},{} is in the wrong location; relocating. (Expected {}, {}, got {}, {})", x, z, x, z,
+                    level.getInteger("xPos"), level.getInteger("zPos"));
+            level.setInteger("xPos", x);
+            level.setInteger("zPos", z);
+        }
+
+        final net.minecraft.world.chunk.Chunk chunk = new net.minecraft.world.chunk.Chunk(world, x, z);
+        chunk.setHeightMap(level.getIntArray("HeightMap"));
+        chunk.setTerrainPopulated(level.getBoolean("TerrainPopulated"));
+        chunk.setLightPopulated(level.getBoolean("LightPopulated"));
+        chunk.setInhabitedTime(level.getLong("InhabitedTime"));
+        final NBTTagList sections = level.getTagList(NbtDataUtil.CHUNK_DATA_SECTIONS, NbtDataUtil.TAG_COMPOUND);
+        final ExtendedBlockStorage[] storageArray = new ExtendedBlockStorage[16];
+        final boolean hasSky = !world.provider.getHasNoSky();
+
+        for (int i = 0; i < sections.tagCount(); i++) {
+            final NBTTagCompound section = sections.getCompoundTagAt(i);
+            final int y = section.getByte("Y");
+            final ExtendedBlockStorage storage = new ExtendedBlockStorage(y << 4, hasSky);
+            final byte[] blocks = section.getByteArray("Blocks");
+            final NibbleArray data = new NibbleArray(section.getByteArray("Data"));
+            final NibbleArray add = section.hasKey("Add", NbtDataUtil.TAG_BYTE_ARRAY) ? new NibbleArray(section.getByteArray("Add")) : null;
+            storage.getData().setDataFromNBT(blocks, data, add);
+            storage.setBlocklightArray(new NibbleArray(section.getByteArray("BlockLight")));
+            if (hasSky) {
+                storage.setSkylightArray(new NibbleArray(section.getByteArray("SkyLight")));
+            }
+            storage.removeInvalidBlocks();
+            storageArray[y] = storage;
+        }
+
+        chunk.setStorageArrays(storageArray);
+        if (level.hasKey("Biomes", NbtDataUtil.TAG_BYTE_ARRAY)) {
+            chunk.setBiomeArray(level.getByteArray("Biomes"));
+        }
+        readTrackedPositions(level, chunk);
+        return chunk;
+    }
+
+    // Based on the entity part of AnvilChunkLoader#readChunkFromNBT
+    @Override
+    public void loadChunkEntities(World world, NBTTagCompound compound, net.minecraft.world.chunk.Chunk chunk) {
+        final NBTTagCompound level = compound.getCompoundTag(NbtDataUtil.CHUNK_DATA_LEVEL);
+        final WorldTimingsHandler timings = ((IMixinWorldServer) world).getTimingsHandler();
+
+        timings.syncChunkLoadEntitiesTimer.startTiming();
+        final NBTTagList entities = level.getTagList("Entities", NbtDataUtil.TAG_COMPOUND);
+        for (int i = 0; i < entities.tagCount(); i++) {
+            AnvilChunkLoader.readChunkEntity(entities.getCompoundTagAt(i), world, chunk);
+            chunk.setHasEntities(true);
+        }
+        timings.syncChunkLoadEntitiesTimer.stopTiming();
+
+        timings.syncChunkLoadTileEntitiesTimer.startTiming();
+        final NBTTagList tileEntities = level.getTagList("TileEntities", NbtDataUtil.TAG_COMPOUND);
+        for (int i = 0; i < tileEntities.tagCount(); i++) {
+            final TileEntity tileEntity = TileEntity.create(world, tileEntities.getCompoundTagAt(i));
+            if (tileEntity != null) {
+                chunk.addTileEntity(tileEntity);
+            }
+        }
+        timings.syncChunkLoadTileEntitiesTimer.stopTiming();
+
+        timings.syncChunkLoadTileTicksTimer.startTiming();
+        if (level.hasKey("TileTicks", NbtDataUtil.TAG_LIST)) {
+            final NBTTagList tileTicks = level.getTagList("TileTicks", NbtDataUtil.TAG_COMPOUND);
+            for (int i = 0; i < tileTicks.tagCount(); i++) {
+                final NBTTagCompound tick = tileTicks.getCompoundTagAt(i);
+                final Block block;
+                if (tick.hasKey("i", NbtDataUtil.TAG_STRING)) {
+                    block = Block.getBlockFromName(tick.getString("i"));
+                } else {
+                    block = Block.getBlockById(tick.getInteger("i"));
+                }
+                world.scheduleBlockUpdate(new BlockPos(tick.getInteger("x"), tick.getInteger("y"), tick.getInteger("z")), block,
+                        tick.getInteger("t"), tick.getInteger("p"));
+            }
+        }
+        timings.syncChunkLoadTileTicksTimer.stopTiming();
+    }
+
 }
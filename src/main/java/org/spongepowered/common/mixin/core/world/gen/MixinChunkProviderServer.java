@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.mixin.core.world.gen;
 
+import co.aikar.timings.WorldTimingsHandler;
 import com.flowpowered.math.vector.Vector3i;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.util.math.ChunkPos;
@@ -55,10 +56,14 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.CachedLong2ObjectMap;
+import org.spongepowered.common.world.ChunkWorkScheduler;
+import org.spongepowered.common.world.storage.AsyncChunkLoader;
 import org.spongepowered.common.world.storage.SpongeChunkDataStream;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nullable;
@@ -71,7 +76,15 @@ public abstract class MixinChunkProviderServer implements WorldStorage, IMixinCh
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Shadow @Final @Mutable public Long2ObjectMap<Chunk> id2ChunkMap = new CachedLong2ObjectMap();
 
+    @Shadow @Final private Set<Long> droppedChunksSet;
+
     @Shadow public abstract Chunk provideChunk(int x, int z);
+    @Shadow @Nullable public abstract Chunk loadChunk(int x, int z);
+    @Shadow private void saveChunkData(Chunk chunkIn) {}
+
+    @Nullable private AsyncChunkLoader asyncChunkLoader;
+    private long chunkUnloadDeadline;
+    private int chunkUnloadCount;
 
     @Override
     public ChunkDataStream getGeneratedChunks() {
@@ -126,31 +139,106 @@ public void onProvideChunkEnd(int x, int z, CallbackInfoReturnable<Chunk> ci) {
         }
     }
 
+    @Inject(method = "loadChunk(II)Lnet/minecraft/world/chunk/Chunk;", at = @At("HEAD"), cancellable = true)
+    public void onLoadChunk(int x, int z, CallbackInfoReturnable<Chunk> cir) {
+        // A synchronous request for a chunk that is being loaded asynchronously, finish the load right away
+        if (this.asyncChunkLoader != null && this.asyncChunkLoader.isPending(x, z)) {
+            final Chunk chunk = this.asyncChunkLoader.await(x, z);
+            this.asyncChunkLoader.consumeSyncRequired(x, z);
+            if (chunk != null) {
+                cir.setReturnValue(chunk);
+            }
+        }
+    }
+
+    @Nullable
+    private AsyncChunkLoader getAsyncChunkLoader() {
+        if (this.asyncChunkLoader == null && this.chunkLoader instanceof IMixinAnvilChunkLoader
+                && ((IMixinWorldServer) this.worldObj).getActiveConfig().getConfig().getWorld().useAsyncChunkLoading()) {
+            this.asyncChunkLoader = new AsyncChunkLoader(this.worldObj, (ChunkProviderServer) (Object) this, (IMixinAnvilChunkLoader) this.chunkLoader);
+        }
+        return this.asyncChunkLoader;
+    }
+
+    @Nullable
+    @Override
+    public Chunk loadChunkAsync(int x, int z) {
+        final Chunk chunk = this.getLoadedChunk(x, z);
+        if (chunk != null) {
+            return chunk;
+        }
+        final AsyncChunkLoader asyncChunkLoader = this.getAsyncChunkLoader();
+        if (asyncChunkLoader == null || asyncChunkLoader.consumeSyncRequired(x, z) || !asyncChunkLoader.queue(x, z)) {
+            return this.loadChunk(x, z);
+        }
+        return null;
+    }
+
+    @Nullable
+    @Override
+    public Chunk provideChunkAsync(int x, int z) {
+        final Chunk chunk = this.getLoadedChunk(x, z);
+        if (chunk != null) {
+            return chunk;
+        }
+        final AsyncChunkLoader asyncChunkLoader = this.getAsyncChunkLoader();
+        if (asyncChunkLoader == null || asyncChunkLoader.consumeSyncRequired(x, z) || !asyncChunkLoader.queue(x, z)) {
+            return this.provideChunk(x, z);
+        }
+        return null;
+    }
+
+    @Override
+    public void attachAsyncLoadedChunks() {
+        if (this.asyncChunkLoader == null || this.asyncChunkLoader.getPendingCount() == 0) {
+            return;
+        }
+        final ChunkWorkScheduler scheduler = ((IMixinWorldServer) this.worldObj).getChunkWorkScheduler();
+        final WorldTimingsHandler timings = ((IMixinWorldServer) this.worldObj).getTimingsHandler();
+        timings.doChunkAttach.startTiming();
+        this.asyncChunkLoader.attachCompleted(scheduler.startWork());
+        scheduler.finishWork();
+        timings.doChunkAttach.stopTiming();
+    }
+
+    @Override
+    public int getPendingAsyncChunkLoads() {
+        return this.asyncChunkLoader == null ? 0 : this.asyncChunkLoader.getPendingCount();
+    }
+
+    @Override
+    public int getPendingChunkUnloads() {
+        return this.droppedChunksSet.size();
+    }
+
+    @Override
+    public void saveChunk(Chunk chunk) {
+        this.saveChunkData(chunk);
+    }
+
     @Inject(method = "unloadQueuedChunks", at = @At("HEAD"))
     public void onUnloadQueuedChunksStart(CallbackInfoReturnable<Boolean> ci) {
         ((IMixinWorldServer) this.worldObj).getTimingsHandler().doChunkUnload.startTiming();
+        this.chunkUnloadDeadline = ((IMixinWorldServer) this.worldObj).getChunkWorkScheduler().startWork();
+        this.chunkUnloadCount = 0;
     }
 
     @Inject(method = "unloadQueuedChunks", at = @At("RETURN"))
     public void onUnloadQueuedChunksEnd(CallbackInfoReturnable<Boolean> ci) {
+        ((IMixinWorldServer) this.worldObj).getChunkWorkScheduler().finishWork();
         ((IMixinWorldServer) this.worldObj).getTimingsHandler().doChunkUnload.stopTiming();
     }
 
-
-    private int maxChunkUnloads = -1;
-
+    // The amount of unloads is bounded by the chunk work budget instead
     @ModifyConstant(method = "unloadQueuedChunks", constant = @Constant(intValue = 100))
     private int modifyUnloadCount(int original) {
-        if (this.maxChunkUnloads == -1) {
-            final int maxChunkUnloads = ((IMixinWorldServer) this.worldObj).getActiveConfig().getConfig().getWorld().getMaxChunkUnloads();
-            this.maxChunkUnloads = maxChunkUnloads < 1 ? 1 : maxChunkUnloads;
-        }
-        return this.maxChunkUnloads;
+        return Integer.MAX_VALUE;
     }
 
-    @Override
-    public void setMaxChunkUnloads(int maxUnloads) {
-        this.maxChunkUnloads = maxUnloads;
+    @Redirect(method = "unloadQueuedChunks", at = @At(value = "INVOKE", target = "Ljava/util/Iterator;hasNext()Z", remap = false))
+    private boolean onUnloadQueuedChunksHasNext(Iterator<Long> iterator) {
+        // Always unload at least one chunk so the queue drains even on a lagging server
+        return iterator.hasNext() && (this.chunkUnloadCount == 0 || System.nanoTime() < this.chunkUnloadDeadline);
     }
 
     @Redirect(method = "unloadQueuedChunks", at = @At(value = "INVOKE", target = "Lit/unimi/dsi/fastutil/longs/Long2ObjectMap;get(Ljava/lang/Object;)Ljava/lang/Object;", remap = false))
@@ -158,6 +246,7 @@ public Object onUnloadQueuedChunksGetChunk(Long2ObjectMap<Chunk> chunkMap, Objec
         Chunk chunk = chunkMap.get(key);
         if (chunk != null) {
             chunk.unloaded = true; // ignore unloaded flag
+            this.chunkUnloadCount++;
         }
         return chunk;
     }
@@ -27,6 +27,11 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityCreature;
 import net.minecraft.entity.EntityLivingBase;
@@ -52,10 +57,12 @@
 import net.minecraft.entity.projectile.EntityThrowable;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.config.SpongeConfig;
@@ -66,7 +73,9 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class ActivationRange {
@@ -79,12 +88,6 @@ public class ActivationRange {
             .put((byte) 5, "misc")
             .build();
 
-    static AxisAlignedBB maxBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB miscBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB creatureBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB monsterBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB aquaticBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB ambientBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
     @SuppressWarnings("serial") static Map<Byte, Integer> maxActivationRanges = new HashMap<Byte, Integer>() {
 
         {
@@ -192,67 +195,103 @@ public static boolean initializeEntityActivationState(Entity entity) {
     }
 
     /**
-     * Utility method to grow an AABB without creating a new AABB or touching
-     * the pool, so we can re-use ones we have.
+     * Checks whether the bounding box of an entity intersects the bounding
+     * box of a player grown by the given activation range.
      *
-     * @param target The AABB to modify
-     * @param source The AABB to get initial coordinates from
-     * @param x The x value to expand by
-     * @param y The y value to expand by
-     * @param z The z value to expand by
+     * @param player The bounding box of the player
+     * @param entity The bounding box of the entity
+     * @param range The activation range of the entity
+     * @return Whether the entity is in range of the player
      */
-    public static void growBb(AxisAlignedBB target, AxisAlignedBB source, int x, int y, int z) {
-        target.minX = source.minX - x;
-        target.minY = source.minY - y;
-        target.minZ = source.minZ - z;
-        target.maxX = source.maxX + x;
-        target.maxY = source.maxY + y;
-        target.maxZ = source.maxZ + z;
+    private static boolean isInRange(AxisAlignedBB player, AxisAlignedBB entity, int range) {
+        return entity.maxX > player.minX - range && entity.minX < player.maxX + range
+                && entity.maxY > player.minY - 256 && entity.minY < player.maxY + 256
+                && entity.maxZ > player.minZ - range && entity.minZ < player.maxZ + range;
     }
 
     /**
      * Find what entities are in range of the players in the world and set
      * active if in range.
      *
+     * <p>Players are indexed by the chunk they are in, so every loaded chunk
+     * in range of any player is only checked once per tick, and each entity
+     * is only compared against the players close enough to that chunk.</p>
+     *
      * @param world The world to perform activation checks in
      */
     public static void activateEntities(World world) {
+        if (world.playerEntities.isEmpty()) {
+            return;
+        }
+
+        int maxRange = 0;
+        for (Integer range : maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
+            }
+        }
+        maxRange = Math.min((SpongeImpl.getServer().getPlayerList().getViewDistance() << 4) - 8, maxRange);
+
+        final long currentTick = world.getWorldInfo().getWorldTotalTime();
+        final Long2ObjectMap<List<EntityPlayer>> playersByChunk = new Long2ObjectOpenHashMap<>();
+        final LongSet chunksInRange = new LongOpenHashSet();
         for (EntityPlayer player : world.playerEntities) {
+            ((IModData_Activation) player).setActivatedTick(currentTick);
 
-            int maxRange = 0;
-            for (Integer range : maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
+            final long playerChunk = ChunkPos.chunkXZ2Int(MathHelper.floor_double(player.posX) >> 4, MathHelper.floor_double(player.posZ) >> 4);
+            List<EntityPlayer> players = playersByChunk.get(playerChunk);
+            if (players == null) {
+                players = new ArrayList<>();
+                playersByChunk.put(playerChunk, players);
+            }
+            players.add(player);
+
+            final AxisAlignedBB bb = player.getEntityBoundingBox();
+            final int minX = MathHelper.floor_double((bb.minX - maxRange) / 16.0D);
+            final int maxX = MathHelper.floor_double((bb.maxX + maxRange) / 16.0D);
+            final int minZ = MathHelper.floor_double((bb.minZ - maxRange) / 16.0D);
+            final int maxZ = MathHelper.floor_double((bb.maxZ + maxRange) / 16.0D);
+            for (int x = minX; x <= maxX; ++x) {
+                for (int z = minZ; z <= maxZ; ++z) {
+                    chunksInRange.add(ChunkPos.chunkXZ2Int(x, z));
                 }
             }
+        }
+
+        // Players further away than this (in chunks) never scanned a chunk
+        final int chunkRadius = (maxRange >> 4) + 1;
+        final ChunkProviderServer chunkProvider = ((WorldServer) world).getChunkProvider();
+        final List<EntityPlayer> nearbyPlayers = new ArrayList<>();
+        for (LongIterator iterator = chunksInRange.iterator(); iterator.hasNext(); ) {
+            final long key = iterator.nextLong();
+            final int chunkX = (int) key;
+            final int chunkZ = (int) (key >> 32);
+            final Chunk chunk = chunkProvider.getLoadedChunk(chunkX, chunkZ);
+            if (chunk == null) {
+                continue;
+            }
 
-            maxRange = Math.min((SpongeImpl.getServer().getPlayerList().getViewDistance() << 4) - 8, maxRange);
-            ((IModData_Activation) player).setActivatedTick(world.getWorldInfo().getWorldTotalTime());
-            growBb(maxBB, player.getEntityBoundingBox(), maxRange, 256, maxRange);
-
-            int i = MathHelper.floor_double(maxBB.minX / 16.0D);
-            int j = MathHelper.floor_double(maxBB.maxX / 16.0D);
-            int k = MathHelper.floor_double(maxBB.minZ / 16.0D);
-            int l = MathHelper.floor_double(maxBB.maxZ / 16.0D);
-
-            for (int i1 = i; i1 <= j; ++i1) {
-                for (int j1 = k; j1 <= l; ++j1) {
-                    WorldServer worldserver = (WorldServer) world;
-                    Chunk chunk = worldserver.getChunkProvider().getLoadedChunk(i1, j1);
-                    if (chunk != null) {
-                        activateChunkEntities(player, chunk);
+            nearbyPlayers.clear();
+            for (int x = chunkX - chunkRadius; x <= chunkX + chunkRadius; ++x) {
+                for (int z = chunkZ - chunkRadius; z <= chunkZ + chunkRadius; ++z) {
+                    final List<EntityPlayer> players = playersByChunk.get(ChunkPos.chunkXZ2Int(x, z));
+                    if (players != null) {
+                        nearbyPlayers.addAll(players);
                     }
                 }
             }
+            activateChunkEntities(nearbyPlayers, chunk, currentTick);
         }
     }
 
     /**
      * Checks for the activation state of all entities in this chunk.
      *
+     * @param players The players that may activate entities in the chunk
      * @param chunk Chunk to check for activation
+     * @param currentTick The current world tick
      */
-    private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
+    private static void activateChunkEntities(List<EntityPlayer> players, Chunk chunk, long currentTick) {
         for (int i = 0; i < chunk.getEntityLists().length; ++i) {
 
             for (Object o : chunk.getEntityLists()[i]) {
@@ -263,61 +302,26 @@ private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
                     continue;
                 }
 
-                long currentTick = entity.worldObj.getWorldInfo().getWorldTotalTime();
-                if (currentTick > ((IModData_Activation) entity).getActivatedTick()) {
-                    if (((IModData_Activation) entity).getDefaultActivationState()) {
-                        ((IModData_Activation) entity).setActivatedTick(currentTick);
+                IModData_Activation spongeEntity = (IModData_Activation) entity;
+                if (currentTick > spongeEntity.getActivatedTick()) {
+                    if (spongeEntity.getDefaultActivationState()) {
+                        spongeEntity.setActivatedTick(currentTick);
                         continue;
                     }
 
-                    IModData_Activation spongeEntity = (IModData_Activation) entity;
                     // check if activation cache needs to be updated
                     if (spongeEntity.requiresActivationCacheRefresh()) {
                         ActivationRange.initializeEntityActivationState(entity);
                         spongeEntity.requiresActivationCacheRefresh(false);
                     }
-                    // check for entity type overrides
-                    byte activationType = ((IModData_Activation) entity).getActivationType();
-                    int bbActivationRange = ((IModData_Activation) entity).getActivationRange();
-
-                    if (activationType == 5) {
-                        growBb(miscBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 4) {
-                        growBb(ambientBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 3) {
-                        growBb(aquaticBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 2) {
-                        growBb(creatureBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else {
-                        growBb(monsterBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    }
-
-                    switch (((IModData_Activation) entity).getActivationType()) {
-                        case 1:
-                            if (monsterBB.intersectsWith(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 2:
-                            if (creatureBB.intersectsWith(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 3:
-                            if (aquaticBB.intersectsWith(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 4:
-                            if (ambientBB.intersectsWith(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
+                    // the range already accounts for entity type overrides
+                    final int bbActivationRange = spongeEntity.getActivationRange();
+                    final AxisAlignedBB entityBB = entity.getEntityBoundingBox();
+                    for (EntityPlayer player : players) {
+                        if (isInRange(player.getEntityBoundingBox(), entityBB, bbActivationRange)) {
+                            spongeEntity.setActivatedTick(currentTick);
                             break;
-                        case 5:
-                        default:
-                            if (miscBB.intersectsWith(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
+                        }
                     }
                 }
             }
@@ -0,0 +1,280 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.tileentityactivation;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.inventory.Container;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.inventory.InventoryLargeChest;
+import net.minecraft.inventory.Slot;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ITickable;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.SpongeConfig;
+import org.spongepowered.common.config.category.TileEntityActivationCategory;
+import org.spongepowered.common.config.category.TileEntityActivationModCategory;
+import org.spongepowered.common.data.type.SpongeTileEntityType;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces.IModData_TileEntityActivation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TileEntityActivation {
+
+    /**
+     * Resolves the activation range and the tick rate of a tile entity from
+     * the config of its world.
+     *
+     * @param tileEntity The tile entity to initialize
+     */
+    public static void initializeTileEntityActivationState(TileEntity tileEntity) {
+        final IModData_TileEntityActivation spongeTile = (IModData_TileEntityActivation) tileEntity;
+        final World world = tileEntity.getWorld();
+        if (world == null || world.isRemote || !(tileEntity instanceof ITickable)) {
+            spongeTile.setDefaultActivationState(true);
+            return;
+        }
+
+        final SpongeConfig<?> config = ((IMixinWorldServer) world).getActiveConfig();
+        final SpongeTileEntityType type = (SpongeTileEntityType) ((org.spongepowered.api.block.tileentity.TileEntity) tileEntity).getType();
+        if (config == null || type == null) {
+            spongeTile.setDefaultActivationState(true);
+            return;
+        }
+
+        final TileEntityActivationCategory activationCategory = config.getConfig().getTileEntityActivationRange();
+        final String modId = getModId(type);
+        final String tileName = getTileName(type);
+        TileEntityActivationModCategory tileMod = activationCategory.getModList().get(modId);
+        if (tileMod == null && activationCategory.autoPopulateData()) {
+            tileMod = new TileEntityActivationModCategory();
+            activationCategory.getModList().put(modId, tileMod);
+        }
+
+        int blockRange = activationCategory.getDefaultBlockRange();
+        int tickRate = activationCategory.getDefaultTickRate();
+        if (tileMod != null) {
+            if (!tileMod.isEnabled()) {
+                spongeTile.setDefaultActivationState(true);
+                return;
+            }
+            if (tileMod.getDefaultBlockRange() != null) {
+                blockRange = tileMod.getDefaultBlockRange();
+            }
+            if (tileMod.getDefaultTickRate() != null) {
+                tickRate = tileMod.getDefaultTickRate();
+            }
+
+            final Integer tileBlockRange = tileMod.getTileEntityRangeList().get(tileName);
+            final Integer tileTickRate = tileMod.getTileEntityTickRateList().get(tileName);
+            if (activationCategory.autoPopulateData() && (tileBlockRange == null || tileTickRate == null)) {
+                if (tileBlockRange == null) {
+                    tileMod.getTileEntityRangeList().put(tileName, blockRange);
+                }
+                if (tileTickRate == null) {
+                    tileMod.getTileEntityTickRateList().put(tileName, tickRate);
+                }
+                config.save();
+            }
+            if (tileBlockRange != null) {
+                blockRange = tileBlockRange;
+            }
+            if (tileTickRate != null) {
+                tickRate = tileTickRate;
+            }
+        }
+
+        spongeTile.setActivationRange(blockRange);
+        spongeTile.setTickRate(tickRate);
+        // A range of 0 or less disables activation checks for the tile entity
+        spongeTile.setDefaultActivationState(blockRange <= 0);
+    }
+
+    private static String getModId(SpongeTileEntityType type) {
+        final int index = type.getId().indexOf(':');
+        return index == -1 ? "minecraft" : type.getId().substring(0, index);
+    }
+
+    private static String getTileName(SpongeTileEntityType type) {
+        final int index = type.getId().indexOf(':');
+        return index == -1 ? type.getId() : type.getId().substring(index + 1);
+    }
+
+    /**
+     * Find what tile entities are in range of the players in the world and
+     * set active if in range, or if a player is using them.
+     *
+     * @param world The world to perform activation checks in
+     */
+    public static void activateTileEntities(WorldServer world) {
+        if (world.playerEntities.isEmpty()) {
+            return;
+        }
+
+        final TileEntityActivationCategory activationCategory = ((IMixinWorldServer) world).getActiveConfig().getConfig().getTileEntityActivationRange();
+        int maxRange = activationCategory.getDefaultBlockRange();
+        for (TileEntityActivationModCategory tileMod : activationCategory.getModList().values()) {
+            if (tileMod.getDefaultBlockRange() != null && tileMod.getDefaultBlockRange() > maxRange) {
+                maxRange = tileMod.getDefaultBlockRange();
+            }
+            for (Integer range : tileMod.getTileEntityRangeList().values()) {
+                if (range > maxRange) {
+                    maxRange = range;
+                }
+            }
+        }
+        maxRange = Math.min((SpongeImpl.getServer().getPlayerList().getViewDistance() << 4) - 8, maxRange);
+        if (maxRange <= 0) {
+            return;
+        }
+
+        final long currentTick = world.getWorldInfo().getWorldTotalTime();
+        final Long2ObjectMap<List<EntityPlayer>> playersByChunk = new Long2ObjectOpenHashMap<>();
+        for (EntityPlayer player : world.playerEntities) {
+            // Tile entities a player is looking into always tick
+            final Container container = player.openContainer;
+            if (container != null && container != player.inventoryContainer) {
+                for (Slot slot : container.inventorySlots) {
+                    if (slot.inventory instanceof InventoryLargeChest) {
+                        // Double chests are a wrapper around both chest halves
+                        activateInventory(((InventoryLargeChest) slot.inventory).upperChest, currentTick);
+                        activateInventory(((InventoryLargeChest) slot.inventory).lowerChest, currentTick);
+                    } else {
+                        activateInventory(slot.inventory, currentTick);
+                    }
+                }
+            }
+
+            final AxisAlignedBB bb = player.getEntityBoundingBox();
+            final int minX = MathHelper.floor_double((bb.minX - maxRange) / 16.0D);
+            final int maxX = MathHelper.floor_double((bb.maxX + maxRange) / 16.0D);
+            final int minZ = MathHelper.floor_double((bb.minZ - maxRange) / 16.0D);
+            final int maxZ = MathHelper.floor_double((bb.maxZ + maxRange) / 16.0D);
+            for (int x = minX; x <= maxX; ++x) {
+                for (int z = minZ; z <= maxZ; ++z) {
+                    final long key = ChunkPos.chunkXZ2Int(x, z);
+                    List<EntityPlayer> players = playersByChunk.get(key);
+                    if (players == null) {
+                        players = new ArrayList<>();
+                        playersByChunk.put(key, players);
+                    }
+                    players.add(player);
+                }
+            }
+        }
+
+        // Every chunk is checked once, against the players that have it in range
+        for (Long2ObjectMap.Entry<List<EntityPlayer>> entry : playersByChunk.long2ObjectEntrySet()) {
+            final long key = entry.getLongKey();
+            final Chunk chunk = world.getChunkProvider().getLoadedChunk((int) key, (int) (key >> 32));
+            if (chunk != null) {
+                activateChunkTileEntities(entry.getValue(), chunk, currentTick);
+            }
+        }
+    }
+
+    /**
+     * Checks for the activation state of all tile entities in this chunk.
+     *
+     * @param players The players that have the chunk in range
+     * @param chunk Chunk to check for activation
+     * @param currentTick The current world tick
+     */
+    private static void activateInventory(IInventory inventory, long currentTick) {
+        if (inventory instanceof IModData_TileEntityActivation) {
+            ((IModData_TileEntityActivation) inventory).setActivatedTick(currentTick);
+        }
+    }
+
+    private static void activateChunkTileEntities(List<EntityPlayer> players, Chunk chunk, long currentTick) {
+        for (TileEntity tileEntity : chunk.getTileEntityMap().values()) {
+            if (!(tileEntity instanceof ITickable)) {
+                continue;
+            }
+
+            final IModData_TileEntityActivation spongeTile = (IModData_TileEntityActivation) tileEntity;
+            if (spongeTile.requiresActivationCacheRefresh()) {
+                initializeTileEntityActivationState(tileEntity);
+                spongeTile.requiresActivationCacheRefresh(false);
+            }
+            if (spongeTile.getDefaultActivationState() || currentTick <= spongeTile.getActivatedTick()) {
+                continue;
+            }
+
+            final BlockPos pos = tileEntity.getPos();
+            final int range = spongeTile.getActivationRange();
+            for (EntityPlayer player : players) {
+                final AxisAlignedBB bb = player.getEntityBoundingBox();
+                if (pos.getX() + 1 > bb.minX - range && pos.getX() < bb.maxX + range
+                        && pos.getZ() + 1 > bb.minZ - range && pos.getZ() < bb.maxZ + range) {
+                    spongeTile.setActivatedTick(currentTick);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the tile entity is active for this tick. Inactive tile
+     * entities still tick once every tick rate ticks, on a tick that
+     * depends on their position.
+     *
+     * @param tileEntity The tile entity to check for activity
+     * @return Whether the given tile entity should be ticked
+     */
+    public static boolean checkIfActive(TileEntity tileEntity) {
+        final World world = tileEntity.getWorld();
+        if (world == null || world.isRemote) {
+            return true;
+        }
+
+        final IModData_TileEntityActivation spongeTile = (IModData_TileEntityActivation) tileEntity;
+        if (spongeTile.requiresActivationCacheRefresh()) {
+            initializeTileEntityActivationState(tileEntity);
+            spongeTile.requiresActivationCacheRefresh(false);
+        }
+        if (spongeTile.getDefaultActivationState()) {
+            return true;
+        }
+
+        final long currentTick = world.getWorldInfo().getWorldTotalTime();
+        if (spongeTile.getActivatedTick() >= currentTick) {
+            return true;
+        }
+        final int tickRate = spongeTile.getTickRate();
+        // Offset by the position, so that inactive tile entities don't all tick on the same tick
+        return tickRate > 0 && Math.floorMod(currentTick + tileEntity.getPos().hashCode(), (long) tickRate) == 0;
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.network.NetworkManager;
+import net.minecraft.network.Packet;
+import net.minecraft.network.datasync.EntityDataManager;
+import net.minecraft.network.play.server.SPacketBlockChange;
+import net.minecraft.network.play.server.SPacketDisconnect;
+import net.minecraft.network.play.server.SPacketEntity;
+import net.minecraft.network.play.server.SPacketEntityHeadLook;
+import net.minecraft.network.play.server.SPacketEntityMetadata;
+import net.minecraft.network.play.server.SPacketEntityVelocity;
+import net.minecraft.network.play.server.SPacketKeepAlive;
+import net.minecraft.network.play.server.SPacketMultiBlockChange;
+import net.minecraft.network.play.server.SPacketPlayerPosLook;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.IMixinNetworkManager;
+import org.spongepowered.common.interfaces.network.play.server.IMixinSPacketBlockChange;
+import org.spongepowered.common.interfaces.network.play.server.IMixinSPacketEntity;
+import org.spongepowered.common.interfaces.network.play.server.IMixinSPacketEntityMetadata;
+import org.spongepowered.common.interfaces.network.play.server.IMixinSPacketMultiBlockChange;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gathers the packets sent to a player on the main thread during a tick, so
+ * they can be written with a single flush at the end of the tick.
+ *
+ * <p>Before being written, redundant packets are merged: relative moves and
+ * metadata of the same entity, and block changes within one chunk, which
+ * become a multi block change. Merging only happens within runs of such
+ * packets, any other packet ends a run so its order is kept.</p>
+ */
+public final class OutboundPacketQueue {
+
+    // Only updated on the main thread
+    private static long queuedPackets;
+    private static long sentPackets;
+    private static long flushes;
+
+    private final List<Packet<?>> packets = new ArrayList<>();
+
+    public static boolean isEnabled() {
+        return Settings.BATCHING;
+    }
+
+    /**
+     * Gets whether the packet is sent right away, these are either timing
+     * sensitive or end the connection.
+     *
+     * @param packet The packet
+     * @return True if the packet is not queued
+     */
+    public static boolean bypassesQueue(Packet<?> packet) {
+        return packet instanceof SPacketKeepAlive || packet instanceof SPacketDisconnect || packet instanceof SPacketPlayerPosLook;
+    }
+
+    public static long getQueuedPackets() {
+        return queuedPackets;
+    }
+
+    public static long getSentPackets() {
+        return sentPackets;
+    }
+
+    public static long getFlushes() {
+        return flushes;
+    }
+
+    public void add(Packet<?> packet) {
+        this.packets.add(packet);
+        queuedPackets++;
+    }
+
+    public boolean isEmpty() {
+        return this.packets.isEmpty();
+    }
+
+    /**
+     * Writes all queued packets to the connection and flushes it once.
+     *
+     * @param manager The connection of the player
+     */
+    public void flush(NetworkManager manager) {
+        this.flush(manager, Settings.COALESCING);
+    }
+
+    void flush(NetworkManager manager, boolean coalescing) {
+        if (this.packets.isEmpty()) {
+            return;
+        }
+        final List<Packet<?>> batch = coalescing ? coalesce(this.packets, PacketFields.MIXIN) : new ArrayList<>(this.packets);
+        this.packets.clear();
+        sentPackets += batch.size();
+        flushes++;
+        ((IMixinNetworkManager) manager).sendPackets(batch);
+    }
+
+    private static boolean isCoalescable(Packet<?> packet) {
+        final Class<?> packetClass = packet.getClass();
+        return packetClass == SPacketEntity.S15PacketEntityRelMove.class
+                || packetClass == SPacketEntity.S16PacketEntityLook.class
+                || packetClass == SPacketEntity.S17PacketEntityLookMove.class
+                || packetClass == SPacketEntityMetadata.class
+                || packetClass == SPacketBlockChange.class
+                || packetClass == SPacketEntityHeadLook.class
+                || packetClass == SPacketEntityVelocity.class;
+    }
+
+    static List<Packet<?>> coalesce(List<Packet<?>> packets, PacketFields fields) {
+        final List<Packet<?>> out = new ArrayList<>(packets.size());
+        // Indices in out of the packets later ones can be merged into
+        final Int2IntMap moves = new Int2IntOpenHashMap();
+        final Int2IntMap metadata = new Int2IntOpenHashMap();
+        moves.defaultReturnValue(-1);
+        metadata.defaultReturnValue(-1);
+        final Long2ObjectLinkedOpenHashMap<BlockChanges> blockChanges = new Long2ObjectLinkedOpenHashMap<>();
+
+        for (Packet<?> packet : packets) {
+            if (!isCoalescable(packet)) {
+                completeBlockChanges(out, blockChanges, fields);
+                moves.clear();
+                metadata.clear();
+                out.add(packet);
+            } else if (packet instanceof SPacketEntity) {
+                final int entityId = fields.getMove((SPacketEntity) packet).getMovedEntityId();
+                final int index = moves.get(entityId);
+                final Packet<?> merged = index == -1 ? null : mergeMoves(fields.getMove((SPacketEntity) out.get(index)),
+                        fields.getMove((SPacketEntity) packet), out.get(index) instanceof SPacketEntity.S16PacketEntityLook,
+                        packet instanceof SPacketEntity.S16PacketEntityLook);
+                if (merged != null) {
+                    out.set(index, merged);
+                } else {
+                    moves.put(entityId, out.size());
+                    out.add(packet);
+                }
+            } else if (packet instanceof SPacketEntityMetadata) {
+                final int entityId = fields.getMetadata((SPacketEntityMetadata) packet).getMetadataEntityId();
+                final int index = metadata.get(entityId);
+                if (index != -1) {
+                    out.set(index, mergeMetadata(fields, (SPacketEntityMetadata) out.get(index), (SPacketEntityMetadata) packet));
+                } else {
+                    metadata.put(entityId, out.size());
+                    out.add(packet);
+                }
+            } else if (packet instanceof SPacketBlockChange) {
+                final BlockPos pos = fields.getBlockChange((SPacketBlockChange) packet).getChangedPos();
+                final long chunkKey = ChunkPos.chunkXZ2Int(pos.getX() >> 4, pos.getZ() >> 4);
+                BlockChanges changes = blockChanges.get(chunkKey);
+                if (changes == null) {
+                    changes = new BlockChanges(out.size(), new ChunkPos(pos.getX() >> 4, pos.getZ() >> 4));
+                    blockChanges.put(chunkKey, changes);
+                    out.add(packet);
+                }
+                changes.add((SPacketBlockChange) packet, pos);
+            } else {
+                out.add(packet);
+            }
+        }
+        completeBlockChanges(out, blockChanges, fields);
+        return out;
+    }
+
+    private static Packet<?> mergeMoves(IMixinSPacketEntity mixinFirst, IMixinSPacketEntity mixinSecond, boolean firstLooks,
+            boolean secondLooks) {
+        final boolean moves = !firstLooks || !secondLooks;
+        final int x = mixinFirst.getMoveX() + mixinSecond.getMoveX();
+        final int y = mixinFirst.getMoveY() + mixinSecond.getMoveY();
+        final int z = mixinFirst.getMoveZ() + mixinSecond.getMoveZ();
+        if (moves && (x != (short) x || y != (short) y || z != (short) z)) {
+            // The merged move is too far for a relative move
+            return null;
+        }
+        final IMixinSPacketEntity rotation = mixinSecond.hasMoveRotation() ? mixinSecond : mixinFirst.hasMoveRotation() ? mixinFirst : null;
+        final int entityId = mixinSecond.getMovedEntityId();
+        final boolean onGround = mixinSecond.isMoveOnGround();
+        if (rotation == null) {
+            return new SPacketEntity.S15PacketEntityRelMove(entityId, x, y, z, onGround);
+        } else if (moves) {
+            return new SPacketEntity.S17PacketEntityLookMove(entityId, x, y, z, rotation.getMoveYaw(), rotation.getMovePitch(), onGround);
+        }
+        return new SPacketEntity.S16PacketEntityLook(entityId, rotation.getMoveYaw(), rotation.getMovePitch(), onGround);
+    }
+
+    private static Packet<?> mergeMetadata(PacketFields fields, SPacketEntityMetadata first, SPacketEntityMetadata second) {
+        final IMixinSPacketEntityMetadata mixinFirst = fields.getMetadata(first);
+        final List<EntityDataManager.DataEntry<?>> secondEntries = fields.getMetadata(second).getMetadataEntries();
+        if (secondEntries == null) {
+            return first;
+        }
+        final List<EntityDataManager.DataEntry<?>> firstEntries = mixinFirst.getMetadataEntries();
+        // The packets may be shared between players, so never modify them
+        final List<EntityDataManager.DataEntry<?>> entries = firstEntries == null ? new ArrayList<>() : new ArrayList<>(firstEntries);
+        for (EntityDataManager.DataEntry<?> entry : secondEntries) {
+            final int id = entry.getKey().getId();
+            boolean replaced = false;
+            for (int i = 0; i < entries.size(); i++) {
+                if (entries.get(i).getKey().getId() == id) {
+                    entries.set(i, entry);
+                    replaced = true;
+                    break;
+                }
+            }
+            if (!replaced) {
+                entries.add(entry);
+            }
+        }
+        final SPacketEntityMetadata merged = new SPacketEntityMetadata();
+        fields.getMetadata(merged).setMetadata(mixinFirst.getMetadataEntityId(), entries);
+        return merged;
+    }
+
+    private static void completeBlockChanges(List<Packet<?>> out, Long2ObjectLinkedOpenHashMap<BlockChanges> blockChanges,
+            PacketFields fields) {
+        if (blockChanges.isEmpty()) {
+            return;
+        }
+        for (BlockChanges changes : blockChanges.values()) {
+            out.set(changes.index, changes.toPacket(fields));
+        }
+        blockChanges.clear();
+    }
+
+    private static final class BlockChanges {
+
+        final int index;
+        final ChunkPos chunkPos;
+        // The last change of each position, in the order they were first changed
+        final Map<BlockPos, SPacketBlockChange> changes = new LinkedHashMap<>();
+
+        BlockChanges(int index, ChunkPos chunkPos) {
+            this.index = index;
+            this.chunkPos = chunkPos;
+        }
+
+        void add(SPacketBlockChange packet, BlockPos pos) {
+            this.changes.put(pos, packet);
+        }
+
+        Packet<?> toPacket(PacketFields fields) {
+            if (this.changes.size() == 1) {
+                return this.changes.values().iterator().next();
+            }
+            final SPacketMultiBlockChange packet = new SPacketMultiBlockChange();
+            final SPacketMultiBlockChange.BlockUpdateData[] data = new SPacketMultiBlockChange.BlockUpdateData[this.changes.size()];
+            int i = 0;
+            for (Map.Entry<BlockPos, SPacketBlockChange> entry : this.changes.entrySet()) {
+                final BlockPos pos = entry.getKey();
+                final IBlockState state = entry.getValue().blockState;
+                final short offset = (short) ((pos.getX() & 15) << 12 | (pos.getZ() & 15) << 8 | pos.getY());
+                data[i++] = packet.new BlockUpdateData(offset, state);
+            }
+            fields.getMultiBlockChange(packet).setChanges(this.chunkPos, data);
+            return packet;
+        }
+    }
+
+    /**
+     * Accesses the fields of the packets being merged. These accessors are
+     * mixed into the packets, which unit tests can't rely on.
+     */
+    interface PacketFields {
+
+        PacketFields MIXIN = new PacketFields() {
+
+            @Override
+            public IMixinSPacketEntity getMove(SPacketEntity packet) {
+                return (IMixinSPacketEntity) packet;
+            }
+
+            @Override
+            public IMixinSPacketEntityMetadata getMetadata(SPacketEntityMetadata packet) {
+                return (IMixinSPacketEntityMetadata) packet;
+            }
+
+            @Override
+            public IMixinSPacketBlockChange getBlockChange(SPacketBlockChange packet) {
+                return (IMixinSPacketBlockChange) packet;
+            }
+
+            @Override
+            public IMixinSPacketMultiBlockChange getMultiBlockChange(SPacketMultiBlockChange packet) {
+                return (IMixinSPacketMultiBlockChange) packet;
+            }
+        };
+
+        IMixinSPacketEntity getMove(SPacketEntity packet);
+
+        IMixinSPacketEntityMetadata getMetadata(SPacketEntityMetadata packet);
+
+        IMixinSPacketBlockChange getBlockChange(SPacketBlockChange packet);
+
+        IMixinSPacketMultiBlockChange getMultiBlockChange(SPacketMultiBlockChange packet);
+    }
+
+    // Read on first use rather than when the class loads, so coalescing can be tested without a config
+    private static final class Settings {
+
+        static final boolean BATCHING = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useOutboundPacketBatching();
+        static final boolean COALESCING = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useOutboundPacketCoalescing();
+    }
+}
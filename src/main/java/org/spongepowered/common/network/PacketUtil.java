@@ -35,7 +35,6 @@
 import net.minecraft.network.play.client.CPacketUpdateSign;
 import net.minecraft.tileentity.TileEntitySign;
 import org.spongepowered.api.event.cause.NamedCause;
-import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.tracking.CauseTracker;
@@ -45,10 +44,17 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class PacketUtil {
 
     private static final PhaseContext EMPTY_INVALID = PhaseContext.start().complete();
     private static long lastInventoryOpenPacketTimeStamp = 0;
+    // Only updated on the main thread
+    private static final Map<Class<?>, PacketCounter> packetCounters = new ConcurrentHashMap<>();
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     public static void onProcessPacket(Packet packetIn, INetHandler netHandler) {
@@ -93,21 +99,32 @@ public static void onProcessPacket(Packet packetIn, INetHandler netHandler) {
             if (!CauseTracker.ENABLED && (packetIn instanceof CPacketAnimation || packetIn instanceof CPacketClientSettings)) {
                 packetIn.processPacket(netHandler);
             } else {
-                final ItemStackSnapshot cursor = ItemStackUtil.snapshotOf(packetPlayer.inventory.getItemStack());
-                final IMixinWorldServer world = (IMixinWorldServer) packetPlayer.worldObj;
-                final CauseTracker causeTracker = world.getCauseTracker();
                 final PacketPhase.IPacketState packetState = TrackingPhases.PACKET.getStateForPacket(packetIn);
                 if (packetState == null) {
                     throw new IllegalArgumentException("Found a null packet phase for packet: " + packetIn.getClass());
                 }
+                final PacketCounter counter = getCounter(packetIn.getClass());
+                counter.processed++;
+                if (packetState.isUntracked()) {
+                    // Nothing to capture or unwind, so don't bother with a phase
+                    packetIn.processPacket(netHandler);
+                    return;
+                }
+                final IMixinWorldServer world = (IMixinWorldServer) packetPlayer.worldObj;
+                final CauseTracker causeTracker = world.getCauseTracker();
                 if (!TrackingPhases.PACKET.isPacketInvalid(packetIn, packetPlayer, packetState)) {
-                    PhaseContext context = PhaseContext.start()
+                    PhaseContext context = causeTracker.startContext()
                             .add(NamedCause.source(packetPlayer))
                             .add(NamedCause.of(InternalNamedCauses.Packet.PACKET_PLAYER, packetPlayer))
                             //.addCaptures()
                             .add(NamedCause.of(InternalNamedCauses.Packet.CAPTURED_PACKET, packetIn))
-                            .add(NamedCause.of(InternalNamedCauses.Packet.CURSOR, cursor))
                             .add(NamedCause.of(InternalNamedCauses.Packet.IGNORING_CREATIVE, ignoreCreative));
+                    counter.contexts++;
+                    // Only the states comparing the cursor before and after need it
+                    if (packetState.tracksCursor()) {
+                        context.add(NamedCause.of(InternalNamedCauses.Packet.CURSOR, ItemStackUtil.snapshotOf(packetPlayer.inventory.getItemStack())));
+                        counter.cursorSnapshots++;
+                    }
 
                     TrackingPhases.PACKET.populateContext(packetIn, packetPlayer, packetState, context);
                     context.complete();
@@ -123,6 +140,20 @@ public static void onProcessPacket(Packet packetIn, INetHandler netHandler) {
         }
     }
 
+    private static PacketCounter getCounter(Class<?> packetClass) {
+        return packetCounters.computeIfAbsent(packetClass, PacketCounter::new);
+    }
+
+    /**
+     * Gets the counters of the inbound packets processed since startup,
+     * by packet class.
+     *
+     * @return The packet counters
+     */
+    public static Collection<PacketCounter> getPacketCounters() {
+        return Collections.unmodifiableCollection(packetCounters.values());
+    }
+
     private static boolean creativeCheck(Packet<?> packet, EntityPlayerMP playerMP) {
         return packet instanceof CPacketCreativeInventoryAction;
     }
@@ -155,4 +186,51 @@ public static boolean processSignPacket(CPacketUpdateSign packetIn, CallbackInfo
         return true;
 
     }
+
+    /**
+     * Counts what processing the inbound packets of one class required.
+     */
+    public static final class PacketCounter {
+
+        private final Class<?> packetClass;
+        long processed;
+        long contexts;
+        long cursorSnapshots;
+
+        PacketCounter(Class<?> packetClass) {
+            this.packetClass = packetClass;
+        }
+
+        public Class<?> getPacketClass() {
+            return this.packetClass;
+        }
+
+        /**
+         * Gets the number of packets processed.
+         *
+         * @return The number of packets
+         */
+        public long getProcessed() {
+            return this.processed;
+        }
+
+        /**
+         * Gets the number of phase contexts started, packets in untracked
+         * or invalid states don't start one.
+         *
+         * @return The number of contexts
+         */
+        public long getContexts() {
+            return this.contexts;
+        }
+
+        /**
+         * Gets the number of cursor item snapshots taken.
+         *
+         * @return The number of snapshots
+         */
+        public long getCursorSnapshots() {
+            return this.cursorSnapshots;
+        }
+    }
 }
@@ -0,0 +1,239 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded executor that keeps a separate queue for every plugin and hands
+ * its worker threads to those queues in round-robin order. A single plugin
+ * can never occupy more than {@code maxPerPlugin} workers, so a flood of tasks
+ * from one plugin only delays that plugin's own tasks.
+ */
+final class FairTaskExecutor {
+
+    private static final long KEEP_ALIVE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = this.lock.newCondition();
+    private final Map<PluginContainer, PluginQueue> queues = new IdentityHashMap<>();
+    // Queues with pending tasks that are below their thread limit, in the order they get served
+    private final ArrayDeque<PluginQueue> ready = new ArrayDeque<>();
+    private final int parallelism;
+    private final int maxPerPlugin;
+    private int workers;
+    private int idleWorkers;
+    private int workerCounter;
+
+    FairTaskExecutor(int parallelism, int maxPerPlugin) {
+        this.parallelism = parallelism;
+        this.maxPerPlugin = Math.max(1, Math.min(maxPerPlugin, parallelism));
+    }
+
+    int getParallelism() {
+        return this.parallelism;
+    }
+
+    int getMaxPerPlugin() {
+        return this.maxPerPlugin;
+    }
+
+    int getWorkers() {
+        this.lock.lock();
+        try {
+            return this.workers;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Gets an {@link Executor} view that runs everything on behalf of the
+     * given plugin.
+     *
+     * @param owner The plugin owning the submitted tasks
+     * @return The executor
+     */
+    Executor forOwner(PluginContainer owner) {
+        return runnable -> this.execute(owner, runnable);
+    }
+
+    void execute(PluginContainer owner, Runnable runnable) {
+        this.lock.lock();
+        try {
+            PluginQueue queue = this.queues.get(owner);
+            if (queue == null) {
+                queue = new PluginQueue(owner);
+                this.queues.put(owner, queue);
+            }
+            queue.tasks.add(new QueuedTask(runnable, System.nanoTime()));
+            if (!queue.ready && queue.running < this.maxPerPlugin) {
+                queue.ready = true;
+                this.ready.add(queue);
+                this.wakeWorker();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    List<AsyncTaskMetrics> getMetrics() {
+        final ImmutableList.Builder<AsyncTaskMetrics> metrics = ImmutableList.builder();
+        this.lock.lock();
+        try {
+            for (PluginQueue queue : this.queues.values()) {
+                metrics.add(new AsyncTaskMetrics(queue.owner, queue.tasks.size(), queue.running, queue.completed, queue.totalWaitNanos,
+                        queue.maxWaitNanos, queue.totalRunNanos));
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        return metrics.build();
+    }
+
+    private void wakeWorker() {
+        if (this.idleWorkers > 0) {
+            this.available.signal();
+        } else if (this.workers < this.parallelism) {
+            this.startWorker();
+        }
+    }
+
+    private void startWorker() {
+        final Thread thread = new Thread(this::workerLoop, "Sponge Async Scheduler Worker #" + ++this.workerCounter);
+        thread.setDaemon(true);
+        this.workers++;
+        try {
+            thread.start();
+        } catch (Throwable t) {
+            this.workers--;
+            throw t;
+        }
+    }
+
+    private void workerLoop() {
+        while (true) {
+            final PluginQueue queue;
+            final QueuedTask task;
+            this.lock.lock();
+            try {
+                long keepAlive = KEEP_ALIVE_NANOS;
+                while (this.ready.isEmpty()) {
+                    if (keepAlive <= 0) {
+                        // Idle for too long, let the thread die
+                        this.workers--;
+                        return;
+                    }
+                    this.idleWorkers++;
+                    try {
+                        keepAlive = this.available.awaitNanos(keepAlive);
+                    } catch (InterruptedException ignored) {
+                        // Re-check the queues
+                    } finally {
+                        this.idleWorkers--;
+                    }
+                }
+                queue = this.ready.poll();
+                task = queue.tasks.poll();
+                queue.running++;
+                if (!queue.tasks.isEmpty() && queue.running < this.maxPerPlugin) {
+                    // Back of the line, the other plugins are served first
+                    this.ready.add(queue);
+                } else {
+                    queue.ready = false;
+                }
+                if (!this.ready.isEmpty()) {
+                    // More work is waiting, hand it to another worker
+                    this.wakeWorker();
+                }
+            } finally {
+                this.lock.unlock();
+            }
+
+            final long start = System.nanoTime();
+            try {
+                task.runnable.run();
+            } catch (Throwable t) {
+                SpongeImpl.getLogger().error("An asynchronous task owned by {} threw an exception.", queue.owner.getId(), t);
+            } finally {
+                final long end = System.nanoTime();
+                this.lock.lock();
+                try {
+                    final long wait = start - task.enqueued;
+                    queue.running--;
+                    queue.completed++;
+                    queue.totalWaitNanos += wait;
+                    queue.maxWaitNanos = Math.max(queue.maxWaitNanos, wait);
+                    queue.totalRunNanos += end - start;
+                    if (!queue.ready && !queue.tasks.isEmpty()) {
+                        queue.ready = true;
+                        this.ready.add(queue);
+                    }
+                } finally {
+                    this.lock.unlock();
+                }
+            }
+        }
+    }
+
+    private static final class PluginQueue {
+
+        final PluginContainer owner;
+        final ArrayDeque<QueuedTask> tasks = new ArrayDeque<>();
+        boolean ready;
+        int running;
+        long completed;
+        long totalWaitNanos;
+        long maxWaitNanos;
+        long totalRunNanos;
+
+        PluginQueue(PluginContainer owner) {
+            this.owner = owner;
+        }
+    }
+
+    private static final class QueuedTask {
+
+        final Runnable runnable;
+        final long enqueued;
+
+        QueuedTask(Runnable runnable, long enqueued) {
+            this.runnable = runnable;
+            this.enqueued = enqueued;
+        }
+    }
+
+}
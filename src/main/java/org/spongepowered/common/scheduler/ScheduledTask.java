@@ -32,6 +32,8 @@
 import java.util.function.Consumer;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 /**
  * An internal representation of a {@link Task} created by a plugin.
  */
@@ -49,6 +51,10 @@ public class ScheduledTask implements Task {
     private final String name;
     private final TaskSynchronicity syncType;
     private final String stringRepresentation;
+    // The timestamp the task is queued for by its scheduler
+    long deadline;
+    boolean deadlineIsTicks;
+    @Nullable private volatile SchedulerBase scheduler;
 
     // Internal Task state. Not for user-service use.
     public enum ScheduledTaskState {
@@ -130,6 +136,10 @@ public boolean cancel() {
             success = true;
         }
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        final SchedulerBase scheduler = this.scheduler;
+        if (scheduler != null) {
+            scheduler.removeTask(this);
+        }
         return success;
     }
 
@@ -172,6 +182,10 @@ long nextExecutionTimestamp() {
         }
     }
 
+    void setScheduler(SchedulerBase scheduler) {
+        this.scheduler = scheduler;
+    }
+
     void setTimestamp(long timestamp) {
         this.timestamp = timestamp;
     }
@@ -30,15 +30,26 @@
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.UUID;
 
 abstract class SchedulerBase {
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    private static final Comparator<ScheduledTask> DEADLINE_ORDER = (o1, o2) -> Long.compare(o1.deadline, o2.deadline);
+
+    // All pending (and running) ScheduledTasks
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // The tasks ordered by their next execution, tasks based on ticks and
+    // on real time are kept separately as their timestamps don't compare
+    private final PriorityQueue<ScheduledTask> tickQueue = new PriorityQueue<>(DEADLINE_ORDER);
+    private final PriorityQueue<ScheduledTask> timeQueue = new PriorityQueue<>(DEADLINE_ORDER);
+    private final List<ScheduledTask> dueTasks = new ArrayList<>();
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
@@ -62,18 +73,41 @@ protected String nextName(PluginContainer plugin) {
      * @return Timestamp for the task
      */
     protected long getTimestamp(ScheduledTask task) {
-        return System.nanoTime();
+        return this.isTickBased(task) ? this.getTicks() : System.nanoTime();
+    }
+
+    /**
+     * Gets whether the next execution of the task is measured in ticks
+     * rather than in nanoseconds.
+     *
+     * @param task The task
+     * @return True if the task is waiting for ticks to pass
+     */
+    protected boolean isTickBased(ScheduledTask task) {
+        return false;
+    }
+
+    /**
+     * Gets the amount of ticks that passed, for tasks that are
+     * {@link #isTickBased(ScheduledTask) based on ticks}.
+     *
+     * @return The tick counter
+     */
+    protected long getTicks() {
+        return 0L;
     }
 
     /**
      * Adds the task to the task map, will attempt to process the task on the
-     * next call to {@link #runTick}.
+     * first call to {@link #runTick} after its delay passed.
      *
      * @param task The task to add
      */
     protected void addTask(ScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
+        task.setScheduler(this);
         this.taskMap.put(task.getUniqueId(), task);
+        this.queueTask(task);
     }
 
     /**
@@ -83,6 +117,17 @@ protected void addTask(ScheduledTask task) {
      */
     protected void removeTask(ScheduledTask task) {
         this.taskMap.remove(task.getUniqueId());
+        synchronized (this.taskMap) {
+            (task.deadlineIsTicks ? this.tickQueue : this.timeQueue).remove(task);
+        }
+    }
+
+    private void queueTask(ScheduledTask task) {
+        synchronized (this.taskMap) {
+            task.deadline = task.nextExecutionTimestamp();
+            task.deadlineIsTicks = this.isTickBased(task);
+            (task.deadlineIsTicks ? this.tickQueue : this.timeQueue).add(task);
+        }
     }
 
     protected Optional<Task> getTask(UUID id) {
@@ -96,18 +141,46 @@ protected Set<Task> getScheduledTasks() {
     }
 
     /**
-     * Process all tasks in the map.
+     * Gets the amount of nanoseconds until the next task based on real time
+     * is due.
+     *
+     * @return The nanoseconds until the next task, or {@link Long#MAX_VALUE}
+     *     if there is none
+     */
+    protected long getNanosUntilNextTask() {
+        synchronized (this.taskMap) {
+            final ScheduledTask next = this.timeQueue.peek();
+            return next == null ? Long.MAX_VALUE : Math.max(0L, next.deadline - System.nanoTime());
+        }
+    }
+
+    /**
+     * Process all tasks that are due. Tasks that are added while processing
+     * are due on the next call at the earliest.
      */
     protected final void runTick() {
         this.preTick();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            synchronized (this.taskMap) {
+                pollDue(this.tickQueue, this.getTicks(), this.dueTasks);
+                pollDue(this.timeQueue, System.nanoTime(), this.dueTasks);
+            }
+            for (int i = 0; i < this.dueTasks.size(); i++) {
+                this.processTask(this.dueTasks.get(i));
+            }
             this.postTick();
         } finally {
+            this.dueTasks.clear();
             this.finallyPostTick();
         }
     }
 
+    private static void pollDue(PriorityQueue<ScheduledTask> queue, long now, List<ScheduledTask> dueTasks) {
+        ScheduledTask next;
+        while ((next = queue.peek()) != null && next.deadline <= now) {
+            dueTasks.add(queue.poll());
+        }
+    }
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -128,7 +201,7 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task that is due.
      *
      * @param task The task to process
      */
@@ -139,29 +212,25 @@ protected void processTask(ScheduledTask task) {
             this.removeTask(task);
             return;
         }
-        long threshold = Long.MAX_VALUE;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (period) of the repeating task parameter.
-        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.offset;
-        } else if (task.getState() == ScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.period;
+        // The previous run hasn't started yet, as the executor is busy. Check
+        // again after another period, but never queue the task twice.
+        if (task.getState() == ScheduledTask.ScheduledTaskState.SWITCHING) {
+            task.setTimestamp(this.getTimestamp(task));
+            this.queueTask(task);
+            return;
         }
-        // This moment is 'now'
-        long now = this.getTimestamp(task);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
         // Repeating tasks get a reset-timestamp each time they are set RUNNING
         // If the task has a period of 0 (zero) this task will not repeat, and
         // is removed after we start it.
-        if (threshold <= (now - task.getTimestamp())) {
-            task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
-            task.setTimestamp(this.getTimestamp(task));
-            startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.period == 0L) {
-                this.removeTask(task);
-            }
+        task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+        task.setTimestamp(this.getTimestamp(task));
+        if (task.period != 0L) {
+            this.queueTask(task);
+        }
+        startTask(task);
+        // If task is one time shot, remove it from the map.
+        if (task.period == 0L) {
+            this.removeTask(task);
         }
     }
 
@@ -171,7 +240,7 @@ protected void processTask(ScheduledTask task) {
      * @param task The task to start
      */
     protected void startTask(final ScheduledTask task) {
-        this.executeTaskRunnable(() -> {
+        this.executeTaskRunnable(task, () -> {
             task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
             try {
                 task.getConsumer().accept(task);
@@ -185,8 +254,9 @@ protected void startTask(final ScheduledTask task) {
     /**
      * Actually run the runnable that will begin the task
      *
+     * @param task The task being started
      * @param runnable The runnable to run
      */
-    protected abstract void executeTaskRunnable(Runnable runnable);
+    protected abstract void executeTaskRunnable(ScheduledTask task, Runnable runnable);
 
 }
@@ -38,6 +38,7 @@
 import org.spongepowered.common.SpongeImpl;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -192,6 +193,43 @@ public void tickSyncScheduler() {
     }
 
     public <T> CompletableFuture<T> submitAsyncTask(Callable<T> callable) {
-        return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor());
+        return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor(SpongeImpl.getPlugin()));
+    }
+
+    /**
+     * Gets a snapshot of the asynchronous task statistics of every plugin
+     * that submitted asynchronous work.
+     *
+     * @return The metrics, one entry per plugin
+     */
+    public List<AsyncTaskMetrics> getAsyncTaskMetrics() {
+        return this.asyncScheduler.getMetrics();
+    }
+
+    /**
+     * Gets the maximum number of threads running asynchronous tasks.
+     *
+     * @return The async parallelism
+     */
+    public int getAsyncParallelism() {
+        return this.asyncScheduler.getExecutor().getParallelism();
+    }
+
+    /**
+     * Gets the maximum number of threads a single plugin may occupy.
+     *
+     * @return The per-plugin thread limit
+     */
+    public int getAsyncThreadsPerPlugin() {
+        return this.asyncScheduler.getExecutor().getMaxPerPlugin();
+    }
+
+    /**
+     * Gets the number of live asynchronous worker threads.
+     *
+     * @return The worker count
+     */
+    public int getAsyncWorkers() {
+        return this.asyncScheduler.getExecutor().getWorkers();
     }
 }
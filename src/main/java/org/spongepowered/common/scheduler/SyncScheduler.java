@@ -42,27 +42,22 @@ void tick() {
     }
 
     @Override
-    protected long getTimestamp(ScheduledTask task) {
+    protected boolean isTickBased(ScheduledTask task) {
         if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
             // The timestamp is based on the initial offset
-            if (task.delayIsTicks) {
-                return this.counter;
-            } else {
-                return super.getTimestamp(task);
-            }
-        } else if (task.getState().isActive) {
-            // The timestamp is based on the period
-            if (task.intervalIsTicks) {
-                return this.counter;
-            } else {
-                return super.getTimestamp(task);
-            }
+            return task.delayIsTicks;
         }
-        return 0L;
+        // The timestamp is based on the period
+        return task.getState().isActive && task.intervalIsTicks;
     }
 
     @Override
-    protected void executeTaskRunnable(Runnable runnable) {
+    protected long getTicks() {
+        return this.counter;
+    }
+
+    @Override
+    protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
         runnable.run();
     }
 
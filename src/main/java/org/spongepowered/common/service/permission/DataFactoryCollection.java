@@ -56,15 +56,26 @@ protected DataFactoryCollection(String identifier, SpongePermissionService servi
     @Override
     public SpongeSubject get(String identifier) {
         checkNotNull(identifier, "identifier");
-        if (!this.subjects.containsKey(identifier)) {
-            this.subjects.putIfAbsent(identifier, new DataFactorySubject(identifier, this.dataFactory.apply(identifier)));
+        SpongeSubject subject = this.subjects.get(identifier);
+        if (subject == null) {
+            final DataFactorySubject created = new DataFactorySubject(identifier, this.dataFactory.apply(identifier));
+            subject = this.subjects.putIfAbsent(identifier, created);
+            if (subject == null) {
+                subject = created;
+                // Loaded once registered, so stored parents referring back to this subject find it
+                this.service.getStorage().ifPresent(storage -> storage.load(getIdentifier(), identifier, created.data));
+            }
         }
-        return this.subjects.get(identifier);
+        return subject;
     }
 
     @Override
     public boolean hasRegistered(String identifier) {
-        return this.subjects.containsKey(identifier);
+        if (this.subjects.containsKey(identifier)) {
+            return true;
+        }
+        final Optional<PermissionStorage> storage = this.service.getStorage();
+        return storage.isPresent() && storage.get().exists(getIdentifier(), identifier);
     }
 
     @Override
@@ -103,15 +114,19 @@ public MemorySubjectData getSubjectData() {
         }
 
         @Override
-        public Tristate getPermissionValue(Set<Context> contexts, String permission) {
-            Tristate ret = super.getPermissionValue(contexts, permission);
+        protected Tristate resolvePermissionValue(Set<Context> contexts, String permission) {
+            Tristate ret = super.resolvePermissionValue(contexts, permission);
 
             if (ret == Tristate.UNDEFINED) {
-                ret = getDataPermissionValue(DataFactoryCollection.this.getDefaults().getTransientSubjectData(), permission);
+                final SpongeSubject defaults = DataFactoryCollection.this.getDefaults();
+                dependOn(defaults);
+                ret = getDataPermissionValue(defaults.getTransientSubjectData(), contexts, permission);
             }
 
             if (ret == Tristate.UNDEFINED) {
-                ret = getDataPermissionValue(DataFactoryCollection.this.service.getDefaults().getTransientSubjectData(), permission);
+                final SpongeSubject defaults = DataFactoryCollection.this.service.getDefaults();
+                dependOn(defaults);
+                ret = getDataPermissionValue(defaults.getTransientSubjectData(), contexts, permission);
             }
             return ret;
         }
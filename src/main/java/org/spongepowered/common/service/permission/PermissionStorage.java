@@ -0,0 +1,543 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.permission;
+
+import org.spongepowered.api.service.permission.MemorySubjectData;
+import org.spongepowered.api.service.permission.Subject;
+import org.spongepowered.api.service.permission.SubjectData;
+import org.spongepowered.api.service.sql.SqlService;
+import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.PermissionCategory;
+import org.spongepowered.common.scheduler.SpongeScheduler;
+import org.spongepowered.common.service.permission.base.GlobalMemorySubjectData;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nullable;
+import javax.sql.DataSource;
+
+/**
+ * Stores the subject data of the {@link SpongePermissionService} in a
+ * database, one row per permission, option or parent.
+ *
+ * <p>Subjects are read one at a time off the main thread, through the
+ * primary key, when they are created or when players authenticate. Until
+ * the read finishes a subject only holds its defaults and the changes made
+ * to it meanwhile. Changes are queued as they happen and written in batches
+ * off the main thread.</p>
+ */
+public final class PermissionStorage {
+
+    private static final String TYPE_PERMISSION = "P";
+    private static final String TYPE_OPTION = "O";
+    private static final String TYPE_PARENT = "I";
+    private static final char PARENT_SEPARATOR = '\n';
+    // Gives bursts of changes, like a command editing several nodes, the time to end up in one batch
+    private static final long FLUSH_DELAY_MILLIS = 500;
+    // Drops prefetched subjects that were never created, like users that didn't finish logging in
+    private static final long PREFETCH_EXPIRY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS sponge_subject_data ("
+            + "collection VARCHAR(255) NOT NULL, identifier VARCHAR(255) NOT NULL, type CHAR(1) NOT NULL, "
+            + "entry_key VARCHAR NOT NULL, entry_value VARCHAR NOT NULL, "
+            + "PRIMARY KEY (collection, identifier, type, entry_key))";
+    private static final String SELECT_SUBJECT = "SELECT type, entry_key, entry_value FROM sponge_subject_data "
+            + "WHERE collection = ? AND identifier = ?";
+    private static final String MERGE_ENTRY = "MERGE INTO sponge_subject_data (collection, identifier, type, entry_key, entry_value) "
+            + "KEY (collection, identifier, type, entry_key) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_ENTRY = "DELETE FROM sponge_subject_data WHERE collection = ? AND identifier = ? AND type = ? "
+            + "AND entry_key = ?";
+    private static final String DELETE_TYPE = "DELETE FROM sponge_subject_data WHERE collection = ? AND identifier = ? AND type = ?";
+
+    private final SpongePermissionService service;
+    private final DataSource dataSource;
+    private final ArrayDeque<Change> pending = new ArrayDeque<>();
+    // Taken from pending by a flush that hasn't committed yet
+    private final List<Change> inFlight = new ArrayList<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    // Subjects known to have stored data, from reads or writes since the server started
+    private final Set<String> storedSubjects = ConcurrentHashMap.newKeySet();
+    // Guarded by pending
+    private final Map<String, Prefetch> prefetched = new HashMap<>();
+
+    private PermissionStorage(SpongePermissionService service, DataSource dataSource) {
+        this.service = service;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Opens the storage configured in the global config.
+     *
+     * @param service The service the stored subjects belong to
+     * @return The storage, or empty if it is disabled or unavailable
+     */
+    static Optional<PermissionStorage> create(SpongePermissionService service) {
+        final PermissionCategory config = SpongeImpl.getGlobalConfig().getConfig().getPermissions();
+        if (!config.isPersistSubjectData()) {
+            return Optional.empty();
+        }
+        final Optional<SqlService> sql = SpongeImpl.getGame().getServiceManager().provide(SqlService.class);
+        if (!sql.isPresent()) {
+            SpongeImpl.getLogger().warn("No SQL service is available, permission subject data will not be saved.");
+            return Optional.empty();
+        }
+        String database = config.getDatabase();
+        if (database.isEmpty()) {
+            database = "jdbc:h2:" + SpongeImpl.getSpongeConfigDir().resolve("permissions").toAbsolutePath();
+        }
+        try {
+            final DataSource dataSource = sql.get().getDataSource(database);
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_TABLE);
+            }
+            return Optional.of(new PermissionStorage(service, dataSource));
+        } catch (SQLException e) {
+            SpongeImpl.getLogger().error("Could not open the permission database {}, subject data will not be saved.", database, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Starts reading the stored data of a subject off the main thread, so
+     * that it is ready once the subject is created.
+     *
+     * @param collection The identifier of the subject's collection
+     * @param identifier The identifier of the subject
+     */
+    public void prefetch(String collection, String identifier) {
+        fetch(collection, identifier, false);
+    }
+
+    private Prefetch fetch(String collection, String identifier, boolean attach) {
+        final String key = subjectKey(collection, identifier);
+        final Prefetch prefetch;
+        synchronized (this.pending) {
+            final long now = System.currentTimeMillis();
+            this.prefetched.values().removeIf(existing -> !existing.attached && now - existing.time > PREFETCH_EXPIRY_MILLIS);
+            final Prefetch existing = this.prefetched.get(key);
+            if (existing != null) {
+                existing.attached |= attach;
+                return existing;
+            }
+            prefetch = new Prefetch(attach);
+            this.prefetched.put(key, prefetch);
+        }
+        SpongeScheduler.getInstance().submitAsyncTask(() -> read(collection, identifier)).whenComplete((subject, throwable) -> {
+            if (throwable != null) {
+                synchronized (this.pending) {
+                    this.prefetched.remove(key, prefetch);
+                }
+                prefetch.future.completeExceptionally(throwable);
+            } else {
+                prefetch.future.complete(subject);
+            }
+        });
+        return prefetch;
+    }
+
+    /**
+     * Fills the data of a newly registered subject with its stored entries
+     * and starts recording later changes to it.
+     *
+     * <p>The data is filled right away if the subject was prefetched.
+     * Otherwise it keeps its defaults until the read started here finishes,
+     * and is filled on the main thread afterwards, keeping the changes made
+     * to it meanwhile.</p>
+     *
+     * @param collection The identifier of the subject's collection
+     * @param identifier The identifier of the subject
+     * @param data The subject data
+     */
+    public void load(String collection, String identifier, MemorySubjectData data) {
+        final Prefetch prefetch = fetch(collection, identifier, true);
+        if (data instanceof GlobalMemorySubjectData) {
+            // Set before the read finishes, so the changes made meanwhile are recorded as well
+            ((GlobalMemorySubjectData) data).setStore(new SubjectStore(collection, identifier));
+        }
+        if (prefetch.future.isDone()) {
+            fill(collection, identifier, data, prefetch);
+        } else {
+            prefetch.future.whenComplete((subject, throwable) -> SpongeImpl.getGame().getScheduler().createTaskBuilder()
+                    .name("Sponge Permission Load")
+                    .execute(() -> fill(collection, identifier, data, prefetch))
+                    .submit(SpongeImpl.getPlugin()));
+        }
+    }
+
+    private void fill(String collection, String identifier, MemorySubjectData data, Prefetch prefetch) {
+        final List<Change> later;
+        synchronized (this.pending) {
+            this.prefetched.remove(subjectKey(collection, identifier), prefetch);
+            later = new ArrayList<>(prefetch.later);
+        }
+        final StoredSubject subject;
+        try {
+            subject = prefetch.future.join();
+        } catch (RuntimeException e) {
+            SpongeImpl.getLogger().error("Could not load the permission data of {} in {}", identifier, collection, e);
+            return;
+        }
+        // The changes made since the read started are part of the data already
+        subject.apply(collection, identifier, later);
+        final GlobalMemorySubjectData globalData = data instanceof GlobalMemorySubjectData ? (GlobalMemorySubjectData) data : null;
+        final SubjectStore store = globalData == null ? null : globalData.getStore();
+        if (globalData != null) {
+            // Everything set here is stored already
+            globalData.setStore(null);
+        }
+        data.clearPermissions(SubjectData.GLOBAL_CONTEXT);
+        data.clearOptions(SubjectData.GLOBAL_CONTEXT);
+        data.clearParents(SubjectData.GLOBAL_CONTEXT);
+        for (Map.Entry<String, Boolean> permission : subject.permissions.entrySet()) {
+            data.setPermission(SubjectData.GLOBAL_CONTEXT, permission.getKey(), Tristate.fromBoolean(permission.getValue()));
+        }
+        for (Map.Entry<String, String> option : subject.options.entrySet()) {
+            data.setOption(SubjectData.GLOBAL_CONTEXT, option.getKey(), option.getValue());
+        }
+        for (String parent : subject.parents) {
+            final int separator = parent.indexOf(PARENT_SEPARATOR);
+            if (separator == -1) {
+                continue;
+            }
+            try {
+                data.addParent(SubjectData.GLOBAL_CONTEXT, this.service.getSubjects(parent.substring(0, separator))
+                        .get(parent.substring(separator + 1)));
+            } catch (IllegalArgumentException e) {
+                SpongeImpl.getLogger().warn("Ignoring the invalid parent {} of {} in {}", parent, identifier, collection);
+            }
+        }
+        if (globalData != null) {
+            globalData.setStore(store);
+        }
+    }
+
+    private StoredSubject read(String collection, String identifier) throws SQLException {
+        // Taken before reading, anything committed meanwhile is replayed on top, which doesn't change the result
+        // as replaying a sequence of changes again leaves every entry it touches as it was
+        final List<Change> unwritten = getUnwrittenChanges();
+        final StoredSubject subject = new StoredSubject();
+        try (Connection connection = this.dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(SELECT_SUBJECT)) {
+            statement.setString(1, collection);
+            statement.setString(2, identifier);
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    subject.put(result.getString(1), result.getString(2), result.getString(3));
+                }
+            }
+        }
+        if (!subject.isEmpty()) {
+            this.storedSubjects.add(subjectKey(collection, identifier));
+        }
+        subject.apply(collection, identifier, unwritten);
+        return subject;
+    }
+
+    /**
+     * Checks if the given subject is known to have stored data. Subjects
+     * that weren't read yet are read off the main thread, so the answer
+     * may only change once that read finished.
+     *
+     * @param collection The identifier of the subject's collection
+     * @param identifier The identifier of the subject
+     * @return Whether data is known to be stored
+     */
+    public boolean exists(String collection, String identifier) {
+        if (this.storedSubjects.contains(subjectKey(collection, identifier))) {
+            return true;
+        }
+        prefetch(collection, identifier);
+        return false;
+    }
+
+    private List<Change> getUnwrittenChanges() {
+        synchronized (this.pending) {
+            final List<Change> changes = new ArrayList<>(this.inFlight.size() + this.pending.size());
+            changes.addAll(this.inFlight);
+            changes.addAll(this.pending);
+            return changes;
+        }
+    }
+
+    private static String subjectKey(String collection, String identifier) {
+        return collection + PARENT_SEPARATOR + identifier;
+    }
+
+    private void queue(Change change) {
+        final String key = subjectKey(change.collection, change.identifier);
+        synchronized (this.pending) {
+            this.pending.add(change);
+            // The prefetch may have read before this change, and it may be written before the prefetch is used
+            final Prefetch prefetch = this.prefetched.get(key);
+            if (prefetch != null) {
+                prefetch.later.add(change);
+            }
+        }
+        if (change.value != null) {
+            this.storedSubjects.add(key);
+        }
+        if (this.flushScheduled.compareAndSet(false, true)) {
+            SpongeImpl.getGame().getScheduler().createTaskBuilder()
+                    .async()
+                    .delay(FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .name("Sponge Permission Storage")
+                    .execute(this::flush)
+                    .submit(SpongeImpl.getPlugin());
+        }
+    }
+
+    /**
+     * Writes all queued changes in a single transaction. Failed changes stay
+     * queued and are retried by the next flush.
+     */
+    public synchronized void flush() {
+        this.flushScheduled.set(false);
+        final List<Change> changes;
+        synchronized (this.pending) {
+            if (this.pending.isEmpty()) {
+                return;
+            }
+            changes = new ArrayList<>(this.pending);
+            this.pending.clear();
+            this.inFlight.addAll(changes);
+        }
+        try (Connection connection = this.dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement merge = connection.prepareStatement(MERGE_ENTRY);
+                    PreparedStatement delete = connection.prepareStatement(DELETE_ENTRY);
+                    PreparedStatement deleteType = connection.prepareStatement(DELETE_TYPE)) {
+                for (Change change : changes) {
+                    final PreparedStatement statement = change.key == null ? deleteType : change.value == null ? delete : merge;
+                    statement.setString(1, change.collection);
+                    statement.setString(2, change.identifier);
+                    statement.setString(3, change.type);
+                    if (change.key != null) {
+                        statement.setString(4, change.key);
+                        if (change.value != null) {
+                            statement.setString(5, change.value);
+                        }
+                    }
+                    statement.executeUpdate();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+            synchronized (this.pending) {
+                this.inFlight.clear();
+            }
+        } catch (SQLException e) {
+            SpongeImpl.getLogger().error("Could not save {} permission data changes, retrying later", changes.size(), e);
+            synchronized (this.pending) {
+                this.inFlight.clear();
+                // Keep them ahead of anything queued meanwhile
+                for (int i = changes.size() - 1; i >= 0; i--) {
+                    this.pending.addFirst(changes.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the changes of the data of a single subject.
+     */
+    public final class SubjectStore {
+
+        private final String collection;
+        private final String identifier;
+
+        SubjectStore(String collection, String identifier) {
+            this.collection = collection;
+            this.identifier = identifier;
+        }
+
+        public void setPermission(String permission, Tristate value) {
+            if (value == Tristate.UNDEFINED) {
+                queue(new Change(this.collection, this.identifier, TYPE_PERMISSION, permission, null));
+            } else {
+                queue(new Change(this.collection, this.identifier, TYPE_PERMISSION, permission, String.valueOf(value.asBoolean())));
+            }
+        }
+
+        public void clearPermissions() {
+            queue(new Change(this.collection, this.identifier, TYPE_PERMISSION, null, null));
+        }
+
+        public void setOption(String key, @Nullable String value) {
+            queue(new Change(this.collection, this.identifier, TYPE_OPTION, key, value));
+        }
+
+        public void clearOptions() {
+            queue(new Change(this.collection, this.identifier, TYPE_OPTION, null, null));
+        }
+
+        public void addParent(Subject parent) {
+            queue(new Change(this.collection, this.identifier, TYPE_PARENT, parentKey(parent), ""));
+        }
+
+        public void removeParent(Subject parent) {
+            queue(new Change(this.collection, this.identifier, TYPE_PARENT, parentKey(parent), null));
+        }
+
+        public void clearParents() {
+            queue(new Change(this.collection, this.identifier, TYPE_PARENT, null, null));
+        }
+
+        private String parentKey(Subject parent) {
+            return parent.getContainingCollection().getIdentifier() + PARENT_SEPARATOR + parent.getIdentifier();
+        }
+    }
+
+    /**
+     * The stored data of a single subject, with any changes that weren't
+     * written yet applied.
+     */
+    private static final class StoredSubject {
+
+        final Map<String, Boolean> permissions = new LinkedHashMap<>();
+        final Map<String, String> options = new LinkedHashMap<>();
+        final Set<String> parents = new LinkedHashSet<>();
+
+        boolean isEmpty() {
+            return this.permissions.isEmpty() && this.options.isEmpty() && this.parents.isEmpty();
+        }
+
+        void put(String type, String key, String value) {
+            switch (type) {
+                case TYPE_PERMISSION:
+                    this.permissions.put(key, Boolean.parseBoolean(value));
+                    break;
+                case TYPE_OPTION:
+                    this.options.put(key, value);
+                    break;
+                case TYPE_PARENT:
+                    this.parents.add(key);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        void apply(String collection, String identifier, List<Change> changes) {
+            for (Change change : changes) {
+                if (!change.collection.equals(collection) || !change.identifier.equals(identifier)) {
+                    continue;
+                }
+                if (change.key == null) {
+                    clear(change.type);
+                } else if (change.value == null) {
+                    remove(change.type, change.key);
+                } else {
+                    put(change.type, change.key, change.value);
+                }
+            }
+        }
+
+        private void clear(String type) {
+            switch (type) {
+                case TYPE_PERMISSION:
+                    this.permissions.clear();
+                    break;
+                case TYPE_OPTION:
+                    this.options.clear();
+                    break;
+                case TYPE_PARENT:
+                    this.parents.clear();
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void remove(String type, String key) {
+            switch (type) {
+                case TYPE_PERMISSION:
+                    this.permissions.remove(key);
+                    break;
+                case TYPE_OPTION:
+                    this.options.remove(key);
+                    break;
+                case TYPE_PARENT:
+                    this.parents.remove(key);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private static final class Prefetch {
+
+        final CompletableFuture<StoredSubject> future = new CompletableFuture<>();
+        final long time = System.currentTimeMillis();
+        // Changes queued since the prefetch started, guarded by pending
+        final List<Change> later = new ArrayList<>();
+        // Whether a subject waits for the data, guarded by pending
+        boolean attached;
+
+        Prefetch(boolean attached) {
+            this.attached = attached;
+        }
+    }
+
+    private static final class Change {
+
+        final String collection;
+        final String identifier;
+        final String type;
+        // Null for all entries of the type
+        @Nullable final String key;
+        // Null to delete
+        @Nullable final String value;
+
+        Change(String collection, String identifier, String type, @Nullable String key, @Nullable String value) {
+            this.collection = collection;
+            this.identifier = identifier;
+            this.type = type;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+}
@@ -46,12 +46,16 @@
 
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 /**
  * Permission service representing the vanilla operator permission structure.
  *
@@ -67,9 +71,12 @@ public class SpongePermissionService implements PermissionService {
     private final ConcurrentMap<String, SubjectCollection> subjects = new ConcurrentHashMap<>();
     private final SpongeSubjectCollection defaultCollection;
     private final SpongeSubject defaultData;
+    private final List<ContextCalculator<Subject>> contextCalculators = new CopyOnWriteArrayList<>();
+    @Nullable private final PermissionStorage storage;
 
     public SpongePermissionService(Game game) {
         this.game = game;
+        this.storage = SpongeImpl.isInitialized() ? PermissionStorage.create(this).orElse(null) : null;
         this.subjects.put(SUBJECTS_DEFAULT, (defaultCollection = newCollection(SUBJECTS_DEFAULT)));
         this.subjects.put(SUBJECTS_USER, new UserCollection(this));
         this.subjects.put(SUBJECTS_GROUP, new OpLevelCollection(this));
@@ -89,6 +96,7 @@ public SpongePermissionService(Game game) {
                                                                      }));
 
         this.defaultData = getDefaultCollection().get(SUBJECTS_DEFAULT);
+        this.contextCalculators.add(new SpongeContextCalculator());
     }
 
     static UserListOps getOps() {
@@ -120,7 +128,20 @@ public SpongeSubject getDefaults() {
 
     @Override
     public void registerContextCalculator(ContextCalculator<Subject> calculator) {
+        this.contextCalculators.add(checkNotNull(calculator, "calculator"));
+    }
+
+    /**
+     * Gets the storage subject data is saved to, if persistence is enabled.
+     *
+     * @return The storage
+     */
+    public Optional<PermissionStorage> getStorage() {
+        return Optional.ofNullable(this.storage);
+    }
 
+    public List<ContextCalculator<Subject>> getContextCalculators() {
+        return this.contextCalculators;
     }
 
     @Override
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.service.permission;
 
+import com.google.common.collect.MapMaker;
 import com.mojang.authlib.GameProfile;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.service.permission.PermissionService;
@@ -32,13 +33,18 @@
 import org.spongepowered.common.service.permission.base.SpongeSubject;
 import org.spongepowered.common.service.permission.base.SpongeSubjectCollection;
 
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * User collection keeping track of opped users.
  */
 public class UserCollection extends SpongeSubjectCollection {
 
+    // Kept while anything, like an online player, still refers to the subject
+    private final ConcurrentMap<UUID, UserSubject> subjects = new MapMaker().weakValues().makeMap();
+
     public UserCollection(SpongePermissionService service) {
         super(PermissionService.SUBJECTS_USER, service);
     }
@@ -53,7 +59,16 @@ public SpongeSubject get(String identifier) {
     }
 
     protected SpongeSubject get(GameProfile profile) {
-        return new UserSubject(profile, this);
+        UserSubject subject = this.subjects.get(profile.getId());
+        if (subject == null) {
+            final UserSubject created = new UserSubject(profile, this);
+            subject = this.subjects.putIfAbsent(profile.getId(), created);
+            if (subject == null) {
+                subject = created;
+                this.service.getStorage().ifPresent(storage -> storage.load(getIdentifier(), created.getIdentifier(), created.getSubjectData()));
+            }
+        }
+        return subject;
     }
 
     private GameProfile uuidToGameProfile(UUID uniqueId) {
@@ -72,7 +87,11 @@ public boolean hasRegistered(String identifier) {
             return false;
         }
         GameProfile profile = uuidToGameProfile(uid);
-        return SpongePermissionService.getOps().getEntry(profile) != null;
+        if (SpongePermissionService.getOps().getEntry(profile) != null) {
+            return true;
+        }
+        final Optional<PermissionStorage> storage = this.service.getStorage();
+        return storage.isPresent() && storage.get().exists(getIdentifier(), identifier);
     }
 
     private UUID identToUuid(String identifier) {
@@ -99,8 +118,4 @@ public Subject apply(Object input) {
                         // WARNING: This gives dupes
                     }), Sponge.getGame().getServer().getOnlinePlayers()));*/
     }
-
-    public SpongePermissionService getService() {
-        return this.service;
-    }
 }
@@ -48,6 +48,8 @@ public class UserSubject extends SpongeSubject {
     private final GameProfile player;
     private final MemorySubjectData data;
     private final UserCollection collection;
+    // The op level the cached permissions were resolved with, ops are changed outside of the subject data
+    private volatile int cachedOpLevel = -1;
 
     public UserSubject(final GameProfile player, final UserCollection users) {
         this.player = player;
@@ -120,12 +122,26 @@ public MemorySubjectData getSubjectData() {
 
     @Override
     public Tristate getPermissionValue(Set<Context> contexts, String permission) {
-        Tristate ret = super.getPermissionValue(contexts, permission);
+        final int opLevel = getOpLevel();
+        if (opLevel != this.cachedOpLevel) {
+            this.cachedOpLevel = opLevel;
+            invalidatePermissionCache();
+        }
+        return super.getPermissionValue(contexts, permission);
+    }
+
+    @Override
+    protected Tristate resolvePermissionValue(Set<Context> contexts, String permission) {
+        Tristate ret = super.resolvePermissionValue(contexts, permission);
         if (ret == Tristate.UNDEFINED) {
-            ret = getDataPermissionValue(this.collection.getDefaults().getSubjectData(), permission);
+            final SpongeSubject defaults = this.collection.getDefaults();
+            dependOn(defaults);
+            ret = getDataPermissionValue(defaults.getSubjectData(), contexts, permission);
         }
         if (ret == Tristate.UNDEFINED) {
-            ret = getDataPermissionValue(this.collection.getService().getDefaults().getSubjectData(), permission);
+            final SpongeSubject defaults = this.collection.getService().getDefaults();
+            dependOn(defaults);
+            ret = getDataPermissionValue(defaults.getSubjectData(), contexts, permission);
         }
         if (ret == Tristate.UNDEFINED && getOpLevel() >= SpongePermissionService.getServerOpLevel()) {
             ret = Tristate.TRUE;
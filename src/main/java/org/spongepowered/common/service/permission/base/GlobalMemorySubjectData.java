@@ -30,13 +30,21 @@
 import org.spongepowered.api.service.permission.PermissionService;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.service.permission.PermissionStorage;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 public class GlobalMemorySubjectData extends MemorySubjectData {
 
+    // The subject whose resolved permissions are derived from this data
+    @Nullable private volatile SpongeSubject owner;
+    // Records changes to the persistent storage, set once the stored data is requested
+    @Nullable private volatile PermissionStorage.SubjectStore store;
+
     /**
      * Creates a new subject data instance, using the provided service to request instances of permission subjects.
      *
@@ -46,6 +54,33 @@ public GlobalMemorySubjectData(PermissionService service) {
         super(service);
     }
 
+    void setOwner(SpongeSubject owner) {
+        this.owner = owner;
+    }
+
+    @Nullable
+    public PermissionStorage.SubjectStore getStore() {
+        return this.store;
+    }
+
+    public void setStore(@Nullable PermissionStorage.SubjectStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Notifies the owning subject that the permissions or parents of this data
+     * changed, so any permission resolved through it is recalculated.
+     *
+     * @param changed Whether the data actually changed
+     * @return The changed state
+     */
+    protected boolean onChange(boolean changed) {
+        final SpongeSubject owner = this.owner;
+        if (changed && owner != null) {
+            owner.invalidatePermissionCache();
+        }
+        return changed;
+    }
 
     @Override
     public Map<Set<Context>, List<Subject>> getAllParents() {
@@ -57,7 +92,12 @@ public boolean setPermission(Set<Context> contexts, String permission, Tristate
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.setPermission(contexts, permission, value);
+        final boolean changed = super.setPermission(contexts, permission, value);
+        final PermissionStorage.SubjectStore store = this.store;
+        if (changed && store != null) {
+            store.setPermission(permission, value);
+        }
+        return onChange(changed);
     }
 
     @Override
@@ -65,7 +105,12 @@ public boolean clearPermissions(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearPermissions(contexts);
+        final boolean changed = super.clearPermissions(contexts);
+        final PermissionStorage.SubjectStore store = this.store;
+        if (changed && store != null) {
+            store.clearPermissions();
+        }
+        return onChange(changed);
     }
 
     @Override
@@ -73,7 +118,12 @@ public boolean addParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.addParent(contexts, parent);
+        final boolean changed = super.addParent(contexts, parent);
+        final PermissionStorage.SubjectStore store = this.store;
+        if (changed && store != null) {
+            store.addParent(parent);
+        }
+        return onChange(changed);
     }
 
     @Override
@@ -81,7 +131,12 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.removeParent(contexts, parent);
+        final boolean changed = super.removeParent(contexts, parent);
+        final PermissionStorage.SubjectStore store = this.store;
+        if (changed && store != null) {
+            store.removeParent(parent);
+        }
+        return onChange(changed);
     }
 
     @Override
@@ -89,6 +144,62 @@ public boolean clearParents(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearParents(contexts);
+        final boolean changed = super.clearParents(contexts);
+        final PermissionStorage.SubjectStore store = this.store;
+        if (changed && store != null) {
+            store.clearParents();
+        }
+        return onChange(changed);
+    }
+
+    @Override
+    public boolean clearPermissions() {
+        final boolean changed = super.clearPermissions();
+        final PermissionStorage.SubjectStore store = this.store;
+        if (changed && store != null) {
+            store.clearPermissions();
+        }
+        return onChange(changed);
+    }
+
+    @Override
+    public boolean clearParents() {
+        final boolean changed = super.clearParents();
+        final PermissionStorage.SubjectStore store = this.store;
+        if (changed && store != null) {
+            store.clearParents();
+        }
+        return onChange(changed);
+    }
+
+    @Override
+    public boolean setOption(Set<Context> contexts, String key, @Nullable String value) {
+        final boolean changed = super.setOption(contexts, key, value);
+        final PermissionStorage.SubjectStore store = this.store;
+        // Contextual options are not stored, like this data never holds contextual permissions
+        if (changed && store != null && GLOBAL_CONTEXT.equals(contexts)) {
+            store.setOption(key, value);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean clearOptions(Set<Context> contexts) {
+        final boolean changed = super.clearOptions(contexts);
+        final PermissionStorage.SubjectStore store = this.store;
+        if (changed && store != null && GLOBAL_CONTEXT.equals(contexts)) {
+            store.clearOptions();
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean clearOptions() {
+        final boolean changed = super.clearOptions();
+        final PermissionStorage.SubjectStore store = this.store;
+        if (changed && store != null) {
+            store.clearOptions();
+        }
+        return changed;
     }
 }
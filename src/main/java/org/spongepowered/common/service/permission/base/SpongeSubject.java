@@ -24,18 +24,46 @@
  */
 package org.spongepowered.common.service.permission.base;
 
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.MapMaker;
 import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.context.ContextCalculator;
 import org.spongepowered.api.service.permission.MemorySubjectData;
 import org.spongepowered.api.service.permission.Subject;
+import org.spongepowered.api.service.permission.SubjectCollection;
 import org.spongepowered.api.service.permission.SubjectData;
 import org.spongepowered.api.util.Tristate;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 public abstract class SpongeSubject implements Subject {
 
+    private static final LongAdder CACHE_HITS = new LongAdder();
+    private static final LongAdder CACHE_MISSES = new LongAdder();
+
+    // Resolved permission values by context set, replaced as a whole when invalidated
+    private volatile Map<Set<Context>, Map<String, Tristate>> permissionCache = new ConcurrentHashMap<>();
+    // Subjects that resolved permissions through this subject, weakly held
+    private final Set<SpongeSubject> dependents = Collections.newSetFromMap(new MapMaker().weakKeys().<SpongeSubject, Boolean>makeMap());
+    private volatile boolean dataBound;
+
+    public static long getPermissionCacheHits() {
+        return CACHE_HITS.sum();
+    }
+
+    public static long getPermissionCacheMisses() {
+        return CACHE_MISSES.sum();
+    }
+
     @Override
     public MemorySubjectData getTransientSubjectData() {
         return getSubjectData();
@@ -51,15 +79,55 @@ public boolean hasPermission(Set<Context> contexts, String permission) {
 
     @Override
     public Tristate getPermissionValue(Set<Context> contexts, String permission) {
-        return getDataPermissionValue(getSubjectData(), permission);
+        bindSubjectData();
+        final Map<Set<Context>, Map<String, Tristate>> cache = this.permissionCache;
+        Map<String, Tristate> values = cache.get(contexts);
+        if (values == null) {
+            values = new ConcurrentHashMap<>();
+            final Map<String, Tristate> existing = cache.putIfAbsent(ImmutableSet.copyOf(contexts), values);
+            if (existing != null) {
+                values = existing;
+            }
+        }
+        Tristate res = values.get(permission);
+        if (res != null) {
+            CACHE_HITS.increment();
+            return res;
+        }
+        CACHE_MISSES.increment();
+        res = resolvePermissionValue(contexts, permission);
+        // If the cache got invalidated meanwhile this lands in the discarded map
+        values.put(permission, res);
+        return res;
+    }
+
+    /**
+     * Resolves the permission value without consulting the cache. Any other
+     * subject consulted here must be registered with {@link #dependOn}.
+     *
+     * @param contexts The contexts to check with
+     * @param permission The permission to check
+     * @return The resolved value
+     */
+    protected Tristate resolvePermissionValue(Set<Context> contexts, String permission) {
+        return getDataPermissionValue(getSubjectData(), contexts, permission);
     }
 
-    protected Tristate getDataPermissionValue(MemorySubjectData subject, String permission) {
-        Tristate res = subject.getNodeTree(SubjectData.GLOBAL_CONTEXT).get(permission);
+    protected Tristate getDataPermissionValue(MemorySubjectData subject, Set<Context> contexts, String permission) {
+        Tristate res = Tristate.UNDEFINED;
+        if (!contexts.isEmpty()) {
+            res = subject.getNodeTree(contexts).get(permission);
+        }
+        if (res == Tristate.UNDEFINED) {
+            res = subject.getNodeTree(SubjectData.GLOBAL_CONTEXT).get(permission);
+        }
 
         if (res == Tristate.UNDEFINED) {
             for (Subject parent : subject.getParents(SubjectData.GLOBAL_CONTEXT)) {
-                Tristate tempRes = parent.getPermissionValue(SubjectData.GLOBAL_CONTEXT, permission);
+                if (parent instanceof SpongeSubject) {
+                    dependOn((SpongeSubject) parent);
+                }
+                Tristate tempRes = parent.getPermissionValue(contexts, permission);
                 if (tempRes != Tristate.UNDEFINED) {
                     res = tempRes;
                     break;
@@ -69,6 +137,46 @@ protected Tristate getDataPermissionValue(MemorySubjectData subject, String perm
         return res;
     }
 
+    /**
+     * Registers that permissions of this subject are resolved through the
+     * given subject, so changes to it invalidate the cache of this subject.
+     *
+     * @param subject The subject depended on
+     */
+    protected void dependOn(SpongeSubject subject) {
+        if (subject != this) {
+            subject.bindSubjectData();
+            subject.dependents.add(this);
+        }
+    }
+
+    /**
+     * Discards the resolved permissions of this subject and of every subject
+     * resolving permissions through it.
+     */
+    public void invalidatePermissionCache() {
+        final Set<SpongeSubject> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final ArrayDeque<SpongeSubject> queue = new ArrayDeque<>();
+        queue.add(this);
+        while (!queue.isEmpty()) {
+            final SpongeSubject subject = queue.poll();
+            if (visited.add(subject)) {
+                subject.permissionCache = new ConcurrentHashMap<>();
+                queue.addAll(subject.dependents);
+            }
+        }
+    }
+
+    private void bindSubjectData() {
+        if (!this.dataBound) {
+            final MemorySubjectData data = getSubjectData();
+            if (data instanceof GlobalMemorySubjectData) {
+                ((GlobalMemorySubjectData) data).setOwner(this);
+            }
+            this.dataBound = true;
+        }
+    }
+
     @Override
     public boolean isChildOf(Set<Context> contexts, Subject parent) {
         return getSubjectData().getParents(contexts).contains(parent);
@@ -101,6 +209,18 @@ public Optional<String> getOption(Set<Context> contexts, String key) {
 
     @Override
     public Set<Context> getActiveContexts() {
-        return SubjectData.GLOBAL_CONTEXT;
+        final SubjectCollection collection = getContainingCollection();
+        if (!(collection instanceof SpongeSubjectCollection)) {
+            return SubjectData.GLOBAL_CONTEXT;
+        }
+        final List<ContextCalculator<Subject>> calculators = ((SpongeSubjectCollection) collection).getService().getContextCalculators();
+        if (calculators.isEmpty()) {
+            return SubjectData.GLOBAL_CONTEXT;
+        }
+        final Set<Context> contexts = new HashSet<>();
+        for (ContextCalculator<Subject> calculator : calculators) {
+            calculator.accumulateContexts(this, contexts);
+        }
+        return contexts;
     }
 }
@@ -49,6 +49,10 @@ public String getIdentifier() {
         return this.identifier;
     }
 
+    public SpongePermissionService getService() {
+        return this.service;
+    }
+
     @Override
     public SpongeSubject getDefaults() {
         return this.service.getDefaultCollection().get(getIdentifier());
@@ -27,9 +27,8 @@
 import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.collect.Sets;
+import com.google.common.collect.ImmutableList;
 import com.mojang.authlib.GameProfile;
-import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.server.management.PlayerList;
 import net.minecraft.server.management.PlayerProfileCache;
 import net.minecraft.server.management.UserListBans;
@@ -46,15 +45,14 @@
 import org.spongepowered.common.world.WorldManager;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 class UserDiscoverer {
@@ -105,9 +103,12 @@ static User findByProfile(org.spongepowered.api.profile.GameProfile profile) {
     }
 
     static User findByUsername(String username) {
+        final GameProfile indexed = UserIndex.findByName(username);
+        if (indexed != null) {
+            return findByProfile((org.spongepowered.api.profile.GameProfile) indexed);
+        }
         PlayerProfileCache cache = SpongeImpl.getServer().getPlayerProfileCache();
-        HashSet<String> names = Sets.newHashSet(cache.getUsernames());
-        if (names.contains(username.toLowerCase(Locale.ROOT))) {
+        if (Arrays.asList(cache.getUsernames()).contains(username.toLowerCase(Locale.ROOT))) {
             GameProfile profile = cache.getGameProfileForUsername(username);
             if (profile != null) {
                 return findByProfile((org.spongepowered.api.profile.GameProfile) profile);
@@ -116,41 +117,44 @@ static User findByUsername(String username) {
         return null;
     }
 
+    @SuppressWarnings("unchecked")
     static Collection<org.spongepowered.api.profile.GameProfile> getAllProfiles() {
         Preconditions.checkState(Sponge.isServerAvailable(), "Server is not available!");
-        Set<org.spongepowered.api.profile.GameProfile> profiles = Sets.newHashSet();
-
-        // Add all cached profiles
-        profiles.addAll(userCache.asMap().values().stream().map(User::getProfile).collect(Collectors.toList()));
-
-        // Add all known profiles from the data files
-        SaveHandler saveHandler = (SaveHandler) WorldManager.getWorldByDimensionId(0).get().getSaveHandler();
-        String[] uuids = saveHandler.getAvailablePlayerDat();
-        for (String playerUuid : uuids) {
-
-            // Some mods store other files in the 'playerdata' folder, so
-            // we need to ensure that the filename is a valid UUID
-            if (playerUuid.split("-").length != 5) {
-                continue;
-            }
-
-            GameProfile profile = SpongeImpl.getServer().getPlayerProfileCache().getProfileByUUID(UUID.fromString(playerUuid));
-            if (profile != null) {
-                profiles.add((org.spongepowered.api.profile.GameProfile) profile);
-            }
+        // All players with data files, whitelisted and banned users
+        final Collection<GameProfile> indexed = UserIndex.getAll();
+        final List<org.spongepowered.api.profile.GameProfile> created = getCreatedProfiles(profile -> true);
+        if (created.isEmpty()) {
+            return (Collection<org.spongepowered.api.profile.GameProfile>) (Collection<?>) indexed;
         }
+        return ImmutableList.<org.spongepowered.api.profile.GameProfile>builder()
+                .addAll((Collection<org.spongepowered.api.profile.GameProfile>) (Collection<?>) indexed)
+                .addAll(created)
+                .build();
+    }
 
-        // Add all whitelisted users
-        UserListWhitelist whiteList = SpongeImpl.getServer().getPlayerList().getWhitelistedPlayers();
-        for (UserListWhitelistEntry entry : whiteList.getValues().values()) {
-            profiles.add((org.spongepowered.api.profile.GameProfile) entry.value);
+    @SuppressWarnings("unchecked")
+    static Collection<org.spongepowered.api.profile.GameProfile> matchProfiles(String lastKnownName) {
+        Preconditions.checkState(Sponge.isServerAvailable(), "Server is not available!");
+        final String lowerName = lastKnownName.toLowerCase(Locale.ROOT);
+        final Collection<GameProfile> indexed = UserIndex.match(lowerName);
+        final List<org.spongepowered.api.profile.GameProfile> created = getCreatedProfiles(profile -> profile.getName().isPresent()
+                && profile.getName().get().toLowerCase(Locale.ROOT).startsWith(lowerName));
+        if (created.isEmpty()) {
+            return (Collection<org.spongepowered.api.profile.GameProfile>) (Collection<?>) indexed;
         }
+        return ImmutableList.<org.spongepowered.api.profile.GameProfile>builder()
+                .addAll((Collection<org.spongepowered.api.profile.GameProfile>) (Collection<?>) indexed)
+                .addAll(created)
+                .build();
+    }
 
-        // Add all banned users
-        UserListBans banList = SpongeImpl.getServer().getPlayerList().getBannedPlayers();
-        profiles.addAll(banList.getValues().values().stream().filter(entry -> entry != null).map(entry -> (org.spongepowered.api.profile.GameProfile)
-                entry.value).collect(Collectors.toList()));
-        return profiles;
+    // Users created for profiles that have no data anywhere yet
+    private static List<org.spongepowered.api.profile.GameProfile> getCreatedProfiles(
+            Predicate<org.spongepowered.api.profile.GameProfile> filter) {
+        return userCache.asMap().values().stream()
+                .map(User::getProfile)
+                .filter(profile -> !UserIndex.contains(profile.getUniqueId()) && filter.test(profile))
+                .collect(Collectors.toList());
     }
 
     static boolean delete(UUID uniqueId) {
@@ -161,6 +165,9 @@ static boolean delete(UUID uniqueId) {
         boolean success = deleteStoredPlayerData(uniqueId);
         success = success && deleteWhitelistEntry(uniqueId);
         success = success && deleteBanlistEntry(uniqueId);
+        if (success) {
+            UserIndex.remove(uniqueId);
+        }
         return success;
     }
 
@@ -188,11 +195,8 @@ private static User getFromStoredData(org.spongepowered.api.profile.GameProfile
             return null;
         }
         User user = create((GameProfile) profile);
-        try {
-            ((SpongeUser) user).readFromNbt(CompressedStreamTools.readCompressed(new FileInputStream(dataFile)));
-        } catch (IOException e) {
-            SpongeImpl.getLogger().warn("Corrupt user file {}", dataFile, e);
-        }
+        // The data is only read once something accesses it
+        ((SpongeUser) user).readFromNbtOnAccess(dataFile);
         return user;
     }
 
@@ -233,13 +237,8 @@ private static File getPlayerDataFile(UUID uniqueId) {
 
         // Note: Uses the overworld's player data
         SaveHandler saveHandler = (SaveHandler) worldServer.get().getSaveHandler();
-        String[] uuids = saveHandler.getAvailablePlayerDat();
-        for (String playerUuid : uuids) {
-            if (uniqueId.toString().equals(playerUuid)) {
-                return new File(saveHandler.playersDirectory, playerUuid + ".dat");
-            }
-        }
-        return null;
+        File dataFile = new File(saveHandler.playersDirectory, uniqueId + ".dat");
+        return dataFile.isFile() ? dataFile : null;
     }
 
     private static boolean deleteStoredPlayerData(UUID uniqueId) {
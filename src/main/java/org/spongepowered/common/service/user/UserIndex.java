@@ -0,0 +1,344 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.user;
+
+import com.google.common.collect.ImmutableList;
+import com.mojang.authlib.GameProfile;
+import net.minecraft.server.management.PlayerProfileCache;
+import net.minecraft.server.management.UserListEntryBan;
+import net.minecraft.server.management.UserListWhitelistEntry;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.storage.SaveHandler;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.scheduler.SpongeScheduler;
+import org.spongepowered.common.util.SpongeUsernameCache;
+import org.spongepowered.common.world.WorldManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * An index of every user known to the server, with their last known name and
+ * when they were last seen, so user lookups don't need to list the player
+ * data directory or read player data files.
+ *
+ * <p>The index is kept in the overworld directory. It is loaded the first
+ * time it is queried, and built from the player data, whitelist and banlist
+ * if it doesn't exist yet. Logins update it, and it is written back
+ * asynchronously when the overworld is saved.</p>
+ */
+public final class UserIndex {
+
+    private static final String FILE_NAME = "sponge_user_index.dat";
+    private static final int VERSION = 1;
+    // Not valid in a username, so name keys of different users never mix
+    private static final char KEY_SEPARATOR = '/';
+
+    private static final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    // Keyed by lowercase name and unique id, for exact and prefix name lookups
+    private static final ConcurrentNavigableMap<String, Entry> byName = new ConcurrentSkipListMap<>();
+    private static final Object saveLock = new Object();
+    @Nullable private static File indexFile;
+    private static volatile boolean loaded;
+    private static volatile boolean dirty;
+
+    private UserIndex() {
+    }
+
+    /**
+     * Records that the player logged in with the given profile.
+     *
+     * @param profile The profile of the player
+     */
+    public static void update(GameProfile profile) {
+        put(profile, System.currentTimeMillis(), true);
+    }
+
+    static void remove(UUID uniqueId) {
+        synchronized (UserIndex.class) {
+            final Entry entry = entries.remove(uniqueId);
+            if (entry != null) {
+                if (entry.nameKey != null) {
+                    byName.remove(entry.nameKey);
+                }
+                dirty = true;
+            }
+        }
+    }
+
+    static boolean contains(UUID uniqueId) {
+        return entries.containsKey(uniqueId);
+    }
+
+    static Collection<GameProfile> getAll() {
+        ensureLoaded();
+        addListedProfiles();
+        final ImmutableList.Builder<GameProfile> profiles = ImmutableList.builder();
+        for (Entry entry : entries.values()) {
+            profiles.add(entry.profile);
+        }
+        return profiles.build();
+    }
+
+    /**
+     * Gets all users whose last known name starts with the given prefix.
+     *
+     * @param prefix The prefix, in any case
+     * @return The matching profiles
+     */
+    static Collection<GameProfile> match(String prefix) {
+        ensureLoaded();
+        addListedProfiles();
+        final String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        final ImmutableList.Builder<GameProfile> profiles = ImmutableList.builder();
+        for (Entry entry : byName.subMap(lowerPrefix, true, lowerPrefix + Character.MAX_VALUE, true).values()) {
+            profiles.add(entry.profile);
+        }
+        return profiles.build();
+    }
+
+    /**
+     * Gets the most recently seen user with the given last known name.
+     *
+     * @param name The name, in any case
+     * @return The profile, or null if no known user has that name
+     */
+    @Nullable
+    static GameProfile findByName(String name) {
+        ensureLoaded();
+        final String lowerName = name.toLowerCase(Locale.ROOT) + KEY_SEPARATOR;
+        Entry found = null;
+        for (Entry entry : byName.subMap(lowerName, true, lowerName + Character.MAX_VALUE, true).values()) {
+            if (found == null || entry.lastSeen > found.lastSeen) {
+                found = entry;
+            }
+        }
+        return found == null ? null : found.profile;
+    }
+
+    private static void put(GameProfile profile, long lastSeen, boolean replace) {
+        synchronized (UserIndex.class) {
+            final Entry old = entries.get(profile.getId());
+            if (old != null) {
+                if (!replace) {
+                    return;
+                }
+                if (old.nameKey != null) {
+                    byName.remove(old.nameKey);
+                }
+            }
+            final Entry entry = new Entry(profile, lastSeen);
+            entries.put(profile.getId(), entry);
+            if (entry.nameKey != null) {
+                byName.put(entry.nameKey, entry);
+            }
+            dirty = true;
+        }
+    }
+
+    // The whitelist and banlist are small and may gain users without them logging in
+    private static void addListedProfiles() {
+        for (UserListWhitelistEntry entry : SpongeImpl.getServer().getPlayerList().getWhitelistedPlayers().getValues().values()) {
+            if (entry.value != null && !entries.containsKey(entry.value.getId())) {
+                put(entry.value, 0, false);
+            }
+        }
+        for (UserListEntryBan<GameProfile> entry : SpongeImpl.getServer().getPlayerList().getBannedPlayers().getValues().values()) {
+            if (entry != null && entry.value != null && !entries.containsKey(entry.value.getId())) {
+                put(entry.value, 0, false);
+            }
+        }
+    }
+
+    private static synchronized void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        final Optional<WorldServer> overworld = WorldManager.getWorldByDimensionId(0);
+        if (!overworld.isPresent()) {
+            return;
+        }
+        final SaveHandler saveHandler = (SaveHandler) overworld.get().getSaveHandler();
+        indexFile = new File(saveHandler.getWorldDirectory(), FILE_NAME);
+        loaded = true;
+        if (indexFile.isFile() && read(indexFile)) {
+            return;
+        }
+        build(saveHandler);
+    }
+
+    private static boolean read(File file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != VERSION) {
+                return false;
+            }
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final UUID uniqueId = new UUID(in.readLong(), in.readLong());
+                final String name = in.readBoolean() ? in.readUTF() : null;
+                final long lastSeen = in.readLong();
+                // Anything recorded since the server started is newer
+                put(new GameProfile(uniqueId, name), lastSeen, false);
+            }
+            return true;
+        } catch (IOException e) {
+            SpongeImpl.getLogger().warn("Could not read the user index {}, rebuilding it", file, e);
+            return false;
+        }
+    }
+
+    private static void build(SaveHandler saveHandler) {
+        SpongeImpl.getLogger().info("Building the user index, this only happens once");
+        final PlayerProfileCache profileCache = SpongeImpl.getServer().getPlayerProfileCache();
+        for (String playerUuid : saveHandler.getAvailablePlayerDat()) {
+            // Some mods store other files in the 'playerdata' folder, so
+            // we need to ensure that the filename is a valid UUID
+            if (playerUuid.split("-").length != 5) {
+                continue;
+            }
+            final UUID uniqueId;
+            try {
+                uniqueId = UUID.fromString(playerUuid);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            String name = SpongeUsernameCache.getLastKnownUsername(uniqueId);
+            if (name == null) {
+                final GameProfile cached = profileCache.getProfileByUUID(uniqueId);
+                name = cached == null ? null : cached.getName();
+            }
+            final long lastSeen = new File(saveHandler.playersDirectory, playerUuid + ".dat").lastModified();
+            put(new GameProfile(uniqueId, name), lastSeen, false);
+        }
+        addListedProfiles();
+        dirty = true;
+    }
+
+    /**
+     * Writes the index if it changed since the last save.
+     *
+     * @param async Whether to write it off the current thread
+     */
+    public static void save(boolean async) {
+        if (!dirty) {
+            return;
+        }
+        // Never overwrite the stored index with only the users seen since startup
+        ensureLoaded();
+        final File file = indexFile;
+        if (!loaded || file == null) {
+            return;
+        }
+        final List<Entry> snapshot;
+        synchronized (UserIndex.class) {
+            snapshot = new ArrayList<>(entries.values());
+            dirty = false;
+        }
+        if (async) {
+            SpongeScheduler.getInstance().submitAsyncTask(() -> {
+                write(file, snapshot);
+                return null;
+            });
+        } else {
+            write(file, snapshot);
+        }
+    }
+
+    private static void write(File file, List<Entry> snapshot) {
+        synchronized (saveLock) {
+            final File tempFile = new File(file.getParentFile(), FILE_NAME + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                out.writeInt(VERSION);
+                out.writeInt(snapshot.size());
+                for (Entry entry : snapshot) {
+                    out.writeLong(entry.profile.getId().getMostSignificantBits());
+                    out.writeLong(entry.profile.getId().getLeastSignificantBits());
+                    final String name = entry.profile.getName();
+                    out.writeBoolean(name != null);
+                    if (name != null) {
+                        out.writeUTF(name);
+                    }
+                    out.writeLong(entry.lastSeen);
+                }
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Could not save the user index {}", file, e);
+                dirty = true;
+                return;
+            }
+            try {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Could not replace the user index {}", file, e);
+                dirty = true;
+            }
+        }
+    }
+
+    /**
+     * Saves and forgets the index, the next server may run another world.
+     */
+    public static synchronized void close() {
+        save(false);
+        entries.clear();
+        byName.clear();
+        indexFile = null;
+        loaded = false;
+        dirty = false;
+    }
+
+    private static final class Entry {
+
+        final GameProfile profile;
+        final long lastSeen;
+        @Nullable final String nameKey;
+
+        Entry(GameProfile profile, long lastSeen) {
+            this.profile = profile;
+            this.lastSeen = lastSeen;
+            this.nameKey = profile.getName() == null ? null : profile.getName().toLowerCase(Locale.ROOT) + KEY_SEPARATOR + profile.getId();
+        }
+    }
+
+}
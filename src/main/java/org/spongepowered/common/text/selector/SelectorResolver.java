@@ -31,10 +31,14 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.world.GameType;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
 import org.spongepowered.api.Sponge;
-import org.spongepowered.api.data.manipulator.mutable.DisplayNameData;
-import org.spongepowered.api.data.manipulator.mutable.entity.ExperienceHolderData;
-import org.spongepowered.api.data.manipulator.mutable.entity.GameModeData;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.entity.EntityTypes;
@@ -59,6 +63,7 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.extent.Extent;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.entity.IMixinEntity;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -70,6 +75,8 @@
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 /**
  * A resolver that acts like Vanilla Minecraft in many regards.
  */
@@ -81,6 +88,8 @@ public class SelectorResolver {
     private static final Set<ArgumentType<?>> LOCATION_BASED_ARGUMENTS;
     private static final Function<Number, Double> TO_DOUBLE = Number::doubleValue;
     private static final Collection<SelectorType> INFINITE_TYPES = ImmutableSet.of(SelectorTypes.ALL_ENTITIES, SelectorTypes.ALL_PLAYERS);
+    // Vertical bound used for search boxes without a y limit, matches the world border
+    private static final double UNBOUNDED_HEIGHT = 3.0E7D;
 
     static {
         ImmutableSet.Builder<ArgumentType<?>> builder = ImmutableSet.builder();
@@ -116,6 +125,10 @@ private static <I, R> Predicate<I> requireTypePredicate(Class<I> inputType, fina
     private final Selector selector;
     private final Predicate<Entity> selectorFilter;
     private final boolean alwaysUsePosition;
+    // The query plan, used to narrow down the entities the filter is tested against
+    private final boolean playerOnly;
+    @Nullable private final AxisAlignedBB searchBox;
+    private final Class<? extends net.minecraft.entity.Entity> searchClass;
 
     public SelectorResolver(Collection<? extends Extent> extents, Selector selector, boolean force) {
         this(extents, null, null, selector, force);
@@ -135,8 +148,79 @@ private SelectorResolver(Collection<? extends Extent> extents, Vector3d position
         this.position = position == null ? ORIGIN : position;
         this.original = Optional.ofNullable(original);
         this.selector = checkNotNull(selector);
+        this.playerOnly = isPlayerOnlySelector();
         this.selectorFilter = makeFilter();
         this.alwaysUsePosition = force;
+        this.searchBox = makeSearchBox(getPositionOrDefault(this.position, ArgumentTypes.POSITION));
+        this.searchClass = makeSearchClass();
+    }
+
+    private boolean isPlayerOnlySelector() {
+        final SelectorType selectorType = this.selector.getType();
+        final Optional<Invertible<EntityType>> type = this.selector.getArgument(ArgumentTypes.ENTITY_TYPE);
+        // isn't an ALL_ENTITIES selector or it is a RANDOM selector for only players
+        return selectorType == SelectorTypes.ALL_PLAYERS || selectorType == SelectorTypes.NEAREST_PLAYER
+               || (selectorType == SelectorTypes.RANDOM && type.isPresent() && !type.get().isInverted()
+                   && type.get().getValue() != EntityTypes.PLAYER);
+    }
+
+    /**
+     * Creates a box containing every entity the radius and volume
+     * arguments can accept, with a margin of a block on each side, or null
+     * if they don't bound the search horizontally.
+     */
+    @Nullable
+    private AxisAlignedBB makeSearchBox(Vector3d position) {
+        final Selector sel = this.selector;
+        double minX = Double.NEGATIVE_INFINITY;
+        double minY = -UNBOUNDED_HEIGHT;
+        double minZ = Double.NEGATIVE_INFINITY;
+        double maxX = Double.POSITIVE_INFINITY;
+        double maxY = UNBOUNDED_HEIGHT;
+        double maxZ = Double.POSITIVE_INFINITY;
+        final Optional<Integer> radiusMax = sel.get(ArgumentTypes.RADIUS.maximum());
+        if (radiusMax.isPresent()) {
+            final int radius = radiusMax.get();
+            minX = position.getX() - radius;
+            minY = Math.max(minY, position.getY() - radius);
+            minZ = position.getZ() - radius;
+            maxX = position.getX() + radius;
+            maxY = Math.min(maxY, position.getY() + radius);
+            maxZ = position.getZ() + radius;
+        }
+        final Vector3d boxDimensions = getPositionOrDefault(ORIGIN, ArgumentTypes.DIMENSION);
+        final Vector3d boxMin = position.min(position.add(boxDimensions));
+        final Vector3d boxMax = position.max(position.add(boxDimensions));
+        if (sel.has(ArgumentTypes.DIMENSION.x())) {
+            minX = Math.max(minX, boxMin.getX());
+            maxX = Math.min(maxX, boxMax.getX());
+        }
+        if (sel.has(ArgumentTypes.DIMENSION.y())) {
+            minY = Math.max(minY, boxMin.getY());
+            maxY = Math.min(maxY, boxMax.getY());
+        }
+        if (sel.has(ArgumentTypes.DIMENSION.z())) {
+            minZ = Math.max(minZ, boxMin.getZ());
+            maxZ = Math.min(maxZ, boxMax.getZ());
+        }
+        if (Double.isInfinite(minX) || Double.isInfinite(maxX) || Double.isInfinite(minZ) || Double.isInfinite(maxZ)) {
+            return null;
+        }
+        // The query only returns entities whose bounding box strictly intersects the box,
+        // grow it like vanilla does so that the inclusive filters see entities on its edges
+        return new AxisAlignedBB(minX - 1, minY - 1, minZ - 1, maxX + 1, maxY + 1, maxZ + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends net.minecraft.entity.Entity> makeSearchClass() {
+        final Optional<Invertible<EntityType>> type = this.selector.getArgument(ArgumentTypes.ENTITY_TYPE);
+        if (type.isPresent() && !type.get().isInverted()) {
+            final Class<? extends Entity> entityClass = type.get().getValue().getEntityClass();
+            if (net.minecraft.entity.Entity.class.isAssignableFrom(entityClass)) {
+                return (Class<? extends net.minecraft.entity.Entity>) entityClass;
+            }
+        }
+        return net.minecraft.entity.Entity.class;
     }
 
     private Predicate<Entity> makeFilter() {
@@ -153,14 +237,7 @@ private Predicate<Entity> makeFilter() {
         addRotationFilters(filters);
         addTeamFilters(filters);
         addScoreFilters(filters);
-        SelectorType selectorType = sel.getType();
-        Optional<Invertible<EntityType>> type = sel.getArgument(ArgumentTypes.ENTITY_TYPE);
-        // isn't an ALL_ENTITIES selector or it is a RANDOM selector for only players
-        boolean isPlayerOnlySelector =
-            selectorType == SelectorTypes.ALL_PLAYERS || selectorType == SelectorTypes.NEAREST_PLAYER
-                || (selectorType == SelectorTypes.RANDOM && type.isPresent() && !type.get().isInverted()
-                && type.get().getValue() != EntityTypes.PLAYER);
-        if (isPlayerOnlySelector) {
+        if (this.playerOnly) {
             // insert at the start so it applies first
             filters.add(0, requireTypePredicate(Entity.class, Player.class));
         }
@@ -199,11 +276,8 @@ private void addGamemodeFilters(List<Predicate<Entity>> filters) {
         Optional<GameMode> gamemode = sel.get(ArgumentTypes.GAME_MODE);
         // If the gamemode is NOT_SET, that means accept any
         if (gamemode.isPresent() && gamemode.get() != GameModes.NOT_SET) {
-            final GameMode actualMode = gamemode.get();
-            filters.add(input -> {
-                Optional<GameModeData> mode = input.get(GameModeData.class);
-                return mode.isPresent() && mode.get() == actualMode;
-            });
+            final GameType actualMode = (GameType) (Object) gamemode.get();
+            filters.add(input -> input instanceof EntityPlayerMP && ((EntityPlayerMP) input).interactionManager.getGameType() == actualMode);
         }
     }
 
@@ -213,17 +287,11 @@ private void addLevelFilters(List<Predicate<Entity>> filters) {
         Optional<Integer> levelMax = sel.get(ArgumentTypes.LEVEL.maximum());
         if (levelMin.isPresent()) {
             final int actualMin = levelMin.get();
-            filters.add(input -> {
-                Optional<ExperienceHolderData> xp = input.get(ExperienceHolderData.class);
-                return xp.isPresent() && xp.get().level().get() >= actualMin;
-            });
+            filters.add(input -> input instanceof EntityPlayer && ((EntityPlayer) input).experienceLevel >= actualMin);
         }
         if (levelMax.isPresent()) {
             final int actualMax = levelMax.get();
-            filters.add(input -> {
-                Optional<ExperienceHolderData> xp = input.get(ExperienceHolderData.class);
-                return xp.isPresent() && xp.get().level().get() <= actualMax;
-            });
+            filters.add(input -> input instanceof EntityPlayer && ((EntityPlayer) input).experienceLevel <= actualMax);
         }
     }
 
@@ -234,8 +302,11 @@ private void addNameFilters(List<Predicate<Entity>> filters) {
             final String name = nameOpt.get().getValue();
             final boolean inverted = nameOpt.get().isInverted();
             filters.add(input -> {
-                Optional<DisplayNameData> dispName = input.get(DisplayNameData.class);
-                return inverted ^ (dispName.isPresent() && name.equals(dispName.get().displayName().get().toPlain()));
+                if (input instanceof EntityPlayer) {
+                    return inverted ^ name.equals(((EntityPlayer) input).getName());
+                }
+                @Nullable final Text displayName = ((IMixinEntity) input).getDisplayNameText();
+                return inverted ^ (displayName != null && name.equals(displayName.toPlain()));
             });
         }
     }
@@ -350,7 +421,7 @@ public Set<Entity> resolve() {
         int count = 0;
         ImmutableSet.Builder<Entity> entities = ImmutableSet.builder();
         for (Extent extent : extents) {
-            Collection<Entity> allEntities = extent.getEntities();
+            Collection<Entity> allEntities = getCandidates(extent);
             if (selectorType == SelectorTypes.RANDOM) {
                 List<Entity> entityList = new ArrayList<>(allEntities);
                 Collections.shuffle(entityList);
@@ -371,6 +442,43 @@ public Set<Entity> resolve() {
         return entities.build();
     }
 
+    /**
+     * Gets the entities of the extent that may match the selector, using the
+     * player list, the chunks in range or the per chunk class maps instead of
+     * every entity where the selector allows it.
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<Entity> getCandidates(Extent extent) {
+        if (!(extent instanceof WorldServer)) {
+            return extent.getEntities();
+        }
+        final WorldServer world = (WorldServer) extent;
+        if (this.playerOnly) {
+            return (Collection<Entity>) (Collection<?>) new ArrayList<>(world.playerEntities);
+        }
+        if (this.searchBox != null) {
+            final long chunksX = ((long) Math.floor(this.searchBox.maxX) >> 4) - ((long) Math.floor(this.searchBox.minX) >> 4) + 1;
+            final long chunksZ = ((long) Math.floor(this.searchBox.maxZ) >> 4) - ((long) Math.floor(this.searchBox.minZ) >> 4) + 1;
+            // Visiting the chunks in range only pays off when there are fewer of them than loaded chunks
+            if (chunksX * chunksZ <= world.getChunkProvider().getLoadedChunkCount()) {
+                // No predicate, the default one would skip spectators
+                return (Collection<Entity>) (Collection<?>) world.getEntitiesWithinAABB(this.searchClass, this.searchBox, null);
+            }
+        }
+        if (this.searchClass != net.minecraft.entity.Entity.class) {
+            final List<Entity> entities = new ArrayList<>();
+            for (Chunk chunk : world.getChunkProvider().getLoadedChunks()) {
+                for (ClassInheritanceMultiMap<net.minecraft.entity.Entity> entityList : chunk.getEntityLists()) {
+                    for (net.minecraft.entity.Entity entity : entityList.getByClass(this.searchClass)) {
+                        entities.add((Entity) entity);
+                    }
+                }
+            }
+            return entities;
+        }
+        return extent.getEntities();
+    }
+
     private Set<? extends Extent> getExtentSet() {
         if (!this.alwaysUsePosition && Collections.disjoint(getArgumentTypes(this.selector.getArguments()), LOCATION_BASED_ARGUMENTS)) {
             return ImmutableSet.copyOf(SpongeImpl.getGame().getServer().getWorlds());
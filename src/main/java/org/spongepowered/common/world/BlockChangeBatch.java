@@ -0,0 +1,256 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.shorts.Short2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2ObjectMap;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.data.Transaction;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.api.world.World;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.tracking.TrackingUtil;
+import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects block changes for a single world and applies them in bulk.
+ *
+ * <p>Changes are grouped per chunk and written directly into the chunk's
+ * {@link ExtendedBlockStorage}, skipping the per block cause tracking,
+ * snapshot creation and client notification performed by
+ * {@link WorldServer#setBlockState(BlockPos, IBlockState, int)}. Height maps
+ * are only updated for columns whose light opacity changed, light is checked
+ * for the blocks whose opacity or light value changed, a single
+ * {@link ChangeBlockEvent.Post} is thrown for the whole batch, and clients
+ * receive the changes through the {@link PlayerChunkMap}, which already
+ * coalesces them into one multi block change or chunk packet per chunk.</p>
+ */
+public final class BlockChangeBatch {
+
+    private final WorldServer world;
+    private final BlockChangeFlag flag;
+    private final Long2ObjectMap<Short2ObjectMap<IBlockState>> changes = new Long2ObjectLinkedOpenHashMap<>();
+
+    public BlockChangeBatch(WorldServer world, BlockChangeFlag flag) {
+        this.world = world;
+        this.flag = flag;
+    }
+
+    /**
+     * Queues a block change. Queueing a change for a position that already
+     * has a pending change replaces it.
+     *
+     * @param x The x position
+     * @param y The y position
+     * @param z The z position
+     * @param state The new block state
+     */
+    public void add(int x, int y, int z, IBlockState state) {
+        if (y < 0 || y >= 256) {
+            return;
+        }
+        final long chunkKey = ChunkPos.asLong(x >> 4, z >> 4);
+        Short2ObjectMap<IBlockState> chunkChanges = this.changes.get(chunkKey);
+        if (chunkChanges == null) {
+            chunkChanges = new Short2ObjectLinkedOpenHashMap<>();
+            this.changes.put(chunkKey, chunkChanges);
+        }
+        chunkChanges.put((short) ((x & 15) << 12 | (z & 15) << 8 | y), state);
+    }
+
+    public boolean isEmpty() {
+        return this.changes.isEmpty();
+    }
+
+    /**
+     * Applies all queued changes to the world.
+     *
+     * @param cause The cause of the changes
+     * @return True if no change was cancelled or invalidated
+     */
+    public boolean commit(Cause cause) {
+        final boolean throwEvent = ShouldFire.CHANGE_BLOCK_EVENT;
+        final IMixinWorldServer mixinWorld = (IMixinWorldServer) this.world;
+        final int updateFlag = this.flag.updateNeighbors() ? 3 : 2;
+        final List<BlockPos> positions = new ArrayList<>();
+        final List<IBlockState> originalStates = new ArrayList<>();
+        final List<BlockSnapshot> originalSnapshots = throwEvent ? new ArrayList<>() : null;
+
+        for (Long2ObjectMap.Entry<Short2ObjectMap<IBlockState>> entry : this.changes.long2ObjectEntrySet()) {
+            final long chunkKey = entry.getLongKey();
+            final int chunkX = (int) chunkKey;
+            final int chunkZ = (int) (chunkKey >> 32);
+            final Chunk chunk = this.world.getChunkFromChunkCoords(chunkX, chunkZ);
+            final ExtendedBlockStorage[] storageArray = chunk.getBlockStorageArray();
+            boolean[] heightMapColumns = null;
+            boolean modified = false;
+
+            for (Short2ObjectMap.Entry<IBlockState> change : entry.getValue().short2ObjectEntrySet()) {
+                final int packed = change.getShortKey() & 0xFFFF;
+                final int localX = packed >> 12;
+                final int localZ = packed >> 8 & 15;
+                final int y = packed & 255;
+                final IBlockState newState = change.getValue();
+                final BlockPos pos = new BlockPos(chunkX << 4 | localX, y, chunkZ << 4 | localZ);
+                final IBlockState currentState = chunk.getBlockState(pos);
+                if (currentState == newState) {
+                    continue;
+                }
+                ExtendedBlockStorage storage = storageArray[y >> 4];
+                if (storage == Chunk.NULL_BLOCK_STORAGE) {
+                    if (newState.getBlock() == Blocks.AIR) {
+                        continue;
+                    }
+                    storage = storageArray[y >> 4] = new ExtendedBlockStorage(y >> 4 << 4, !this.world.provider.getHasNoSky());
+                }
+                if (throwEvent) {
+                    originalSnapshots.add(mixinWorld.createSpongeBlockSnapshot(currentState, currentState.getActualState(this.world, pos), pos,
+                            updateFlag));
+                }
+                if (this.flag.performBlockPhysics() && currentState.getBlock() != newState.getBlock()) {
+                    currentState.getBlock().breakBlock(this.world, pos, currentState);
+                }
+                if (SpongeImplHooks.blockHasTileEntity(currentState.getBlock(), currentState)) {
+                    final TileEntity tileEntity = chunk.getTileEntity(pos, Chunk.EnumCreateEntityType.CHECK);
+                    if (tileEntity != null && SpongeImplHooks.shouldRefresh(tileEntity, this.world, pos, currentState, newState)) {
+                        this.world.removeTileEntity(pos);
+                    }
+                }
+
+                storage.set(localX, y & 15, localZ, newState);
+
+                if (SpongeImplHooks.blockHasTileEntity(newState.getBlock(), newState)) {
+                    TileEntity tileEntity = chunk.getTileEntity(pos, Chunk.EnumCreateEntityType.CHECK);
+                    if (tileEntity == null) {
+                        tileEntity = SpongeImplHooks.createTileEntity(newState.getBlock(), this.world, newState);
+                        this.world.setTileEntity(pos, tileEntity);
+                    }
+                    if (tileEntity != null) {
+                        tileEntity.updateContainingBlockInfo();
+                    }
+                }
+                positions.add(pos);
+                originalStates.add(currentState);
+                modified = true;
+                if (SpongeImplHooks.getBlockLightOpacity(currentState, this.world, pos)
+                        != SpongeImplHooks.getBlockLightOpacity(newState, this.world, pos)) {
+                    if (heightMapColumns == null) {
+                        heightMapColumns = new boolean[256];
+                    }
+                    heightMapColumns[localZ << 4 | localX] = true;
+                }
+            }
+
+            if (heightMapColumns != null) {
+                // Only the height map is updated here, the light itself is checked per changed block below
+                final IMixinChunk mixinChunk = (IMixinChunk) chunk;
+                for (int column = 0; column < heightMapColumns.length; column++) {
+                    if (heightMapColumns[column]) {
+                        mixinChunk.updateHeightMap(column & 15, column >> 4);
+                    }
+                }
+            }
+            if (modified) {
+                chunk.setChunkModified();
+            }
+        }
+        this.changes.clear();
+
+        boolean noCancelledTransactions = true;
+        List<Transaction<BlockSnapshot>> transactions = null;
+        if (throwEvent && !originalSnapshots.isEmpty()) {
+            final ImmutableList.Builder<Transaction<BlockSnapshot>> builder = ImmutableList.builder();
+            for (BlockSnapshot snapshot : originalSnapshots) {
+                builder.add(TrackingUtil.TRANSACTION_CREATION.apply(this.world, snapshot));
+            }
+            final ChangeBlockEvent.Post event = SpongeEventFactory.createChangeBlockEventPost(cause, (World) this.world, builder.build());
+            SpongeImpl.postEvent(event);
+            transactions = event.getTransactions();
+            if (event.isCancelled()) {
+                for (Transaction<BlockSnapshot> transaction : transactions) {
+                    transaction.setValid(false);
+                }
+            }
+        }
+
+        final PlayerChunkMap playerChunkMap = this.world.getPlayerChunkMap();
+        for (int i = 0; i < positions.size(); i++) {
+            final BlockPos pos = positions.get(i);
+            final IBlockState originalState = originalStates.get(i);
+            if (transactions != null) {
+                final Transaction<BlockSnapshot> transaction = transactions.get(i);
+                if (!transaction.isValid()) {
+                    noCancelledTransactions = false;
+                    transaction.getOriginal().restore(true, BlockChangeFlag.NONE);
+                    continue;
+                } else if (transaction.getCustom().isPresent()) {
+                    transaction.getFinal().restore(true, BlockChangeFlag.NONE);
+                }
+            }
+            final IBlockState newState = this.world.getBlockState(pos);
+            if (newState.getLightValue() != originalState.getLightValue()
+                    || SpongeImplHooks.getBlockLightOpacity(newState, this.world, pos)
+                    != SpongeImplHooks.getBlockLightOpacity(originalState, this.world, pos)) {
+                this.world.checkLight(pos);
+            }
+            playerChunkMap.markBlockForUpdate(pos);
+            final Block newBlock = newState.getBlock();
+            if (this.flag.performBlockPhysics() && originalState.getBlock() != newBlock
+                    && !SpongeImplHooks.blockHasTileEntity(newBlock, newState)) {
+                newBlock.onBlockAdded(this.world, pos, newState);
+            }
+            if (this.flag.updateNeighbors()) {
+                this.world.notifyNeighborsRespectDebug(pos, originalState.getBlock());
+                if (newState.hasComparatorInputOverride()) {
+                    this.world.updateComparatorOutputLevel(pos, newBlock);
+                }
+            }
+        }
+        return noCancelledTransactions;
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.common.config.category.WorldCategory;
+import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMap;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.util.SpongeHooks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spreads the chunk lifecycle work of a single world (unloading, saving,
+ * garbage collecting and attaching asynchronously loaded chunks) over
+ * multiple ticks.
+ *
+ * <p>Each tick the world receives a time budget derived from how much of
+ * the previous server tick was left unused, split evenly between all loaded
+ * worlds and clamped to the configured minimum and maximum. Every kind of
+ * work always makes some progress, even when the budget is used up, so a
+ * lagging server still drains its backlog eventually.</p>
+ *
+ * <p>All methods of this class must be called from the main thread.</p>
+ */
+public final class ChunkWorkScheduler {
+
+    private static final long TICK_TIME = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static long serverTickStart = System.nanoTime();
+    private static long lastServerTickTime;
+
+    private final WorldServer world;
+    private long minTime = TimeUnit.MILLISECONDS.toNanos(1);
+    private long maxTime = TimeUnit.MILLISECONDS.toNanos(10);
+    private int tickShare = 50;
+
+    private long budget;
+    private long remaining;
+    private long workStart;
+
+    // The chunks left to check by the current gc sweep
+    private final List<Chunk> gcQueue = new ArrayList<>();
+    private int gcIndex;
+    // The chunks left to check by the current incremental save pass
+    private final List<Chunk> saveQueue = new ArrayList<>();
+    private int saveIndex;
+
+    public ChunkWorkScheduler(WorldServer world) {
+        this.world = world;
+    }
+
+    public static void onServerTickStart() {
+        serverTickStart = System.nanoTime();
+    }
+
+    public static void onServerTickEnd() {
+        lastServerTickTime = System.nanoTime() - serverTickStart;
+    }
+
+    public void updateConfig(WorldCategory category) {
+        this.minTime = TimeUnit.MILLISECONDS.toNanos(Math.max(0, category.getChunkWorkMinTime()));
+        this.maxTime = Math.max(this.minTime, TimeUnit.MILLISECONDS.toNanos(category.getChunkWorkMaxTime()));
+        this.tickShare = Math.max(0, Math.min(100, category.getChunkWorkTickShare()));
+    }
+
+    /**
+     * Computes the budget of this world for the tick that is about to start.
+     */
+    public void startTick() {
+        final int worldCount = Math.max(1, WorldManager.getWorlds().size());
+        final long unused = Math.max(0, TICK_TIME - lastServerTickTime);
+        final long share = unused * this.tickShare / 100 / worldCount;
+        this.budget = Math.max(this.minTime, Math.min(this.maxTime, share));
+        this.remaining = this.budget;
+    }
+
+    /**
+     * Starts a unit of work and gets the time it has to finish in
+     * {@link System#nanoTime()} terms. Every call must be followed by
+     * {@link #finishWork()}, calls may not be nested.
+     *
+     * @return The deadline of the work
+     */
+    public long startWork() {
+        this.workStart = System.nanoTime();
+        return this.workStart + Math.max(0, this.remaining);
+    }
+
+    public void finishWork() {
+        this.remaining -= System.nanoTime() - this.workStart;
+    }
+
+    public long getBudget() {
+        return this.budget;
+    }
+
+    /**
+     * Queues chunks that are no longer in use for unloading, continuing the
+     * sweep of the previous tick if it didn't finish.
+     *
+     * @param startSweep Whether a new sweep should be started if none is
+     *     running
+     * @param unloadDelay The time in milliseconds an inactive chunk is kept
+     */
+    public void sweepInactiveChunks(boolean startSweep, long unloadDelay) {
+        if (this.gcIndex >= this.gcQueue.size()) {
+            this.gcQueue.clear();
+            this.gcIndex = 0;
+            if (!startSweep) {
+                return;
+            }
+            this.gcQueue.addAll(this.world.getChunkProvider().getLoadedChunks());
+        }
+
+        final ChunkProviderServer chunkProvider = this.world.getChunkProvider();
+        final IMixinPlayerChunkMap playerChunkMap = (IMixinPlayerChunkMap) this.world.getPlayerChunkMap();
+        final long now = System.currentTimeMillis();
+        final long deadline = this.startWork();
+        do {
+            final Chunk chunk = this.gcQueue.get(this.gcIndex++);
+            // Skip chunks that were unloaded since the sweep started
+            if (chunkProvider.getLoadedChunk(chunk.xPosition, chunk.zPosition) != chunk) {
+                continue;
+            }
+            final IMixinChunk spongeChunk = (IMixinChunk) chunk;
+            if (spongeChunk.getScheduledForUnload() != null && (now - spongeChunk.getScheduledForUnload()) > unloadDelay) {
+                spongeChunk.setScheduledForUnload(null);
+            }
+            // If a player is currently using the chunk, skip it
+            if (spongeChunk.getScheduledForUnload() != null || playerChunkMap.isChunkInUse(chunk.xPosition, chunk.zPosition)) {
+                continue;
+            }
+
+            // Queue chunk for unload
+            chunkProvider.unload(chunk);
+            SpongeHooks.logChunkGCQueueUnload(this.world, chunk);
+        } while (this.gcIndex < this.gcQueue.size() && System.nanoTime() < deadline);
+        this.finishWork();
+    }
+
+    /**
+     * Saves modified chunks within the remaining budget, so the next full
+     * save has less work left to do.
+     */
+    public void saveModifiedChunks() {
+        if (this.saveIndex >= this.saveQueue.size()) {
+            this.saveQueue.clear();
+            this.saveIndex = 0;
+            this.saveQueue.addAll(this.world.getChunkProvider().getLoadedChunks());
+            if (this.saveQueue.isEmpty()) {
+                return;
+            }
+        }
+        // Saves are the least urgent work, only use the leftover budget
+        if (this.remaining <= 0) {
+            return;
+        }
+
+        final ChunkProviderServer chunkProvider = this.world.getChunkProvider();
+        final IMixinChunkProviderServer spongeChunkProvider = (IMixinChunkProviderServer) chunkProvider;
+        final long deadline = this.startWork();
+        do {
+            final Chunk chunk = this.saveQueue.get(this.saveIndex++);
+            if (chunkProvider.getLoadedChunk(chunk.xPosition, chunk.zPosition) != chunk || !chunk.needsSaving(false)) {
+                continue;
+            }
+            spongeChunkProvider.saveChunk(chunk);
+            chunk.setModified(false);
+        } while (this.saveIndex < this.saveQueue.size() && System.nanoTime() < deadline);
+        this.finishWork();
+    }
+
+    public int getGCBacklog() {
+        return this.gcQueue.size() - this.gcIndex;
+    }
+
+    public int getSaveBacklog() {
+        return this.saveQueue.size() - this.saveIndex;
+    }
+}
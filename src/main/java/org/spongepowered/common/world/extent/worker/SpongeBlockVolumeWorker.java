@@ -27,9 +27,12 @@
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.world.WorldServer;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.NamedCause;
+import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.extent.BlockVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
@@ -44,9 +47,12 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.PluginPhase;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.BlockChangeBatch;
 
 import java.util.function.BiFunction;
 
+import javax.annotation.Nullable;
+
 /**
  *
  */
@@ -78,8 +84,6 @@ public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
         final int xMax = unmodifiableVolume.getBlockMax().getX();
         final int yMax = unmodifiableVolume.getBlockMax().getY();
         final int zMax = unmodifiableVolume.getBlockMax().getZ();
-        // TODO integrate with the cause tracker to handle the block sets in
-        // a single go, requiring only one event
         IMixinWorldServer mixinWorld = null;
         if (CauseTracker.ENABLED) {
             mixinWorld = null;
@@ -96,15 +100,23 @@ public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
                         .complete());
             }
         }
+        final BlockChangeBatch batch = createBatch(destination);
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
                     final BlockState block = mapper.map(unmodifiableVolume, x, y, z);
 
-                    destination.setBlock(x + xOffset, y + yOffset, z + zOffset, block, this.cause);
+                    if (batch != null) {
+                        batch.add(x + xOffset, y + yOffset, z + zOffset, (IBlockState) block);
+                    } else {
+                        destination.setBlock(x + xOffset, y + yOffset, z + zOffset, block, this.cause);
+                    }
                 }
             }
         }
+        if (batch != null) {
+            batch.commit(this.cause);
+        }
         if (mixinWorld != null && CauseTracker.ENABLED) {
             final CauseTracker causeTracker = mixinWorld.getCauseTracker();
             causeTracker.completePhase();
@@ -129,23 +141,29 @@ public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolu
         final int yMax = firstUnmodifiableVolume.getBlockMax().getY();
         final int zMax = firstUnmodifiableVolume.getBlockMax().getZ();
         final UnmodifiableBlockVolume secondUnmodifiableVolume = second.getUnmodifiableBlockView();
-        // TODO integrate with the cause tracker to handle the block sets in
-        // a single go, requiring only one event
         if (CauseTracker.ENABLED && destination instanceof IMixinWorldServer) {
             final CauseTracker causeTracker = ((IMixinWorldServer) destination).getCauseTracker();
             causeTracker.switchToPhase(PluginPhase.State.BLOCK_WORKER, PhaseContext.start()
                     .add(NamedCause.source(this))
                     .complete());
         }
+        final BlockChangeBatch batch = createBatch(destination);
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
                     final BlockState block = merger.merge(firstUnmodifiableVolume, x, y, z,
                         secondUnmodifiableVolume, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond);
-                    destination.setBlock(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, block, this.cause);
+                    if (batch != null) {
+                        batch.add(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, (IBlockState) block);
+                    } else {
+                        destination.setBlock(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, block, this.cause);
+                    }
                 }
             }
         }
+        if (batch != null) {
+            batch.commit(this.cause);
+        }
         if (CauseTracker.ENABLED && destination instanceof IMixinWorldServer) {
             final CauseTracker causeTracker = ((IMixinWorldServer) destination).getCauseTracker();
             causeTracker.completePhase();
@@ -205,6 +223,21 @@ public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         return reduction;
     }
 
+    /**
+     * Creates a batch to apply block changes to the destination with, if it
+     * is a world. Other destinations are cheap enough to write to directly.
+     *
+     * @param destination The destination volume
+     * @return The batch, or null if the destination is not a world
+     */
+    @Nullable
+    private static BlockChangeBatch createBatch(MutableBlockVolume destination) {
+        if (destination instanceof WorldServer) {
+            return new BlockChangeBatch((WorldServer) destination, BlockChangeFlag.ALL);
+        }
+        return null;
+    }
+
     private Vector3i align(BlockVolume other) {
         final Vector3i thisSize = this.volume.getBlockSize();
         final Vector3i otherSize = other.getBlockSize();
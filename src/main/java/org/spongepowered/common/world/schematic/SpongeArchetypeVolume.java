@@ -26,6 +26,8 @@
 
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.ImmutableMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.world.WorldServer;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.tileentity.TileEntityArchetype;
 import org.spongepowered.api.event.cause.Cause;
@@ -41,6 +43,7 @@
 import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
 import org.spongepowered.api.world.schematic.BlockPalette;
 import org.spongepowered.common.util.gen.AbstractBlockBuffer;
+import org.spongepowered.common.world.BlockChangeBatch;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
 
 import java.util.Map;
@@ -78,10 +81,19 @@ public MutableBlockVolumeWorker<? extends ArchetypeVolume> getBlockWorker(Cause
 
     @Override
     public void apply(Location<World> location, BlockChangeFlag changeFlag, Cause cause) {
-        this.backing.getBlockWorker(cause).iterate((v, x, y, z) -> {
-            location.getExtent().setBlock(x + location.getBlockX(), y + location.getBlockY(), z + location.getBlockZ(), v.getBlock(x, y, z), changeFlag,
-                    cause);
-        });
+        if (location.getExtent() instanceof WorldServer) {
+            // Apply all blocks in one go rather than paying for a full block change per block
+            final BlockChangeBatch batch = new BlockChangeBatch((WorldServer) location.getExtent(), changeFlag);
+            this.backing.getBlockWorker(cause).iterate((v, x, y, z) -> {
+                batch.add(x + location.getBlockX(), y + location.getBlockY(), z + location.getBlockZ(), (IBlockState) v.getBlock(x, y, z));
+            });
+            batch.commit(cause);
+        } else {
+            this.backing.getBlockWorker(cause).iterate((v, x, y, z) -> {
+                location.getExtent().setBlock(x + location.getBlockX(), y + location.getBlockY(), z + location.getBlockZ(), v.getBlock(x, y, z),
+                        changeFlag, cause);
+            });
+        }
         for (Vector3i pos : this.tiles.keySet()) {
             TileEntityArchetype archetype = this.tiles.get(pos);
             archetype.apply(location.add(pos), cause);
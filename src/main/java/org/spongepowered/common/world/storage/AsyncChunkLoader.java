@@ -0,0 +1,262 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.phase.GenerationPhase;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Loads chunks of a single world in two stages. Reading the region file,
+ * decompressing and parsing the terrain of a chunk happens on a bounded
+ * pool of loader threads, while adding the entities and tile entities and
+ * attaching the chunk to the world is done on the main thread, either
+ * within a per tick time budget or immediately when the chunk is requested
+ * synchronously.
+ *
+ * <p>All methods of this class must be called from the main thread.</p>
+ */
+public final class AsyncChunkLoader {
+
+    // Bounds the amount of chunks waiting for a loader thread, further
+    // requests are simply loaded synchronously
+    private static final int MAX_QUEUED_LOADS = 4096;
+    private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(
+            SpongeImpl.getGlobalConfig().getConfig().getWorld().getAsyncChunkLoadThreads(),
+            SpongeImpl.getGlobalConfig().getConfig().getWorld().getAsyncChunkLoadThreads(),
+            0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(MAX_QUEUED_LOADS),
+            new ThreadFactoryBuilder().setNameFormat("Sponge Chunk Loader #%d").setDaemon(true).build());
+
+    private final WorldServer world;
+    private final ChunkProviderServer chunkProvider;
+    private final IMixinAnvilChunkLoader chunkLoader;
+    private final Long2ObjectMap<CompletableFuture<LoadedChunk>> pending = new Long2ObjectLinkedOpenHashMap<>();
+    private final LongSet syncRequired = new LongOpenHashSet();
+
+    public AsyncChunkLoader(WorldServer world, ChunkProviderServer chunkProvider, IMixinAnvilChunkLoader chunkLoader) {
+        this.world = world;
+        this.chunkProvider = chunkProvider;
+        this.chunkLoader = chunkLoader;
+    }
+
+    /**
+     * Gets whether a chunk is currently being loaded asynchronously.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return True if a load is in progress
+     */
+    public boolean isPending(int x, int z) {
+        return this.pending.containsKey(ChunkPos.chunkXZ2Int(x, z));
+    }
+
+    /**
+     * Gets whether the last asynchronous load of a chunk didn't produce a
+     * chunk, either because it was never saved and has to be generated, or
+     * because its data couldn't be read. Such chunks have to go through the
+     * regular synchronous load. Consumes the result.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return True if the chunk has to be loaded synchronously
+     */
+    public boolean consumeSyncRequired(int x, int z) {
+        return this.syncRequired.remove(ChunkPos.chunkXZ2Int(x, z));
+    }
+
+    /**
+     * Queues a chunk to be loaded asynchronously, unless it is already
+     * loaded or being loaded.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return False if the load could not be queued and the chunk should be
+     *     loaded synchronously instead
+     */
+    public boolean queue(int x, int z) {
+        final long key = ChunkPos.chunkXZ2Int(x, z);
+        if (this.pending.containsKey(key) || this.chunkProvider.id2ChunkMap.containsKey(key)) {
+            return true;
+        }
+        final CompletableFuture<LoadedChunk> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> this.read(x, z), EXECUTOR);
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+        this.pending.put(key, future);
+        return true;
+    }
+
+    /**
+     * Waits for a pending asynchronous load of a chunk to finish, and
+     * attaches the chunk to the world right away.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The chunk, or null if no load was pending or the chunk has to
+     *     be loaded synchronously
+     */
+    @Nullable
+    public Chunk await(int x, int z) {
+        final long key = ChunkPos.chunkXZ2Int(x, z);
+        final CompletableFuture<LoadedChunk> future = this.pending.remove(key);
+        if (future == null) {
+            return null;
+        }
+        return this.attach(key, future.join());
+    }
+
+    /**
+     * Attaches finished asynchronous loads to the world until the given
+     * deadline is reached. At least one chunk is attached if available, so
+     * that loading always makes progress.
+     *
+     * @param deadline The {@link System#nanoTime()} to stop at
+     * @return The amount of chunks attached
+     */
+    public int attachCompleted(long deadline) {
+        // Attaching a chunk may load its neighbours through await, which
+        // removes from the pending map, so it can't be iterated meanwhile
+        final LongList completed = new LongArrayList();
+        for (Long2ObjectMap.Entry<CompletableFuture<LoadedChunk>> entry : this.pending.long2ObjectEntrySet()) {
+            if (entry.getValue().isDone()) {
+                completed.add(entry.getLongKey());
+            }
+        }
+        int attached = 0;
+        for (int i = 0; i < completed.size(); i++) {
+            final long key = completed.getLong(i);
+            final CompletableFuture<LoadedChunk> future = this.pending.remove(key);
+            if (future == null) {
+                // Already attached through await
+                continue;
+            }
+            if (this.attach(key, future.join()) != null) {
+                attached++;
+            }
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        return attached;
+    }
+
+    public int getPendingCount() {
+        return this.pending.size();
+    }
+
+    private LoadedChunk read(int x, int z) {
+        try {
+            final NBTTagCompound compound = this.chunkLoader.readChunkData(x, z);
+            if (compound == null) {
+                return new LoadedChunk(x, z, null, null);
+            }
+            return new LoadedChunk(x, z, this.chunkLoader.readChunkTerrain(this.world, x, z, compound), compound);
+        } catch (Exception e) {
+            SpongeImpl.getLogger().error("Couldn't load chunk {},{} asynchronously, it will be loaded synchronously", x, z, e);
+            return new LoadedChunk(x, z, null, null);
+        }
+    }
+
+    @Nullable
+    private Chunk attach(long key, LoadedChunk loaded) {
+        final Chunk existing = this.chunkProvider.id2ChunkMap.get(key);
+        if (existing != null) {
+            // Loaded synchronously in the meantime
+            return existing;
+        }
+        if (loaded.chunk == null) {
+            this.syncRequired.add(key);
+            return null;
+        }
+        final IMixinWorldServer mixinWorld = (IMixinWorldServer) this.world;
+        final Chunk chunk = loaded.chunk;
+        mixinWorld.getTimingsHandler().syncChunkLoadTimer.startTiming();
+        this.chunkLoader.loadChunkEntities(this.world, loaded.compound, chunk);
+        chunk.setLastSaveTime(this.world.getTotalWorldTime());
+        mixinWorld.getTimingsHandler().syncChunkLoadStructuresTimer.startTiming();
+        this.chunkProvider.chunkGenerator.recreateStructures(chunk, loaded.x, loaded.z);
+        mixinWorld.getTimingsHandler().syncChunkLoadStructuresTimer.stopTiming();
+        this.chunkProvider.id2ChunkMap.put(key, chunk);
+        mixinWorld.getTimingsHandler().syncChunkLoadPostTimer.startTiming();
+        chunk.onChunkLoad();
+        mixinWorld.getTimingsHandler().syncChunkLoadPostTimer.stopTiming();
+        // Populating may generate neighbouring terrain, track it the same way ChunkProviderServer#provideChunk does
+        if (CauseTracker.ENABLED) {
+            mixinWorld.getCauseTracker().switchToPhase(GenerationPhase.State.TERRAIN_GENERATION, PhaseContext.start()
+                    .addCaptures()
+                    .complete());
+        }
+        chunk.populateChunk(this.chunkProvider, this.chunkProvider.chunkGenerator);
+        if (CauseTracker.ENABLED) {
+            mixinWorld.getCauseTracker().completePhase();
+        }
+        mixinWorld.getTimingsHandler().syncChunkLoadTimer.stopTiming();
+        return chunk;
+    }
+
+    private static final class LoadedChunk {
+
+        final int x;
+        final int z;
+        @Nullable final Chunk chunk;
+        @Nullable final NBTTagCompound compound;
+
+        LoadedChunk(int x, int z, @Nullable Chunk chunk, @Nullable NBTTagCompound compound) {
+            this.x = x;
+            this.z = z;
+            this.chunk = chunk;
+            this.compound = compound;
+        }
+
+    }
+
+}
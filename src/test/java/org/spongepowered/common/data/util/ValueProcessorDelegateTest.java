@@ -0,0 +1,215 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.util;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.data.value.ValueContainer;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+import org.spongepowered.api.data.value.mutable.Value;
+import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.data.ValueProcessor;
+import org.spongepowered.common.data.processor.common.AbstractSpongeValueProcessor;
+
+import java.util.Optional;
+
+public class ValueProcessorDelegateTest {
+
+    @SuppressWarnings("unchecked")
+    private final Key<Value<Integer>> key = Mockito.mock(Key.class);
+    private final ValueContainer<?> container = Mockito.mock(ValueContainer.class);
+
+    @Test
+    public void testUnsupportedTypesAreDropped() {
+        final CountingProcessor other1 = new CountingProcessor(String.class, false, 1);
+        final CountingProcessor other2 = new CountingProcessor(Integer.class, false, 2);
+        final CountingProcessor winner = new CountingProcessor(ValueContainer.class, false, 3);
+        final ValueProcessorDelegate<Integer, Value<Integer>> delegate =
+                new ValueProcessorDelegate<>(this.key, ImmutableList.of(other1, other2, winner));
+
+        final ValueProcessorDelegate<Integer, Value<Integer>> compiled = delegate.forContainerType(this.container.getClass());
+        Assert.assertEquals(ImmutableList.of(winner), compiled.getProcessors());
+        Assert.assertEquals(Optional.of(3), compiled.getValueFromContainer(this.container));
+        Assert.assertEquals(Optional.of(3), delegate.getValueFromContainer(this.container));
+        // The full walk checks every processor, the compiled one only the winner
+        Assert.assertEquals(1, other1.checks);
+        Assert.assertEquals(1, other2.checks);
+        Assert.assertEquals(2, winner.checks);
+    }
+
+    @Test
+    public void testInstanceSupportIsStillChecked() {
+        final CountingProcessor dynamic = new CountingProcessor(ValueContainer.class, true, 1);
+        final CountingProcessor fallback = new CountingProcessor(ValueContainer.class, false, 2);
+        final ValueProcessorDelegate<Integer, Value<Integer>> delegate =
+                new ValueProcessorDelegate<>(this.key, ImmutableList.of(dynamic, fallback));
+
+        final ValueProcessorDelegate<Integer, Value<Integer>> compiled = delegate.forContainerType(this.container.getClass());
+        Assert.assertSame(delegate, compiled);
+        dynamic.supported = false;
+        Assert.assertEquals(Optional.of(2), compiled.getValueFromContainer(this.container));
+        dynamic.supported = true;
+        Assert.assertEquals(Optional.of(1), compiled.getValueFromContainer(this.container));
+    }
+
+    @Test
+    public void testSpongeProcessorsStopAtFirstSupportingProcessor() {
+        final InstanceProcessor dynamic = new InstanceProcessor(this.key, 1);
+        final ClassProcessor<String> other = new ClassProcessor<>(String.class, this.key, 2);
+        final ClassProcessor<Object> winner = new ClassProcessor<>(Object.class, this.key, 3);
+        final ClassProcessor<Object> shadowed = new ClassProcessor<>(Object.class, this.key, 4);
+        final ValueProcessorDelegate<Integer, Value<Integer>> delegate =
+                new ValueProcessorDelegate<>(this.key, ImmutableList.of(dynamic, other, winner, shadowed));
+
+        // Overriding supports(C) means support is checked per container
+        Assert.assertEquals(Tristate.UNDEFINED, dynamic.supportsType(this.container.getClass()));
+        Assert.assertEquals(Tristate.FALSE, other.supportsType(this.container.getClass()));
+        Assert.assertEquals(Tristate.TRUE, winner.supportsType(this.container.getClass()));
+
+        final ValueProcessorDelegate<Integer, Value<Integer>> compiled = delegate.forContainerType(this.container.getClass());
+        Assert.assertEquals(ImmutableList.of(dynamic, winner), compiled.getProcessors());
+        dynamic.supported = false;
+        Assert.assertEquals(Optional.of(3), compiled.getValueFromContainer(this.container));
+        dynamic.supported = true;
+        Assert.assertEquals(Optional.of(1), compiled.getValueFromContainer(this.container));
+    }
+
+    private static class ClassProcessor<C> extends AbstractSpongeValueProcessor<C, Integer, Value<Integer>> {
+
+        private final int value;
+
+        ClassProcessor(Class<C> containerClass, Key<Value<Integer>> key, int value) {
+            super(containerClass, key);
+            this.value = value;
+        }
+
+        @Override
+        protected Value<Integer> constructValue(Integer actualValue) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected boolean set(C container, Integer value) {
+            return false;
+        }
+
+        @Override
+        protected Optional<Integer> getVal(C container) {
+            return Optional.of(this.value);
+        }
+
+        @Override
+        protected ImmutableValue<Integer> constructImmutableValue(Integer value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public DataTransactionResult removeFrom(ValueContainer<?> container) {
+            return DataTransactionResult.failNoData();
+        }
+
+    }
+
+    private static final class InstanceProcessor extends ClassProcessor<Object> {
+
+        boolean supported = true;
+
+        InstanceProcessor(Key<Value<Integer>> key, int value) {
+            super(Object.class, key, value);
+        }
+
+        @Override
+        protected boolean supports(Object container) {
+            return this.supported;
+        }
+
+    }
+
+    private final class CountingProcessor implements ValueProcessor<Integer, Value<Integer>> {
+
+        private final Class<?> type;
+        private final boolean checksInstances;
+        private final int value;
+        boolean supported = true;
+        int checks;
+
+        CountingProcessor(Class<?> type, boolean checksInstances, int value) {
+            this.type = type;
+            this.checksInstances = checksInstances;
+            this.value = value;
+        }
+
+        @Override
+        public Key<? extends BaseValue<Integer>> getKey() {
+            return ValueProcessorDelegateTest.this.key;
+        }
+
+        @Override
+        public int getPriority() {
+            return 100;
+        }
+
+        @Override
+        public Optional<Integer> getValueFromContainer(ValueContainer<?> container) {
+            return Optional.of(this.value);
+        }
+
+        @Override
+        public Optional<Value<Integer>> getApiValueFromContainer(ValueContainer<?> container) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean supports(ValueContainer<?> container) {
+            this.checks++;
+            return this.type.isInstance(container) && this.supported;
+        }
+
+        @Override
+        public Tristate supportsType(Class<?> containerType) {
+            if (!this.type.isAssignableFrom(containerType)) {
+                return Tristate.FALSE;
+            }
+            return this.checksInstances ? Tristate.UNDEFINED : Tristate.TRUE;
+        }
+
+        @Override
+        public DataTransactionResult offerToStore(ValueContainer<?> container, Integer value) {
+            return DataTransactionResult.failNoData();
+        }
+
+        @Override
+        public DataTransactionResult removeFrom(ValueContainer<?> container) {
+            return DataTransactionResult.failNoData();
+        }
+
+    }
+
+}
@@ -108,6 +108,37 @@ public void testMultipleListeners() {
         Assert.assertFalse("SPAWN_ENTITY_EVENT_CUSTOM is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
     }
 
+    @Test
+    public void testIndexedFlags() {
+        SpawnListener first = new SpawnListener();
+        SpawnListener second = new SpawnListener();
+        SubListener custom = new SubListener();
+
+        Assert.assertFalse("SpawnEntityEvent has listeners!", ShouldFire.hasListeners(SpawnEntityEvent.class));
+        Assert.assertFalse("SpawnEntityEvent.Custom has listeners!", ShouldFire.hasListeners(SpawnEntityEvent.Custom.class));
+
+        this.eventManager.registerListeners(this.plugin, custom);
+
+        Assert.assertTrue("SpawnEntityEvent has no listeners!", ShouldFire.hasListeners(SpawnEntityEvent.class));
+        Assert.assertTrue("SpawnEntityEvent.Custom has no listeners!", ShouldFire.hasListeners(SpawnEntityEvent.Custom.class));
+        Assert.assertFalse("SpawnEntityEvent.Spawner has listeners!", ShouldFire.hasListeners(SpawnEntityEvent.Spawner.class));
+
+        this.eventManager.registerListeners(this.plugin, first);
+        this.eventManager.registerListeners(this.plugin, second);
+        this.eventManager.unregisterListeners(custom);
+
+        Assert.assertTrue("SpawnEntityEvent.Spawner has no listeners!", ShouldFire.hasListeners(SpawnEntityEvent.Spawner.class));
+
+        this.eventManager.unregisterListeners(first);
+
+        Assert.assertTrue("SpawnEntityEvent.Custom has no listeners!", ShouldFire.hasListeners(SpawnEntityEvent.Custom.class));
+
+        this.eventManager.unregisterListeners(second);
+
+        Assert.assertFalse("SpawnEntityEvent has listeners!", ShouldFire.hasListeners(SpawnEntityEvent.class));
+        Assert.assertFalse("SpawnEntityEvent.Custom has listeners!", ShouldFire.hasListeners(SpawnEntityEvent.Custom.class));
+    }
+
     private static class SpawnListener {
 
         @Listener
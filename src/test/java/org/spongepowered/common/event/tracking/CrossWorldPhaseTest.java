@@ -0,0 +1,97 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class CrossWorldPhaseTest {
+
+    private static final int WORLDS = 8;
+
+    private final IPhaseState state = Mockito.mock(IPhaseState.class);
+    private int contexts;
+    private final Supplier<PhaseContext> factory = () -> {
+        this.contexts++;
+        return PhaseContext.start().addCaptures().complete();
+    };
+
+    private static List<String> worlds() {
+        final List<String> worlds = new ArrayList<>();
+        for (int i = 0; i < WORLDS; i++) {
+            worlds.add("world" + i);
+        }
+        return worlds;
+    }
+
+    @Test
+    public void testOriginDoesNotJoin() {
+        final long entered = CrossWorldPhase.getEntered();
+        final long joins = CrossWorldPhase.getJoins();
+        final CrossWorldPhase<String> phase = new CrossWorldPhase<>(worlds().get(0), this.state, this.factory, null);
+        Assert.assertFalse(phase.join(phase.origin));
+        Assert.assertTrue(phase.getJoined().isEmpty());
+        // Only joining participants build a context of their own
+        Assert.assertEquals(0, this.contexts);
+        Assert.assertEquals(entered + 1, CrossWorldPhase.getEntered());
+        Assert.assertEquals(joins, CrossWorldPhase.getJoins());
+    }
+
+    @Test
+    public void testTouchedWorldJoinsOnce() {
+        final List<String> worlds = worlds();
+        final CrossWorldPhase<String> phase = new CrossWorldPhase<>(worlds.get(0), this.state, this.factory, null);
+        phase.createContext();
+        // A portal or teleport touches another world several times
+        for (int i = 0; i < 5; i++) {
+            if (phase.join(worlds.get(3))) {
+                phase.createContext();
+            }
+        }
+        if (phase.join(worlds.get(1))) {
+            phase.createContext();
+        }
+        Assert.assertEquals(Arrays.asList(worlds.get(3), worlds.get(1)), phase.getJoined());
+        Assert.assertEquals(3, this.contexts);
+    }
+
+    @Test
+    public void testOtherThreadsDoNotJoin() throws InterruptedException {
+        final CrossWorldPhase<String> phase = new CrossWorldPhase<>("world0", this.state, this.factory, null);
+        final boolean[] joined = new boolean[1];
+        final Thread thread = new Thread(() -> joined[0] = phase.join("world1"));
+        thread.start();
+        thread.join();
+        Assert.assertFalse(joined[0]);
+        Assert.assertTrue(phase.getJoined().isEmpty());
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.spongepowered.api.event.cause.NamedCause;
+import org.spongepowered.common.event.InternalNamedCauses;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+public class PhaseContextTest {
+
+    @Test
+    public void testSlottedNamedCauses() {
+        final PhaseContext context = PhaseContext.start()
+                .add(NamedCause.source("source"))
+                .add(NamedCause.of(InternalNamedCauses.Tracker.TICK_EVENT, 1))
+                .addCaptures()
+                .complete();
+
+        Assert.assertEquals(Optional.of("source"), context.firstNamed(NamedCause.SOURCE, String.class));
+        Assert.assertEquals(Optional.of("source"), context.getSource(String.class));
+        Assert.assertEquals(Optional.of(1), context.firstNamed(InternalNamedCauses.Tracker.TICK_EVENT, Integer.class));
+        Assert.assertEquals(Optional.empty(), context.firstNamed(InternalNamedCauses.Tracker.TICK_EVENT, String.class));
+        Assert.assertTrue(context.firstNamed(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, CapturedSupplier.class).isPresent());
+        Assert.assertTrue(context.getCapturedBlocks().isEmpty());
+        Assert.assertEquals(Optional.of(1), context.first(Integer.class));
+    }
+
+    @Test
+    public void testDuplicateNamedCauses() {
+        final PhaseContext context = PhaseContext.start()
+                .add(NamedCause.source("first"))
+                .add(NamedCause.source("second"))
+                .complete();
+
+        // The first added object is found by name, the last one is the source
+        Assert.assertEquals(Optional.of("first"), context.firstNamed(NamedCause.SOURCE, String.class));
+        Assert.assertEquals(Optional.of("second"), context.getSource(String.class));
+
+        final List<Object> objects = new ArrayList<>();
+        context.forEach(namedCause -> objects.add(namedCause.getCauseObject()));
+        Assert.assertEquals(2, objects.size());
+        Assert.assertTrue(objects.contains("first"));
+        Assert.assertTrue(objects.contains("second"));
+    }
+
+    @Test
+    public void testLookupsFollowInsertionOrder() {
+        final PhaseContext context = PhaseContext.start()
+                .add(NamedCause.of("custom", "custom"))
+                .add(NamedCause.source("source"))
+                .add(NamedCause.of("Other", "other"))
+                .complete();
+
+        // Slotted entries don't come before entries that were added earlier
+        Assert.assertEquals(Optional.of("custom"), context.first(String.class));
+        Assert.assertEquals(Optional.of("source"), context.firstNamed("SOURCE", String.class));
+        Assert.assertEquals(Optional.of("other"), context.firstNamed("other", String.class));
+
+        final List<Object> objects = new ArrayList<>();
+        context.forEach(namedCause -> objects.add(namedCause.getCauseObject()));
+        Assert.assertEquals(Arrays.asList("custom", "source", "other"), objects);
+    }
+
+    @Test
+    public void testRepeatedLookupsSeeLaterEntries() {
+        final PhaseContext context = PhaseContext.start();
+
+        Assert.assertEquals(Optional.empty(), context.first(String.class));
+        context.add(NamedCause.of("custom", "custom"));
+        Assert.assertEquals(Optional.of("custom"), context.first(String.class));
+        Assert.assertEquals(Optional.of("custom"), context.first(String.class));
+        Assert.assertEquals(Optional.empty(), context.first(Integer.class));
+        context.add(NamedCause.source(1));
+        Assert.assertEquals(Optional.of(1), context.first(Integer.class));
+        Assert.assertEquals(Optional.of("custom"), context.first(String.class));
+    }
+
+}
@@ -0,0 +1,308 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import com.google.common.util.concurrent.Futures;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.NetHandlerPlayServer;
+import net.minecraft.network.NetworkManager;
+import net.minecraft.network.Packet;
+import net.minecraft.network.datasync.DataParameter;
+import net.minecraft.network.datasync.DataSerializer;
+import net.minecraft.network.datasync.EntityDataManager;
+import net.minecraft.network.play.server.SPacketBlockChange;
+import net.minecraft.network.play.server.SPacketDisconnect;
+import net.minecraft.network.play.server.SPacketEntity;
+import net.minecraft.network.play.server.SPacketEntityMetadata;
+import net.minecraft.network.play.server.SPacketMultiBlockChange;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.text.TextComponentString;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.spongepowered.common.entity.player.PlayerKickHelper;
+import org.spongepowered.common.interfaces.IMixinNetworkManager;
+import org.spongepowered.common.interfaces.network.IMixinNetHandlerPlayServer;
+import org.spongepowered.common.interfaces.network.play.server.IMixinSPacketBlockChange;
+import org.spongepowered.common.interfaces.network.play.server.IMixinSPacketEntity;
+import org.spongepowered.common.interfaces.network.play.server.IMixinSPacketEntityMetadata;
+import org.spongepowered.common.interfaces.network.play.server.IMixinSPacketMultiBlockChange;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class OutboundPacketQueueTest {
+
+    private static final DataSerializer<?> SERIALIZER = Mockito.mock(DataSerializer.class);
+
+    // The mixins aren't applied in tests, so the fields are read reflectively
+    private static final OutboundPacketQueue.PacketFields FIELDS = new OutboundPacketQueue.PacketFields() {
+
+        @Override
+        public IMixinSPacketEntity getMove(SPacketEntity packet) {
+            return new IMixinSPacketEntity() {
+
+                @Override
+                public int getMovedEntityId() {
+                    return get(SPacketEntity.class, "entityId", packet);
+                }
+
+                @Override
+                public int getMoveX() {
+                    return get(SPacketEntity.class, "posX", packet);
+                }
+
+                @Override
+                public int getMoveY() {
+                    return get(SPacketEntity.class, "posY", packet);
+                }
+
+                @Override
+                public int getMoveZ() {
+                    return get(SPacketEntity.class, "posZ", packet);
+                }
+
+                @Override
+                public byte getMoveYaw() {
+                    return get(SPacketEntity.class, "yaw", packet);
+                }
+
+                @Override
+                public byte getMovePitch() {
+                    return get(SPacketEntity.class, "pitch", packet);
+                }
+
+                @Override
+                public boolean isMoveOnGround() {
+                    return get(SPacketEntity.class, "onGround", packet);
+                }
+
+                @Override
+                public boolean hasMoveRotation() {
+                    return get(SPacketEntity.class, "rotating", packet);
+                }
+            };
+        }
+
+        @Override
+        public IMixinSPacketEntityMetadata getMetadata(SPacketEntityMetadata packet) {
+            return new IMixinSPacketEntityMetadata() {
+
+                @Override
+                public int getMetadataEntityId() {
+                    return get(SPacketEntityMetadata.class, "entityId", packet);
+                }
+
+                @Override
+                public List<EntityDataManager.DataEntry<?>> getMetadataEntries() {
+                    return get(SPacketEntityMetadata.class, "dataManagerEntries", packet);
+                }
+
+                @Override
+                public void setMetadata(int entityId, List<EntityDataManager.DataEntry<?>> entries) {
+                    set(SPacketEntityMetadata.class, "entityId", packet, entityId);
+                    set(SPacketEntityMetadata.class, "dataManagerEntries", packet, entries);
+                }
+            };
+        }
+
+        @Override
+        public IMixinSPacketBlockChange getBlockChange(SPacketBlockChange packet) {
+            return () -> packet.blockPosition;
+        }
+
+        @Override
+        public IMixinSPacketMultiBlockChange getMultiBlockChange(SPacketMultiBlockChange packet) {
+            return (chunkPos, changes) -> {
+                set(SPacketMultiBlockChange.class, "chunkPos", packet, chunkPos);
+                set(SPacketMultiBlockChange.class, "changedBlocks", packet, changes);
+            };
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    private static <T> T get(Class<?> owner, String name, Object packet) {
+        try {
+            final Field field = owner.getDeclaredField(name);
+            field.setAccessible(true);
+            return (T) field.get(packet);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void set(Class<?> owner, String name, Object packet, Object value) {
+        try {
+            final Field field = owner.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(packet, value);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static List<Packet<?>> coalesce(Packet<?>... packets) {
+        return OutboundPacketQueue.coalesce(Arrays.asList(packets), FIELDS);
+    }
+
+    private static SPacketBlockChange blockChange(int x, int y, int z) {
+        final SPacketBlockChange packet = new SPacketBlockChange();
+        packet.blockPosition = new BlockPos(x, y, z);
+        packet.blockState = Mockito.mock(IBlockState.class);
+        return packet;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EntityDataManager.DataEntry<?> entry(int id, Object value) {
+        return new EntityDataManager.DataEntry<>(new DataParameter<>(id, (DataSerializer<Object>) SERIALIZER), value);
+    }
+
+    private static SPacketEntityMetadata metadata(int entityId, EntityDataManager.DataEntry<?>... entries) {
+        final SPacketEntityMetadata packet = new SPacketEntityMetadata();
+        FIELDS.getMetadata(packet).setMetadata(entityId, new ArrayList<>(Arrays.asList(entries)));
+        return packet;
+    }
+
+    @Test
+    public void testMovesAreSummed() {
+        final List<Packet<?>> out = coalesce(new SPacketEntity.S15PacketEntityRelMove(1, 100, 0, -50, false),
+                new SPacketEntity.S15PacketEntityRelMove(1, 200, 10, -50, true));
+        Assert.assertEquals(1, out.size());
+        final IMixinSPacketEntity move = FIELDS.getMove((SPacketEntity) out.get(0));
+        Assert.assertEquals(SPacketEntity.S15PacketEntityRelMove.class, out.get(0).getClass());
+        Assert.assertEquals(300, move.getMoveX());
+        Assert.assertEquals(10, move.getMoveY());
+        Assert.assertEquals(-100, move.getMoveZ());
+        Assert.assertTrue(move.isMoveOnGround());
+    }
+
+    @Test
+    public void testOverflowingMovesAreNotMerged() {
+        final SPacketEntity.S15PacketEntityRelMove first = new SPacketEntity.S15PacketEntityRelMove(1, 30000, 0, 0, false);
+        final SPacketEntity.S15PacketEntityRelMove second = new SPacketEntity.S15PacketEntityRelMove(1, 30000, 0, 0, false);
+        Assert.assertEquals(Arrays.asList(first, second), coalesce(first, second));
+    }
+
+    @Test
+    public void testLookAndMoveMergeIntoLookMove() {
+        final List<Packet<?>> out = coalesce(new SPacketEntity.S16PacketEntityLook(1, (byte) 10, (byte) 20, false),
+                new SPacketEntity.S15PacketEntityRelMove(1, 5, 0, 0, false));
+        Assert.assertEquals(1, out.size());
+        Assert.assertEquals(SPacketEntity.S17PacketEntityLookMove.class, out.get(0).getClass());
+        final IMixinSPacketEntity move = FIELDS.getMove((SPacketEntity) out.get(0));
+        Assert.assertEquals(5, move.getMoveX());
+        Assert.assertEquals(10, move.getMoveYaw());
+        Assert.assertEquals(20, move.getMovePitch());
+    }
+
+    @Test
+    public void testMovesOfOtherEntitiesAreKept() {
+        final SPacketEntity.S15PacketEntityRelMove first = new SPacketEntity.S15PacketEntityRelMove(1, 1, 0, 0, false);
+        final SPacketEntity.S15PacketEntityRelMove second = new SPacketEntity.S15PacketEntityRelMove(2, 1, 0, 0, false);
+        Assert.assertEquals(Arrays.asList(first, second), coalesce(first, second));
+    }
+
+    @Test
+    public void testMetadataKeysAreReplaced() {
+        final EntityDataManager.DataEntry<?> flags = entry(0, (byte) 1);
+        final EntityDataManager.DataEntry<?> oldAir = entry(1, 300);
+        final EntityDataManager.DataEntry<?> newAir = entry(1, 250);
+        final EntityDataManager.DataEntry<?> name = entry(2, "name");
+        final SPacketEntityMetadata first = metadata(1, flags, oldAir);
+        final SPacketEntityMetadata second = metadata(1, newAir, name);
+
+        final List<Packet<?>> out = coalesce(first, second);
+        Assert.assertEquals(1, out.size());
+        final IMixinSPacketEntityMetadata merged = FIELDS.getMetadata((SPacketEntityMetadata) out.get(0));
+        Assert.assertEquals(1, merged.getMetadataEntityId());
+        Assert.assertEquals(Arrays.asList(flags, newAir, name), merged.getMetadataEntries());
+        // Packets may be shared between players, so the queued ones are left alone
+        Assert.assertEquals(Arrays.asList(flags, oldAir), FIELDS.getMetadata(first).getMetadataEntries());
+    }
+
+    @Test
+    public void testBlockChangesInOneChunkBecomeMultiBlockChange() {
+        final List<Packet<?>> out = coalesce(blockChange(1, 64, 1), blockChange(2, 64, 2), blockChange(1, 64, 1));
+        Assert.assertEquals(1, out.size());
+        Assert.assertEquals(SPacketMultiBlockChange.class, out.get(0).getClass());
+        final ChunkPos chunkPos = get(SPacketMultiBlockChange.class, "chunkPos", out.get(0));
+        final SPacketMultiBlockChange.BlockUpdateData[] changes = get(SPacketMultiBlockChange.class, "changedBlocks", out.get(0));
+        Assert.assertEquals(new ChunkPos(0, 0), chunkPos);
+        Assert.assertEquals(2, changes.length);
+        Assert.assertEquals(new BlockPos(1, 64, 1), changes[0].getPos());
+        Assert.assertEquals(new BlockPos(2, 64, 2), changes[1].getPos());
+    }
+
+    @Test
+    public void testBlockChangesInTwoChunksAreKept() {
+        final SPacketBlockChange first = blockChange(1, 64, 1);
+        final SPacketBlockChange second = blockChange(17, 64, 1);
+        Assert.assertEquals(Arrays.asList(first, second), coalesce(first, second));
+    }
+
+    @Test
+    public void testOtherPacketsEndBlockChangeRuns() {
+        final SPacketBlockChange first = blockChange(1, 64, 1);
+        final Packet<?> other = Mockito.mock(Packet.class);
+        final SPacketBlockChange second = blockChange(2, 64, 2);
+        Assert.assertEquals(Arrays.asList(first, other, second), coalesce(first, other, second));
+    }
+
+    @Test
+    public void testKickWritesQueuedPacketsFirst() {
+        final NetworkManager manager = Mockito.mock(NetworkManager.class, Mockito.withSettings().extraInterfaces(IMixinNetworkManager.class));
+        final NetHandlerPlayServer handler = Mockito.mock(NetHandlerPlayServer.class,
+                Mockito.withSettings().extraInterfaces(IMixinNetHandlerPlayServer.class));
+        final OutboundPacketQueue queue = new OutboundPacketQueue();
+        Mockito.when(handler.getNetworkManager()).thenReturn(manager);
+        Mockito.doAnswer(invocation -> {
+            queue.flush(manager, false);
+            return null;
+        }).when((IMixinNetHandlerPlayServer) handler).flushPacketQueue();
+        final MinecraftServer server = Mockito.mock(MinecraftServer.class);
+        Mockito.when(server.addScheduledTask(Mockito.any(Runnable.class))).thenReturn(Futures.immediateFuture(null));
+        final EntityPlayerMP player = Mockito.mock(EntityPlayerMP.class);
+        player.connection = handler;
+        Mockito.when(player.getServer()).thenReturn(server);
+
+        // Like the chat message telling the player why they are kicked
+        final Packet<?> reason = Mockito.mock(Packet.class);
+        queue.add(reason);
+        PlayerKickHelper.kickPlayer(player, new TextComponentString("Kicked"));
+
+        Assert.assertTrue(queue.isEmpty());
+        final InOrder order = Mockito.inOrder(manager);
+        order.verify((IMixinNetworkManager) manager).sendPackets(Collections.singletonList(reason));
+        order.verify(manager).sendPacket(Mockito.isA(SPacketDisconnect.class), Mockito.any());
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class FairTaskExecutorTest {
+
+    private final PluginContainer flooding = Mockito.mock(PluginContainer.class);
+    private final PluginContainer other = Mockito.mock(PluginContainer.class);
+
+    @Test
+    public void testFloodingPluginDoesNotStarveOthers() throws InterruptedException {
+        final FairTaskExecutor executor = new FairTaskExecutor(4, 2);
+        final CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 100; i++) {
+            executor.execute(this.flooding, () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                }
+            });
+        }
+
+        final CountDownLatch done = new CountDownLatch(1);
+        executor.execute(this.other, done::countDown);
+        Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        for (AsyncTaskMetrics metrics : executor.getMetrics()) {
+            if (metrics.getPlugin() == this.flooding) {
+                // Capped at two threads, the rest waits in its own queue
+                Assert.assertTrue(metrics.getRunning() <= 2);
+                Assert.assertEquals(100, metrics.getRunning() + metrics.getQueued());
+            }
+        }
+        Assert.assertTrue(executor.getWorkers() <= 4);
+        release.countDown();
+    }
+
+}
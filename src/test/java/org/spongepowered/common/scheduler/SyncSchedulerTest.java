@@ -0,0 +1,129 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.scheduler.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public class SyncSchedulerTest {
+
+    private static final int TASKS = 10000;
+
+    private final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+
+    private ScheduledTask createTask(SyncScheduler scheduler, Consumer<Task> consumer, long delay, long interval) {
+        final ScheduledTask task = new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, consumer, scheduler.nextName(this.plugin),
+                delay, true, interval, true, this.plugin);
+        scheduler.addTask(task);
+        return task;
+    }
+
+    @Test
+    public void testRepeatingTasks() {
+        final SyncScheduler scheduler = new SyncScheduler();
+        final AtomicInteger runs = new AtomicInteger();
+        for (int i = 0; i < TASKS; i++) {
+            // Spread the tasks over the ticks, like per player tasks
+            this.createTask(scheduler, task -> runs.incrementAndGet(), i % 20, 20);
+        }
+
+        for (int tick = 1; tick <= 100; tick++) {
+            scheduler.tick();
+        }
+
+        // Each task first runs after its delay and then every 20 ticks
+        Assert.assertEquals(TASKS * 5, runs.get());
+        Assert.assertEquals(TASKS, scheduler.getScheduledTasks().size());
+    }
+
+    @Test
+    public void testDelayedTasks() {
+        final SyncScheduler scheduler = new SyncScheduler();
+        final AtomicInteger runs = new AtomicInteger();
+        this.createTask(scheduler, task -> runs.incrementAndGet(), 0, 0);
+        this.createTask(scheduler, task -> runs.incrementAndGet(), 3, 0);
+
+        scheduler.tick();
+        Assert.assertEquals(1, runs.get());
+        scheduler.tick();
+        scheduler.tick();
+        Assert.assertEquals(2, runs.get());
+        Assert.assertTrue(scheduler.getScheduledTasks().isEmpty());
+    }
+
+    @Test
+    public void testCancel() {
+        final SyncScheduler scheduler = new SyncScheduler();
+        final AtomicInteger runs = new AtomicInteger();
+        final ScheduledTask delayed = this.createTask(scheduler, task -> runs.incrementAndGet(), 10, 0);
+        this.createTask(scheduler, task -> {
+            if (runs.incrementAndGet() == 2) {
+                task.cancel();
+            }
+        }, 0, 1);
+
+        delayed.cancel();
+        Assert.assertEquals(1, scheduler.getScheduledTasks().size());
+        for (int tick = 0; tick < 20; tick++) {
+            scheduler.tick();
+        }
+        Assert.assertEquals(2, runs.get());
+        Assert.assertTrue(scheduler.getScheduledTasks().isEmpty());
+    }
+
+    @Test
+    public void testWaitingRunsAreNotStartedAgain() {
+        // Never runs what it is given, like an executor whose threads are all blocked
+        final List<Runnable> started = new ArrayList<>();
+        final SyncScheduler scheduler = new SyncScheduler() {
+
+            @Override
+            protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
+                started.add(runnable);
+            }
+        };
+        this.createTask(scheduler, task -> { }, 0, 1);
+
+        for (int tick = 0; tick < 10; tick++) {
+            scheduler.tick();
+        }
+        Assert.assertEquals(1, started.size());
+
+        // Once the run started, the task is due again after its interval
+        started.get(0).run();
+        scheduler.tick();
+        Assert.assertEquals(2, started.size());
+        Assert.assertEquals(1, scheduler.getScheduledTasks().size());
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.permission;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.service.permission.Subject;
+import org.spongepowered.api.service.permission.SubjectData;
+import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.service.permission.base.SpongeSubject;
+
+public class SpongeSubjectCacheTest {
+
+    private static final String PERMISSION = "test.permission";
+
+    @Test
+    public void testParentChangeInvalidatesChild() {
+        final SpongePermissionService service = new SpongePermissionService(Mockito.mock(Game.class));
+        final Subject parent = service.getSubjects("test-groups").get("group");
+        final Subject child = service.getSubjects("test-users").get("user");
+        child.getSubjectData().addParent(SubjectData.GLOBAL_CONTEXT, parent);
+
+        Assert.assertEquals(Tristate.UNDEFINED, child.getPermissionValue(SubjectData.GLOBAL_CONTEXT, PERMISSION));
+        parent.getSubjectData().setPermission(SubjectData.GLOBAL_CONTEXT, PERMISSION, Tristate.TRUE);
+        Assert.assertEquals(Tristate.TRUE, child.getPermissionValue(SubjectData.GLOBAL_CONTEXT, PERMISSION));
+
+        final long hits = SpongeSubject.getPermissionCacheHits();
+        Assert.assertEquals(Tristate.TRUE, child.getPermissionValue(SubjectData.GLOBAL_CONTEXT, PERMISSION));
+        Assert.assertTrue(SpongeSubject.getPermissionCacheHits() > hits);
+
+        parent.getSubjectData().setPermission(SubjectData.GLOBAL_CONTEXT, PERMISSION, Tristate.FALSE);
+        Assert.assertEquals(Tristate.FALSE, child.getPermissionValue(SubjectData.GLOBAL_CONTEXT, PERMISSION));
+    }
+
+    @Test
+    public void testDefaultsChangeInvalidatesSubject() {
+        final SpongePermissionService service = new SpongePermissionService(Mockito.mock(Game.class));
+        final Subject subject = service.getSubjects("test-users").get("user");
+
+        Assert.assertEquals(Tristate.UNDEFINED, subject.getPermissionValue(SubjectData.GLOBAL_CONTEXT, PERMISSION));
+        service.getDefaults().getSubjectData().setPermission(SubjectData.GLOBAL_CONTEXT, PERMISSION, Tristate.TRUE);
+        Assert.assertEquals(Tristate.TRUE, subject.getPermissionValue(SubjectData.GLOBAL_CONTEXT, PERMISSION));
+    }
+
+}